@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
@@ -26,9 +27,10 @@ public class DirectMessageController {
     }
 
     @MessageMapping("/dm-leave/{userId}")
-    public void leaveDmRoom(@DestinationVariable("userId") Long otherUserId, Principal principal) {
+    public void leaveDmRoom(@DestinationVariable("userId") Long otherUserId, Principal principal,
+                            SimpMessageHeaderAccessor headerAccessor) {
         Long userId = Long.valueOf(principal.getName());
-        dmService.leaveRoom(userId, otherUserId);
+        dmService.leaveRoom(headerAccessor.getSessionId(), userId, otherUserId);
         log.info(" DM 방 나가기 - userId: {}, otherUserId: {}", userId, otherUserId);
     }
 
@@ -2,6 +2,7 @@ package com.nect.api.domain.dm.controller;
 
 import com.nect.api.domain.dm.dto.DmMessageListResponse;
 import com.nect.api.domain.dm.dto.DmRoomListResponse;
+import com.nect.api.domain.dm.dto.DmUnreadCountResponse;
 import com.nect.api.domain.dm.service.DmService;
 import com.nect.api.global.response.ApiResponse;
 import com.nect.api.global.security.UserDetailsImpl;
@@ -40,4 +41,12 @@ public class DmQueryController {
         DmRoomListResponse response = dmService.getRooms(userDetails.getUserId(), cursor, size);
         return ApiResponse.ok(response);
     }
+
+    @GetMapping("/unread-count")
+    public ApiResponse<DmUnreadCountResponse> getUnreadCount(
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        DmUnreadCountResponse response = dmService.getUnreadCount(userDetails.getUserId());
+        return ApiResponse.ok(response);
+    }
 }
@@ -28,16 +28,13 @@ public class DmRoomSummaryDto{
     private LocalDate lastMessageAt;
     private Boolean isRead;
 
-    // 로그인한 유저의 userId와 dm을 파리미터로 넣음
-    public static DmRoomSummaryDto fromOtherUser(Long userId, DirectMessage message) {
+    // 로그인한 유저의 userId와 dm, 읽지 않은 메시지가 없는지를 파리미터로 넣음
+    public static DmRoomSummaryDto fromOtherUser(Long userId, DirectMessage message, boolean isRead) {
 
         // 마지막 메시지를 보낸 사람이 누군지
         Long senderId = message.getSender().getUserId();
         User sender = userId.equals(senderId) ? message.getReceiver() : message.getSender();
 
-        // 상대방이 보낸 메시지면 그 메시지를 읽었는지
-        boolean isRead = userId.equals(senderId) || message.getIsRead();
-
         return DmRoomSummaryDto.builder()
                 .otherUserId(sender.getUserId())
                 .otherUserName(sender.getUserId())
@@ -0,0 +1,12 @@
+package com.nect.api.domain.dm.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Builder;
+
+@Builder
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record DmUnreadCountResponse(
+        long totalUnreadCount
+) {
+}
@@ -0,0 +1,52 @@
+package com.nect.api.domain.dm.infra;
+
+import com.nect.api.domain.dm.dto.DirectMessageDto;
+import com.nect.api.global.infra.redis.codec.PayloadReader;
+import com.nect.api.global.infra.redis.codec.PayloadSchema;
+import com.nect.api.global.infra.redis.codec.PayloadWriter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// DM 메시지 바이너리 배치 (필드 순서 변경 금지, 추가는 뒤에)
+@Component
+public class DirectMessagePayloadSchema implements PayloadSchema<DirectMessageDto> {
+
+    public static final int TYPE_ID = 2;
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public Class<DirectMessageDto> type() {
+        return DirectMessageDto.class;
+    }
+
+    @Override
+    public void write(DirectMessageDto message, PayloadWriter writer) {
+        writer.writeLong(message.getMessageId());
+        writer.writeLong(message.getSenderId());
+        writer.writeString(message.getSenderName());
+        writer.writeString(message.getSenderProfileImage());
+        writer.writeString(message.getContent());
+        writer.writeBoolean(message.getIsPinned());
+        writer.writeDateTime(message.getCreatedAt());
+        writer.writeBoolean(message.getIsRead());
+    }
+
+    @Override
+    public DirectMessageDto read(PayloadReader reader) throws IOException {
+        return new DirectMessageDto(
+                reader.readLong(),
+                reader.readLong(),
+                reader.readString(),
+                reader.readString(),
+                reader.readString(),
+                reader.readBoolean(),
+                reader.readDateTime(),
+                reader.readBoolean()
+        );
+    }
+}
@@ -1,6 +1,5 @@
 package com.nect.api.domain.dm.infra;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nect.api.domain.dm.dto.DirectMessageDto;
 import com.nect.api.global.infra.redis.RedisMessageHandler;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +10,7 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class DmRedisMessageHandler implements RedisMessageHandler {
+public class DmRedisMessageHandler implements RedisMessageHandler<DirectMessageDto> {
     private static final String CHANNEL_PREFIX = "dm:";
 
     @Override
@@ -20,11 +19,15 @@ public class DmRedisMessageHandler implements RedisMessageHandler {
     }
 
     @Override
-    public void handle(String channel, String payload, ObjectMapper objectMapper, SimpMessageSendingOperations messagingTemplate) throws Exception {
-        DirectMessageDto dmMessage = objectMapper.readValue(payload, DirectMessageDto.class);
+    public Class<DirectMessageDto> payloadType() {
+        return DirectMessageDto.class;
+    }
+
+    @Override
+    public void handle(String channel, DirectMessageDto dmMessage, SimpMessageSendingOperations messagingTemplate) {
         String channelId = channel.substring(CHANNEL_PREFIX.length());
         String destination = "/topic/dm/" + channelId;
         messagingTemplate.convertAndSend(destination, dmMessage);
-        log.info(" WebSocket 전송 완료 - Destination: {}", destination);
+        log.debug(" WebSocket 전송 완료 - Destination: {}", destination);
     }
 }
@@ -0,0 +1,180 @@
+package com.nect.api.domain.dm.infra;
+
+import com.nect.core.repository.dm.DmConversationRepository;
+import com.nect.core.repository.dm.DmConversationRepository.UnreadRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 DM 읽지 않은 수의 Redis 사본.
+ * 받는 사용자마다 해시(dm:unread:{receiverId})에 보낸 사용자별 읽지 않은 수를 두고, 전송 시 증가/읽음 시 삭제합니다.
+ * 해시는 dm_conversation에서 한 번 적재한 뒤(_loaded 필드)부터 사용하며, 적재 전 증가는 무시합니다.
+ * 변경된 사용자는 재계산 대상 집합에 넣어 두고 스케줄러가 direct_message 기준으로 보정합니다.
+ */
+@Component
+@Slf4j
+public class DmUnreadCounter {
+
+    private static final String KEY_PREFIX = "dm:unread:";
+    private static final String RECONCILE_KEY = "dm:unread-reconcile";
+    private static final String LOADED_FIELD = "_loaded";
+
+    // KEYS: 사용자 해시, 재계산 대상 집합 / ARGV: senderId, receiverId, ttlSeconds
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SADD', KEYS[2], ARGV[2])
+            if redis.call('HEXISTS', KEYS[1], '_loaded') == 0 then
+              return -1
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            """, Long.class);
+
+    // KEYS: 사용자 해시 / ARGV: ttlSeconds, field1, value1, ... (삭제와 적재 사이에 증가가 끼어들지 않도록 한 번에 교체)
+    private static final DefaultRedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            for i = 2, #ARGV, 2 do
+              redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DmConversationRepository dmConversationRepository;
+    private final Duration ttl;
+
+    public DmUnreadCounter(RedisTemplate<String, String> redisTemplate,
+                           DmConversationRepository dmConversationRepository,
+                           @Value("${dm.unread.ttl-days:30}") long ttlDays) {
+        this.redisTemplate = redisTemplate;
+        this.dmConversationRepository = dmConversationRepository;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    public void increment(Long receiverId, Long senderId) {
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, List.of(key(receiverId), RECONCILE_KEY),
+                    senderId.toString(), receiverId.toString(), Long.toString(ttl.toSeconds()));
+        } catch (RuntimeException e) {
+            log.warn("DM 읽지 않은 수 증가 실패 - receiverId: {}, senderId: {}", receiverId, senderId, e);
+        }
+    }
+
+    public void reset(Long receiverId, Long senderId) {
+        try {
+            redisTemplate.opsForHash().delete(key(receiverId), senderId.toString());
+            redisTemplate.opsForSet().add(RECONCILE_KEY, receiverId.toString());
+        } catch (RuntimeException e) {
+            log.warn("DM 읽지 않은 수 초기화 실패 - receiverId: {}, senderId: {}", receiverId, senderId, e);
+        }
+    }
+
+    // 적재된 사본 기준 senderId가 보낸 읽지 않은 메시지 수 (적재 전이거나 Redis를 사용할 수 없으면 null, 여기서 적재하지 않음)
+    public Long loadedUnreadFrom(Long receiverId, Long senderId) {
+        List<Object> values;
+        try {
+            values = redisTemplate.opsForHash().multiGet(key(receiverId), List.of(LOADED_FIELD, senderId.toString()));
+        } catch (RuntimeException e) {
+            log.warn("DM 읽지 않은 수 조회 실패 - receiverId: {}, senderId: {}", receiverId, senderId, e);
+            return null;
+        }
+        if (values == null || values.size() < 2 || values.get(0) == null) {
+            return null;
+        }
+        return values.get(1) == null ? 0L : Long.parseLong(values.get(1).toString());
+    }
+
+    // 보낸 사용자별 읽지 않은 수 (0 제외, Redis를 사용할 수 없으면 null)
+    public Map<Long, Long> unreadCounts(Long receiverId) {
+        Map<Object, Object> entries;
+        try {
+            entries = redisTemplate.opsForHash().entries(key(receiverId));
+        } catch (RuntimeException e) {
+            log.warn("DM 읽지 않은 수 조회 실패 - receiverId: {}", receiverId, e);
+            return null;
+        }
+
+        if (!entries.containsKey(LOADED_FIELD)) {
+            return load(receiverId);
+        }
+
+        Map<Long, Long> counts = new HashMap<>();
+        entries.forEach((field, value) -> {
+            if (!LOADED_FIELD.equals(field)) {
+                long count = Long.parseLong(value.toString());
+                if (count > 0) {
+                    counts.put(Long.valueOf(field.toString()), count);
+                }
+            }
+        });
+        return counts;
+    }
+
+    public long totalUnread(Long receiverId) {
+        Map<Long, Long> counts = unreadCounts(receiverId);
+        if (counts == null) {
+            return dmConversationRepository.findUnreadRowsByUserId(receiverId).stream()
+                    .mapToLong(UnreadRow::getUnreadCount)
+                    .sum();
+        }
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    // 보정된 값으로 해시 전체 교체 (원자적)
+    public void replace(Long receiverId, Map<Long, Long> counts) {
+        List<String> args = new ArrayList<>(counts.size() * 2 + 3);
+        args.add(Long.toString(ttl.toSeconds()));
+        counts.forEach((senderId, count) -> {
+            if (count > 0) {
+                args.add(senderId.toString());
+                args.add(count.toString());
+            }
+        });
+        args.add(LOADED_FIELD);
+        args.add("1");
+
+        redisTemplate.execute(REPLACE_SCRIPT, List.of(key(receiverId)), args.toArray());
+    }
+
+    // 재계산 대상 사용자 최대 maxUsers명 (SPOP이므로 노드 간 중복 없음)
+    public List<Long> popReconcileTargets(int maxUsers) {
+        List<String> userIds = redisTemplate.opsForSet().pop(RECONCILE_KEY, maxUsers);
+        List<Long> targets = new ArrayList<>();
+        if (userIds != null) {
+            userIds.forEach(userId -> targets.add(Long.valueOf(userId)));
+        }
+        return targets;
+    }
+
+    public void requeue(Long receiverId) {
+        redisTemplate.opsForSet().add(RECONCILE_KEY, receiverId.toString());
+    }
+
+    // dm_conversation의 읽지 않은 수로 해시 적재
+    private Map<Long, Long> load(Long receiverId) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (UnreadRow row : dmConversationRepository.findUnreadRowsByUserId(receiverId)) {
+            counts.put(row.getSenderId(), row.getUnreadCount().longValue());
+        }
+
+        try {
+            replace(receiverId, counts);
+        } catch (RuntimeException e) {
+            log.warn("DM 읽지 않은 수 적재 실패 - receiverId: {}", receiverId, e);
+        }
+        return counts;
+    }
+
+    private static String key(Long receiverId) {
+        return KEY_PREFIX + receiverId;
+    }
+}
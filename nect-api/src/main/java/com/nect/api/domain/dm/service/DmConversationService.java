@@ -0,0 +1,170 @@
+package com.nect.api.domain.dm.service;
+
+import com.nect.core.entity.dm.DirectMessage;
+import com.nect.core.entity.dm.DmConversation;
+import com.nect.core.repository.dm.DmConversationRepository;
+import com.nect.core.repository.dm.DmConversationRepository.UnreadRow;
+import com.nect.core.repository.dm.DmRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DM 대화 목록용 요약(dm_conversation)을 관리합니다.
+ * 메시지 전송, 읽음 처리와 같은 트랜잭션 안에서 호출됩니다.
+ */
+@Service
+@Slf4j
+public class DmConversationService {
+
+    private static final int MAX_BACKFILL_ATTEMPTS = 3;
+
+    private final DmConversationRepository dmConversationRepository;
+    private final DmRepository dmRepository;
+    private final TransactionTemplate requiresNew;
+    private final long backfillChunkSize;
+
+    public DmConversationService(DmConversationRepository dmConversationRepository,
+                                 DmRepository dmRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${dm.conversation.backfill-chunk-size:10000}") long backfillChunkSize) {
+        this.dmConversationRepository = dmConversationRepository;
+        this.dmRepository = dmRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.backfillChunkSize = backfillChunkSize;
+    }
+
+    // 새 메시지 반영 (읽지 않은 상태면 받는 쪽 카운트 증가)
+    @Transactional
+    public void applyMessage(DirectMessage message) {
+        Long senderId = message.getSender().getUserId();
+        Long receiverId = message.getReceiver().getUserId();
+        long low = Math.min(senderId, receiverId);
+        long high = Math.max(senderId, receiverId);
+
+        boolean unread = !Boolean.TRUE.equals(message.getIsRead());
+        int lowUnread = unread && receiverId == low ? 1 : 0;
+        int highUnread = unread && receiverId == high ? 1 : 0;
+
+        int updated = dmConversationRepository.applyMessage(
+                low, high, message.getId(), message.getCreatedAt(), lowUnread, highUnread);
+
+        if (updated == 0) {
+            createIfAbsent(low, high);
+            dmConversationRepository.applyMessage(
+                    low, high, message.getId(), message.getCreatedAt(), lowUnread, highUnread);
+        }
+    }
+
+    // readerId가 otherUserId와의 대화를 모두 읽음
+    @Transactional
+    public void markRead(Long readerId, Long otherUserId) {
+        dmConversationRepository.updateUnread(
+                Math.min(readerId, otherUserId), Math.max(readerId, otherUserId), readerId, 0);
+    }
+
+    /**
+     * direct_message 기준으로 receiverId의 대화별 읽지 않은 수를 다시 계산해 다른 값만 고치고,
+     * 보낸 사용자별 읽지 않은 수를 반환합니다.
+     */
+    @Transactional
+    public Map<Long, Long> reconcileUnread(Long receiverId) {
+        Map<Long, Long> actual = new HashMap<>();
+        for (DmRepository.UnreadCountRow row : dmRepository.countUnreadBySender(receiverId)) {
+            actual.put(row.getSenderId(), row.getUnreadCount());
+        }
+
+        Map<Long, Long> stored = new HashMap<>();
+        for (UnreadRow row : dmConversationRepository.findUnreadRowsByUserId(receiverId)) {
+            stored.put(row.getSenderId(), row.getUnreadCount().longValue());
+        }
+
+        Set<Long> senderIds = new HashSet<>(actual.keySet());
+        senderIds.addAll(stored.keySet());
+        for (Long senderId : senderIds) {
+            long count = actual.getOrDefault(senderId, 0L);
+            if (count != stored.getOrDefault(senderId, 0L)) {
+                dmConversationRepository.updateUnread(
+                        Math.min(receiverId, senderId), Math.max(receiverId, senderId), receiverId, (int) count);
+            }
+        }
+        return actual;
+    }
+
+    /**
+     * 마지막 메시지 ID 내림차순 대화 목록 (cursor 미만).
+     * 사용자가 작은 쪽/큰 쪽인 대화를 각각 인덱스로 size개씩 읽어 합칩니다.
+     */
+    @Transactional(readOnly = true)
+    public List<DmConversation> findPage(Long userId, Long cursor, int size) {
+        PageRequest page = PageRequest.of(0, size);
+
+        List<DmConversation> conversations = new ArrayList<>(size * 2);
+        conversations.addAll(dmConversationRepository.findPageAsLowUser(userId, cursor, page));
+        conversations.addAll(dmConversationRepository.findPageAsHighUser(userId, cursor, page));
+
+        // 자기 자신과의 대화는 양쪽 조회에 모두 포함됨
+        return conversations.stream()
+                .distinct()
+                .sorted(Comparator.comparing(DmConversation::getLastMessageId).reversed())
+                .limit(size)
+                .toList();
+    }
+
+    /**
+     * 요약 테이블 도입 이전 대화 채우기.
+     * direct_message를 id 구간(backfillChunkSize)으로 나눠 구간마다 별도 트랜잭션에서 실행하며,
+     * 새 메시지가 같은 쌍을 먼저 만들어 충돌하면 그 구간만 다시 시도합니다. (없는 쌍만 추가하므로 중단 후 재실행해도 안전)
+     */
+    public int backfillMissing() {
+        long maxId = dmRepository.findMaxId();
+        int created = 0;
+        for (long fromId = 0; fromId < maxId; fromId += backfillChunkSize) {
+            long toId = Math.min(fromId + backfillChunkSize, maxId);
+            created += backfillChunk(fromId, toId);
+        }
+        return created;
+    }
+
+    private int backfillChunk(long fromId, long toId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Integer created = requiresNew.execute(status -> dmConversationRepository.backfillMissing(fromId, toId));
+                return created == null ? 0 : created;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_BACKFILL_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("DmConversation backfill 충돌 - fromId: {}, toId: {}, attempt: {}", fromId, toId, attempt);
+            }
+        }
+    }
+
+    // 동시에 첫 메시지를 보내는 경우를 위해 별도 트랜잭션에서 생성하고 중복은 무시
+    private void createIfAbsent(long low, long high) {
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                if (!dmConversationRepository.existsByUserLowIdAndUserHighId(low, high)) {
+                    dmConversationRepository.saveAndFlush(new DmConversation(low, high));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("DM 대화 요약 동시 생성 - low: {}, high: {}", low, high);
+        }
+    }
+}
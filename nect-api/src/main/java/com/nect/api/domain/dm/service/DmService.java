@@ -4,10 +4,14 @@ import com.nect.api.domain.dm.dto.DirectMessageDto;
 import com.nect.api.domain.dm.dto.DmMessageListResponse;
 import com.nect.api.domain.dm.dto.DmRoomListResponse;
 import com.nect.api.domain.dm.dto.DmRoomSummaryDto;
+import com.nect.api.domain.dm.dto.DmUnreadCountResponse;
 import com.nect.api.domain.dm.infra.DmRedisPublisher;
+import com.nect.api.domain.dm.infra.DmUnreadCounter;
 import com.nect.api.domain.user.exception.UserNotFoundException;
 import com.nect.api.global.infra.S3Service;
+import com.nect.api.global.infra.presence.PresenceService;
 import com.nect.core.entity.dm.DirectMessage;
+import com.nect.core.entity.dm.DmConversation;
 import com.nect.core.entity.user.User;
 import com.nect.core.repository.dm.DmRepository;
 import com.nect.core.repository.user.UserRepository;
@@ -16,19 +20,26 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class DmService {
 
     private final DmRepository dmRepository;
+    private final DmConversationService dmConversationService;
     private final UserRepository userRepository;
     private final UserRoleRepository userRoleRepository;
     private final DmRedisPublisher dmRedisPublisher;
-    private final DmPresenceRegistry dmPresenceRegistry;
+    private final DmUnreadCounter dmUnreadCounter;
+    private final PresenceService presenceService;
     private final S3Service s3Service;
 
     @Transactional
@@ -40,7 +51,7 @@ public class DmService {
 
         // 채팅방 정보
         String roomId = buildChannelId(senderId, receiverId);
-        boolean isRead = dmPresenceRegistry.bothPresent(roomId, senderId, receiverId);
+        boolean isRead = presenceService.allPresent(PresenceService.dmRoom(roomId), senderId, receiverId);
 
         // DM 생성
         DirectMessage message = DirectMessage.builder()
@@ -52,6 +63,10 @@ public class DmService {
 
         // DM 저장
         DirectMessage saved = dmRepository.save(message);
+        dmConversationService.applyMessage(saved);
+        if (!isRead) {
+            afterCommit(() -> dmUnreadCounter.increment(receiverId, senderId));
+        }
 
         // DM -> DTO
         DirectMessageDto dto = DirectMessageDto.fromDm(saved);
@@ -70,12 +85,15 @@ public class DmService {
         userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
         userRepository.findById(otherUserId).orElseThrow(UserNotFoundException::new);
 
-        // 채팅방 정보
-        String roomId = buildChannelId(userId, otherUserId);
-        dmPresenceRegistry.enter(roomId, userId);
+        // 방 접속 정보는 STOMP 구독(/topic/dm/{roomId})으로만 기록하므로 여기서는 입장 처리하지 않음
 
-        // 채팅방 채팅 읽음처리
-        dmRepository.markAsRead(userId, otherUserId, null);
+        // 채팅방 채팅 읽음처리 (적재된 Redis 사본에 이 상대가 보낸 읽지 않은 메시지가 없으면 생략, 적재 전이면 UPDATE)
+        Long unreadCount = dmUnreadCounter.loadedUnreadFrom(userId, otherUserId);
+        if (unreadCount == null || unreadCount > 0) {
+            dmRepository.markAsRead(userId, otherUserId, null);
+            dmConversationService.markRead(userId, otherUserId);
+            afterCommit(() -> dmUnreadCounter.reset(userId, otherUserId));
+        }
 
         int safeSize = Math.max(1, size);
 
@@ -114,16 +132,32 @@ public class DmService {
         userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
         int safeSize = Math.max(1, size);
 
-        // 각 개인 채팅에 대한 마지막 메시지
-        List<DirectMessage> latest = dmRepository.findLatestMessagesByUser(userId, cursor, PageRequest.of(0, safeSize));
+        // 마지막 메시지 순 대화 목록 (요약 테이블 인덱스 조회)
+        List<DmConversation> conversations = dmConversationService.findPage(userId, cursor, safeSize);
 
         // 채팅룸 커서 정보
-        Long nextCursor = (latest.size() == safeSize) ? latest.getLast().getId() : null;
+        Long nextCursor = (conversations.size() == safeSize) ? conversations.getLast().getLastMessageId() : null;
+
+        if (conversations.isEmpty()) {
+            return DmRoomListResponse.builder()
+                    .messages(List.of())
+                    .nextCursor(null)
+                    .build();
+        }
+
+        // 마지막 메시지 일괄 조회
+        Map<Long, DirectMessage> lastMessages = dmRepository.findAllWithUsersByIdIn(
+                        conversations.stream().map(DmConversation::getLastMessageId).toList())
+                .stream()
+                .collect(Collectors.toMap(DirectMessage::getId, Function.identity()));
 
         // List<DM> -> List<DTO>
-        List<DmRoomSummaryDto> messages = latest.stream()
-                .map(message -> {
-                    DmRoomSummaryDto dto = DmRoomSummaryDto.fromOtherUser(userId, message);
+        List<DmRoomSummaryDto> messages = conversations.stream()
+                .filter(conversation -> lastMessages.containsKey(conversation.getLastMessageId()))
+                .map(conversation -> {
+                    DirectMessage message = lastMessages.get(conversation.getLastMessageId());
+                    DmRoomSummaryDto dto = DmRoomSummaryDto.fromOtherUser(
+                            userId, message, conversation.unreadCountOf(userId) == 0);
                     dto.setImageUrl(s3Service.getPresignedGetUrl(message.getSender().getProfileImageName()));
                     return dto;
                 })
@@ -136,14 +170,34 @@ public class DmService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public DmUnreadCountResponse getUnreadCount(Long userId) {
+        return DmUnreadCountResponse.builder()
+                .totalUnreadCount(dmUnreadCounter.totalUnread(userId))
+                .build();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     private String buildChannelId(Long senderId, Long receiverId) {
         long a = Math.min(senderId, receiverId);
         long b = Math.max(senderId, receiverId);
         return a + "_" + b;
     }
 
-    public void leaveRoom(Long userId, Long otherUserId) {
+    public void leaveRoom(String sessionId, Long userId, Long otherUserId) {
         String roomId = buildChannelId(userId, otherUserId);
-        dmPresenceRegistry.leave(roomId, userId);
+        presenceService.leave(sessionId, PresenceService.dmRoom(roomId));
     }
 }
@@ -6,13 +6,17 @@ import com.nect.api.domain.mypage.dto.ProfileSettingsDto;
 import com.nect.api.domain.mypage.dto.ProfileSettingsDto.*;
 import com.nect.api.domain.mypage.exception.InvalidUserStatusException;
 import com.nect.api.domain.mypage.exception.UserNotFoundException;
+import com.nect.api.domain.team.chat.infra.ChatMessageTailCache;
 import com.nect.api.global.infra.S3Service;
 import com.nect.core.entity.user.*;
 import com.nect.core.entity.user.enums.*;
+import com.nect.core.repository.team.chat.ChatRoomUserRepository;
 import com.nect.core.repository.user.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -30,6 +34,8 @@ public class MypageService {
     private final UserProfileAnalysisRepository userProfileAnalysisRepository;
     private final ObjectMapper objectMapper;
     private final S3Service s3Service;
+    private final ChatRoomUserRepository chatRoomUserRepository;
+    private final ChatMessageTailCache chatMessageTailCache;
 
     @Transactional(readOnly = true)
     public ProfileSettingsResponseDto getProfile(Long userId) {
@@ -151,8 +157,13 @@ public class MypageService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
 
-        if (request.profileImageUrl() != null) {
+        if (request.profileImageUrl() != null && !request.profileImageUrl().equals(user.getProfileImageName())) {
             user.setProfileImageName(request.profileImageUrl());
+
+            // 커밋 후 캐시된 채팅 메시지의 프로필 이미지 갱신
+            List<Long> chatRoomIds = chatRoomUserRepository.findChatRoomIdsByUserId(userId);
+            String profileImage = request.profileImageUrl();
+            afterCommit(() -> chatMessageTailCache.recordProfileImage(chatRoomIds, userId, profileImage));
         }
         if (request.bio() != null) {
             user.setBio(request.bio());
@@ -276,4 +287,17 @@ public class MypageService {
             throw new InvalidUserStatusException("유효하지 않은 사용자 상태입니다: " + userStatusStr);
         }
     }
-}
\ No newline at end of file
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -2,6 +2,7 @@ package com.nect.api.domain.notifications.controller;
 
 import com.nect.api.domain.notifications.enums.code.NotificationSearchFilter;
 import com.nect.api.global.response.ApiResponse;
+import com.nect.api.domain.notifications.dto.NotificationBadgeResponse;
 import com.nect.api.domain.notifications.dto.NotificationListResponse;
 import com.nect.api.domain.notifications.service.NotificationDispatchService;
 import com.nect.api.domain.notifications.service.NotificationService;
@@ -12,6 +13,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -38,12 +41,16 @@ public class NotificationController {
      *
      * - SSE 연결을 생성하고 유지합니다.
      * - 연결 성공 시 "connect" 이벤트를 수신합니다.
+     * - 재접속 시 Last-Event-ID 헤더가 있으면 그 이후의 알림을 재전송합니다.
      *
      * @return SseEmitter
      */
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return dispatchService.subscribe(userDetails.getUserId());
+    public SseEmitter subscribe(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return dispatchService.subscribe(userDetails.getUserId(), lastEventId);
     }
 
     /**
@@ -61,4 +68,28 @@ public class NotificationController {
         return ApiResponse.ok(response);
     }
 
+    /**
+     * 읽지 않은 알림 수 조회 (뱃지)
+     * 범위(scope)별 수와 전체 수를 반환합니다.
+     */
+    @GetMapping("/badge")
+    public ApiResponse<NotificationBadgeResponse> badge(
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        return ApiResponse.ok(notificationService.getBadge(userDetails.getUserId()));
+    }
+
+    /**
+     * 알림 읽음 처리
+     * filter 범위의 읽지 않은 알림을 모두 읽음 처리합니다.
+     */
+    @PatchMapping("/read")
+    public ApiResponse<Void> markAllAsRead(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam("filter") NotificationSearchFilter filter
+    ) {
+        notificationService.markAllAsRead(userDetails.getUserId(), filter);
+        return ApiResponse.ok();
+    }
+
 }
@@ -0,0 +1,38 @@
+package com.nect.api.domain.notifications.dto;
+
+import com.nect.core.entity.notifications.enums.NotificationScope;
+import lombok.Builder;
+
+import java.util.Map;
+
+/**
+ *
+ * 알림 뱃지 표시용 읽지 않은 알림 수입니다.
+ *
+ * @param mainHome 메인화면 알림 (MAIN_HOME)
+ * @param workspaceOnly 작업실 전용 알림 (WORKSPACE_ONLY)
+ * @param workspaceGlobal 작업실 + 메인화면 알림 (WORKSPACE_GLOBAL)
+ * @param total 전체
+ *
+ */
+@Builder
+public record NotificationBadgeResponse(
+        long mainHome,
+        long workspaceOnly,
+        long workspaceGlobal,
+        long total
+) {
+
+    public static NotificationBadgeResponse from(Map<NotificationScope, Long> counts) {
+        long mainHome = counts.getOrDefault(NotificationScope.MAIN_HOME, 0L);
+        long workspaceOnly = counts.getOrDefault(NotificationScope.WORKSPACE_ONLY, 0L);
+        long workspaceGlobal = counts.getOrDefault(NotificationScope.WORKSPACE_GLOBAL, 0L);
+
+        return NotificationBadgeResponse.builder()
+                .mainHome(mainHome)
+                .workspaceOnly(workspaceOnly)
+                .workspaceGlobal(workspaceGlobal)
+                .total(mainHome + workspaceOnly + workspaceGlobal)
+                .build();
+    }
+}
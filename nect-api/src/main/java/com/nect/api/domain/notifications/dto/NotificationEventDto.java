@@ -0,0 +1,18 @@
+package com.nect.api.domain.notifications.dto;
+
+/**
+ * 노드 간 실시간 알림 전달용 메시지입니다.
+ * 수신자는 Redis 채널(notification:{receiverId})로 구분하고, 각 노드는 자기 SSE 연결에만 전송합니다.
+ *
+ * @param eventName SSE 이벤트 이름 (알림 scope별)
+ * @param eventId SSE 이벤트 id
+ * @param notification 전송할 알림 응답
+ */
+public record NotificationEventDto(
+
+        String eventName,
+        String eventId,
+        NotificationResponse notification
+
+) {
+}
@@ -16,6 +16,8 @@ import java.time.format.DateTimeFormatter;
  * @param classification 분류명
  * @param type 알림 유형 - 알림 메시지 포맷을 담습니다.
  * @param scope 알림 대상 - 알림 받는 화면입니다.
+ * @param isRead 읽음 여부
+ * @param count 합쳐진 같은 알림 수 (짧은 시간 안에 반복된 언급, 피드백, 미션 수정 등은 하나로 합쳐집니다)
  *
  */
 public record NotificationResponse(
@@ -29,7 +31,8 @@ public record NotificationResponse(
         String classification,
         String type,
         String scope,
-        Boolean isRead
+        Boolean isRead,
+        Integer count
 
 ) {
 
@@ -48,7 +51,8 @@ public record NotificationResponse(
                 notification.getClassification().getClassifyKr(),
                 notification.getType().name(),
                 notification.getScope().name(),
-                notification.getIsRead()
+                notification.getIsRead(),
+                notification.getCoalescedCount()
         );
     }
 
@@ -20,7 +20,8 @@ public enum NotificationErrorCode implements ResponseCode {
     // 비즈니스 차원
     NOTIFICATION_LENGTH_EXCEED("N006", "알림 내용 길이가 초과했습니다. 관리자에게 문의해주세요"),
     INVALID_NOTIFICATION_MESSAGE_FORMAT("N007", "알림 메시지 형식이 올바르지 않습니다"),
-    NOTIFICATION_CONTENT_NOT_SUPPORTED("N008", "해당 알림은 상세 내용을 지원하지 않습니다");
+    NOTIFICATION_CONTENT_NOT_SUPPORTED("N008", "해당 알림은 상세 내용을 지원하지 않습니다"),
+    SSE_CONNECTION_LIMIT_EXCEEDED("N009", "실시간 알림 연결 수가 초과했습니다. 잠시 후 다시 시도해주세요");
     ;
 
     private final String statusCode;
@@ -1,6 +1,7 @@
 package com.nect.api.domain.notifications.facade;
 
 import com.nect.api.domain.notifications.command.NotificationCommand;
+import com.nect.api.domain.notifications.infra.NotificationCoalescer;
 import com.nect.api.domain.notifications.service.NotificationDispatchService;
 import com.nect.api.domain.notifications.service.NotificationService;
 import com.nect.core.entity.notifications.Notification;
@@ -9,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -29,19 +31,57 @@ public class NotificationFacade {
 
     private final NotificationService notificationService;
     private final NotificationDispatchService dispatchService;
+    private final NotificationCoalescer notificationCoalescer;
 
     // 여러 유저에 대해 알림 전송
     @Transactional(readOnly = false)
     public void notify(List<User> receivers, NotificationCommand command) {
 
+        // 반복되기 쉬운 알림은 바로 저장/전송하되, 같은 알림이 이어지면 한 건으로 합치고 반복분 전송은 일정 시간 뒤 한 번만
+        if (command != null && receivers != null && !receivers.isEmpty() && notificationCoalescer.supports(command)) {
+            notifyCoalescing(receivers, command);
+            return;
+        }
+
         // 알림 객체 생성
         List<Notification> notifications = notificationService.createForUsers(receivers, command);
 
-        // 알림 전송
+        // 알림 전송 (커밋 이후 연결별 큐에 적재, 전송 완료를 기다리지 않음)
         notifications.forEach(dispatchService::send);
 
     }
 
+    // 합치기 기간 동안 갱신된 알림 전송 (NotificationCoalesceScheduler에서 호출)
+    @Transactional(readOnly = false)
+    public void notifyCoalesced(List<NotificationCoalescer.Window> windows) {
+
+        List<Long> notificationIds = windows.stream()
+                .flatMap(window -> window.updatedIds().stream())
+                .toList();
+
+        notificationService.findAllByIds(notificationIds).forEach(dispatchService::send);
+
+    }
+
+    private void notifyCoalescing(List<User> receivers, NotificationCommand command) {
+        List<User> newReceivers = new ArrayList<>();
+        for (User receiver : receivers) {
+            Long openId = notificationCoalescer.openNotificationId(receiver.getUserId(), command);
+            if (openId != null && notificationService.mergeCoalesced(openId, receiver, command)) {
+                notificationCoalescer.markUpdated(receiver.getUserId(), command, openId);
+            } else {
+                newReceivers.add(receiver);
+            }
+        }
+
+        if (!newReceivers.isEmpty()) {
+            // 묶음의 첫 알림은 바로 전송
+            List<Notification> notifications = notificationService.createForUsers(newReceivers, command);
+            notifications.forEach(dispatchService::send);
+            notificationCoalescer.open(notifications);
+        }
+    }
+
     // 단일 유저에게 알림 전송
     @Transactional(readOnly = false)
     public void notify(User receiver, NotificationCommand command) {
@@ -0,0 +1,114 @@
+package com.nect.api.domain.notifications.infra;
+
+import com.nect.core.entity.notifications.Notification;
+import com.nect.core.repository.notifications.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 수신자의 알림을 JDBC 배치 INSERT 한 번으로 저장합니다.
+ * Notification은 IDENTITY 전략이라 saveAll이 수신자마다 INSERT를 따로 보내므로,
+ * 배치 INSERT 후 생성된 id(generated keys)로 엔티티를 한 번에 다시 조회합니다.
+ * (H2, PostgreSQL 모두 배치 generated keys를 지원)
+ *
+ * 호출한 트랜잭션의 커넥션을 그대로 사용하므로 롤백 시 함께 취소됩니다.
+ */
+@Component
+@Slf4j
+public class NotificationBulkWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification (target_id, type, classification, scope, is_read, main_message, content_message, " +
+            "coalesced_count, user_id, project_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationRepository notificationRepository;
+    private final int batchSize;
+
+    public NotificationBulkWriter(JdbcTemplate jdbcTemplate,
+                                  NotificationRepository notificationRepository,
+                                  @Value("${notification.bulk-insert.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.notificationRepository = notificationRepository;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    // 저장된 알림 (id 오름차순 = 입력 순서)
+    public List<Notification> insertAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+
+        // 같은 트랜잭션에서 아직 flush되지 않은 수신자/프로젝트 변경이 있으면 먼저 반영
+        notificationRepository.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = new ArrayList<>(notifications.size());
+        for (int from = 0; from < notifications.size(); from += batchSize) {
+            ids.addAll(insertChunk(notifications.subList(from, Math.min(from + batchSize, notifications.size())), now));
+        }
+
+        List<Notification> saved = new ArrayList<>(notificationRepository.findAllById(ids));
+        saved.sort(Comparator.comparing(Notification::getId));
+        log.debug("알림 배치 저장 - count: {}", saved.size());
+        return saved;
+    }
+
+    private List<Long> insertChunk(List<Notification> chunk, LocalDateTime now) {
+        Timestamp createdAt = Timestamp.valueOf(now);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Notification notification = chunk.get(i);
+                        ps.setLong(1, notification.getTargetId());
+                        ps.setString(2, notification.getType().name());
+                        ps.setString(3, notification.getClassification().name());
+                        ps.setString(4, notification.getScope().name());
+                        ps.setBoolean(5, notification.getIsRead());
+                        ps.setString(6, notification.getMainMessage());
+                        ps.setString(7, notification.getContentMessage());
+                        ps.setInt(8, notification.getCoalescedCount());
+                        ps.setLong(9, notification.getReceiver().getUserId());
+                        if (notification.getProject() != null) {
+                            ps.setLong(10, notification.getProject().getId());
+                        } else {
+                            ps.setNull(10, Types.BIGINT);
+                        }
+                        ps.setTimestamp(11, createdAt);
+                        ps.setTimestamp(12, createdAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+}
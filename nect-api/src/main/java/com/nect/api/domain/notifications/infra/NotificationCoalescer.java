@@ -0,0 +1,143 @@
+package com.nect.api.domain.notifications.infra;
+
+import com.nect.api.domain.notifications.command.NotificationCommand;
+import com.nect.core.entity.notifications.Notification;
+import com.nect.core.entity.notifications.enums.NotificationType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 짧은 시간에 반복되는 같은 알림(반복 언급, 피드백 수정, 미션 수정 등)을 하나로 합칩니다.
+ * (수신자, 타입, 대상) 별로 첫 알림은 바로 저장/전송하고, window 동안 들어온 같은 알림은 그 행의 수와 내용만 갱신합니다.
+ * 갱신된 알림의 실시간 전송(SSE)만 window가 끝날 때 한 번 하므로, 반복이 없으면 추가 전송도 없습니다.
+ *
+ * 묶음은 호출한 트랜잭션이 커밋된 뒤에 열고, NotificationCoalesceScheduler가 기간이 지난 묶음의 갱신분을 전송합니다.
+ * 노드가 죽어 묶음을 잃어도 알림은 이미 저장되어 있어 목록 조회로 확인할 수 있습니다.
+ * 대기 중인 묶음이 maxPending을 넘으면 합치지 않고 바로 저장/전송합니다.
+ *
+ * 묶음은 노드 로컬입니다. 같은 알림이 여러 노드에서 만들어지면 노드마다 따로 묶으므로,
+ * 한 window 동안 최대 노드 수만큼의 알림 행과 즉시 전송이 생길 수 있습니다.
+ */
+@Component
+public class NotificationCoalescer {
+
+    private final long windowMillis;
+    private final int maxPending;
+    private final Set<NotificationType> types;
+
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+
+    public NotificationCoalescer(@Value("${notification.coalesce.window-ms:10000}") long windowMillis,
+                                 @Value("${notification.coalesce.max-pending:10000}") int maxPending,
+                                 @Value("${notification.coalesce.types:WORKSPACE_MENTIONED,WORKSPACE_TASK_FEEDBACK,WORKSPACE_MISSION_UPDATED}")
+                                 NotificationType[] types) {
+        this.windowMillis = windowMillis;
+        this.maxPending = maxPending;
+        this.types = types.length == 0 ? EnumSet.noneOf(NotificationType.class) : EnumSet.copyOf(List.of(types));
+    }
+
+    public boolean supports(NotificationCommand command) {
+        return windowMillis > 0 && types.contains(command.type()) && windows.size() < maxPending;
+    }
+
+    // 아직 열려 있는 묶음의 알림 id (없으면 null)
+    public Long openNotificationId(Long receiverId, NotificationCommand command) {
+        Window window = windows.get(new Key(receiverId, command.type(), command.targetId()));
+        if (window == null || window.dueAt() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return window.notificationIds().get(0);
+    }
+
+    // 새로 저장한 알림(이미 전송됨)으로 커밋 이후 묶음 열기 (롤백되면 버려짐)
+    public void open(List<Notification> notifications) {
+        afterCommit(() -> notifications.forEach(notification -> {
+            Key key = new Key(notification.getReceiver().getUserId(), notification.getType(), notification.getTargetId());
+            long dueAt = System.currentTimeMillis() + windowMillis;
+            windows.merge(key, new Window(key, List.of(notification.getId()), List.of(), dueAt), Window::join);
+        }));
+    }
+
+    // 열린 묶음의 알림에 반복 알림을 합친 뒤, 커밋 이후 window가 끝날 때 전송하도록 기록
+    // (그 사이 묶음이 이미 닫혔으면 다음 차례에 바로 전송)
+    public void markUpdated(Long receiverId, NotificationCommand command, Long notificationId) {
+        Key key = new Key(receiverId, command.type(), command.targetId());
+        afterCommit(() -> windows.compute(key, (k, window) -> window == null
+                ? new Window(k, List.of(notificationId), List.of(notificationId), System.currentTimeMillis())
+                : window.withUpdated(notificationId)));
+    }
+
+    // 기간이 지난 묶음 꺼내기
+    public List<Window> drainDue() {
+        return drain(System.currentTimeMillis());
+    }
+
+    // 종료 시 남은 묶음 모두 꺼내기
+    public List<Window> drainAll() {
+        return drain(Long.MAX_VALUE);
+    }
+
+    // 전송에 실패한 묶음을 다음 차례에 다시 전송
+    public void requeue(List<Window> failed) {
+        failed.forEach(window -> windows.merge(window.key(), window, Window::join));
+    }
+
+    // 기간이 지난 묶음을 닫고, 갱신된 알림이 있는 묶음만 반환
+    private List<Window> drain(long now) {
+        List<Window> due = new ArrayList<>();
+        for (Map.Entry<Key, Window> entry : windows.entrySet()) {
+            Window window = entry.getValue();
+            // 꺼내는 사이 합쳐진 묶음은 다음 차례에 처리
+            if (window.dueAt() <= now && windows.remove(entry.getKey(), window) && !window.updatedIds().isEmpty()) {
+                due.add(window);
+            }
+        }
+        return due;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    public record Key(Long receiverId, NotificationType type, Long targetId) {
+    }
+
+    // notificationIds: 묶음에 저장된 알림 id (대부분 한 건, 동시에 같은 묶음을 열면 여러 건)
+    // updatedIds: 처음 전송 뒤 반복 알림이 합쳐져 window가 끝날 때 다시 전송할 알림 id
+    public record Window(Key key, List<Long> notificationIds, List<Long> updatedIds, long dueAt) {
+
+        private Window join(Window other) {
+            return new Window(key, union(notificationIds, other.notificationIds()),
+                    union(updatedIds, other.updatedIds()), Math.min(dueAt, other.dueAt()));
+        }
+
+        private Window withUpdated(Long notificationId) {
+            return new Window(key, union(notificationIds, List.of(notificationId)),
+                    union(updatedIds, List.of(notificationId)), dueAt);
+        }
+
+        private static List<Long> union(List<Long> a, List<Long> b) {
+            List<Long> ids = new ArrayList<>(a);
+            b.stream().filter(id -> !ids.contains(id)).forEach(ids::add);
+            return List.copyOf(ids);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.nect.api.domain.notifications.infra;
+
+import com.nect.api.domain.notifications.dto.NotificationEventDto;
+import com.nect.api.domain.notifications.dto.NotificationResponse;
+import com.nect.api.global.infra.redis.codec.PayloadReader;
+import com.nect.api.global.infra.redis.codec.PayloadSchema;
+import com.nect.api.global.infra.redis.codec.PayloadWriter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// 실시간 알림 이벤트 바이너리 배치 (필드 순서 변경 금지, 추가는 뒤에)
+@Component
+public class NotificationEventPayloadSchema implements PayloadSchema<NotificationEventDto> {
+
+    public static final int TYPE_ID = 3;
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public Class<NotificationEventDto> type() {
+        return NotificationEventDto.class;
+    }
+
+    @Override
+    public void write(NotificationEventDto message, PayloadWriter writer) {
+        writer.writeString(message.eventName());
+        writer.writeString(message.eventId());
+
+        NotificationResponse notification = message.notification();
+        writer.writeString(notification.mainMessage());
+        writer.writeString(notification.contentMessage());
+        writer.writeLong(notification.noticeId());
+        writer.writeLong(notification.targetId());
+        writer.writeLong(notification.projectId());
+        writer.writeString(notification.createdDate());
+        writer.writeString(notification.classification());
+        writer.writeString(notification.type());
+        writer.writeString(notification.scope());
+        writer.writeBoolean(notification.isRead());
+        writer.writeInt(notification.count());
+    }
+
+    @Override
+    public NotificationEventDto read(PayloadReader reader) throws IOException {
+        String eventName = reader.readString();
+        String eventId = reader.readString();
+
+        NotificationResponse notification = new NotificationResponse(
+                reader.readString(),
+                reader.readString(),
+                reader.readLong(),
+                reader.readLong(),
+                reader.readLong(),
+                reader.readString(),
+                reader.readString(),
+                reader.readString(),
+                reader.readString(),
+                reader.readBoolean(),
+                reader.readInt()
+        );
+        return new NotificationEventDto(eventName, eventId, notification);
+    }
+}
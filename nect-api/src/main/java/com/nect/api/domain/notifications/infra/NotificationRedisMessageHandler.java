@@ -0,0 +1,45 @@
+package com.nect.api.domain.notifications.infra;
+
+import com.nect.api.domain.notifications.dto.NotificationEventDto;
+import com.nect.api.global.infra.redis.RedisMessageHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+/**
+ * 다른 노드(또는 자신)가 발행한 알림을 이 노드에 연결된 수신자 SSE 연결로만 전달합니다.
+ * 수신자의 연결이 이 노드에 없으면 아무것도 하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRedisMessageHandler implements RedisMessageHandler<NotificationEventDto> {
+
+    // 재접속(Last-Event-ID) 시 재전송할 수 있도록 유저별로 보관할 최근 알림 수
+    public static final int REPLAY_LENGTH = 50;
+
+    private final SseDeliveryEngine sseDeliveryEngine;
+
+    @Override
+    public String channelPrefix() {
+        return NotificationRedisPublisher.CHANNEL_PREFIX;
+    }
+
+    @Override
+    public int replayLength() {
+        return REPLAY_LENGTH;
+    }
+
+    @Override
+    public Class<NotificationEventDto> payloadType() {
+        return NotificationEventDto.class;
+    }
+
+    @Override
+    public void handle(String channel, NotificationEventDto event, SimpMessageSendingOperations messagingTemplate) {
+        Long receiverId = Long.valueOf(channel.substring(NotificationRedisPublisher.CHANNEL_PREFIX.length()));
+        sseDeliveryEngine.deliver(receiverId, new SseEvent(event.eventName(), event.eventId(), event.notification()));
+        log.debug(" SSE 전송 요청 - receiverId: {}, event: {}", receiverId, event.eventName());
+    }
+}
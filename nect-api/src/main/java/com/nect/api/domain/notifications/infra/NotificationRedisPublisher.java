@@ -0,0 +1,18 @@
+package com.nect.api.domain.notifications.infra;
+
+import com.nect.api.domain.notifications.dto.NotificationEventDto;
+import com.nect.api.global.infra.redis.RedisPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationRedisPublisher {
+    public static final String CHANNEL_PREFIX = "notification:";
+
+    private final RedisPublisher redisPublisher;
+
+    public void publish(Long receiverId, NotificationEventDto event) {
+        redisPublisher.publish(CHANNEL_PREFIX + receiverId, event);
+    }
+}
@@ -0,0 +1,68 @@
+package com.nect.api.domain.notifications.infra;
+
+import com.nect.api.domain.notifications.dto.NotificationEventDto;
+import com.nect.api.global.infra.redis.RedisStreamReplayReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SSE 재접속(Last-Event-ID) 시 놓친 알림을 유저별 재전송 스트림(stream:notification:{userId})에서 찾습니다.
+ * 스트림은 발행 시 RedisPublisher가 NotificationRedisMessageHandler.REPLAY_LENGTH개까지 보관합니다.
+ */
+@Component
+@Slf4j
+public class NotificationReplayReader {
+
+    private final RedisStreamReplayReader redisStreamReplayReader;
+    private final boolean streamEnabled;
+
+    public NotificationReplayReader(RedisStreamReplayReader redisStreamReplayReader,
+                                    @Value("${redis.stream.enabled:false}") boolean streamEnabled) {
+        this.redisStreamReplayReader = redisStreamReplayReader;
+        this.streamEnabled = streamEnabled;
+    }
+
+    /**
+     * lastEventId(알림 id) 이후에 발행된 알림을 발행 순으로 반환합니다.
+     * 알림은 커밋 후 발행되므로 id 순서와 발행 순서가 다를 수 있어, id 크기가 아닌 스트림 안의 위치로 판단합니다.
+     * lastEventId가 보관 범위에 없거나 조회할 수 없으면 null을 반환합니다. (클라이언트가 목록을 다시 조회해야 함)
+     */
+    public List<SseEvent> readAfter(Long userId, long lastEventId) {
+        if (!streamEnabled) {
+            return null;
+        }
+
+        List<NotificationEventDto> recent;
+        try {
+            recent = redisStreamReplayReader.readRecent(
+                    NotificationRedisPublisher.CHANNEL_PREFIX + userId,
+                    NotificationRedisMessageHandler.REPLAY_LENGTH,
+                    NotificationEventDto.class);
+        } catch (RuntimeException e) {
+            log.warn("알림 재전송 스트림 조회 실패 - userId={}, lastEventId={}", userId, lastEventId, e);
+            return null;
+        }
+
+        // 마지막으로 받은 알림이 스트림에 없으면 (trim/만료) 그 이후를 모두 찾을 수 있는지 알 수 없음
+        int lastIndex = -1;
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            if (recent.get(i).notification().noticeId() == lastEventId) {
+                lastIndex = i;
+                break;
+            }
+        }
+        if (lastIndex < 0) {
+            return null;
+        }
+
+        List<SseEvent> missed = new ArrayList<>();
+        for (NotificationEventDto event : recent.subList(lastIndex + 1, recent.size())) {
+            missed.add(new SseEvent(event.eventName(), event.eventId(), event.notification()));
+        }
+        return missed;
+    }
+}
@@ -0,0 +1,152 @@
+package com.nect.api.domain.notifications.infra;
+
+import com.nect.core.entity.notifications.enums.NotificationScope;
+import com.nect.core.repository.notifications.NotificationRepository;
+import com.nect.core.repository.notifications.NotificationRepository.UnreadRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별, 알림 범위(scope)별 읽지 않은 알림 수의 Redis 사본 (뱃지용).
+ * 해시(notification:unread:{userId})에 scope별 수를 두고, 알림 생성 시 증가/읽음 처리 시 삭제합니다.
+ * 해시는 DB에서 한 번 적재한 뒤(_loaded 필드)부터 사용하며, 적재 전 증가는 무시합니다.
+ * ttl이 지나면 다시 적재하므로 탈퇴한 프로젝트의 알림 등 어긋난 값도 ttl 안에 바로잡힙니다.
+ */
+@Component
+@Slf4j
+public class NotificationUnreadCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String LOADED_FIELD = "_loaded";
+
+    // KEYS: 사용자 해시 / ARGV: scope, 증가량
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], '_loaded') == 0 then
+              return -1
+            end
+            return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            """, Long.class);
+
+    // KEYS: 사용자 해시 / ARGV: ttl(초), (scope, 수)... , '_loaded', 1
+    // 삭제와 적재, 만료 설정을 한 번에 실행 (사이에 끼어든 증가가 적재 전 해시에 남거나 TTL 없는 해시가 남지 않도록)
+    private static final DefaultRedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            for i = 2, #ARGV, 2 do
+              redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final Duration ttl;
+
+    public NotificationUnreadCounter(RedisTemplate<String, String> redisTemplate,
+                                     NotificationRepository notificationRepository,
+                                     @Value("${notification.unread.ttl-hours:24}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.notificationRepository = notificationRepository;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    public void increment(Long userId, NotificationScope scope, long delta) {
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, List.of(key(userId)), scope.name(), Long.toString(delta));
+        } catch (RuntimeException e) {
+            log.warn("알림 읽지 않은 수 증가 실패 - userId: {}, scope: {}", userId, scope, e);
+        }
+    }
+
+    public void reset(Long userId, Collection<NotificationScope> scopes) {
+        try {
+            redisTemplate.opsForHash().delete(key(userId), scopes.stream().map(Enum::name).toArray());
+        } catch (RuntimeException e) {
+            log.warn("알림 읽지 않은 수 초기화 실패 - userId: {}, scopes: {}", userId, scopes, e);
+        }
+    }
+
+    // scope별 읽지 않은 수 (Redis를 사용할 수 없으면 DB 기준)
+    public Map<NotificationScope, Long> unreadCounts(Long userId) {
+        Map<Object, Object> entries;
+        try {
+            entries = redisTemplate.opsForHash().entries(key(userId));
+        } catch (RuntimeException e) {
+            log.warn("알림 읽지 않은 수 조회 실패 - userId: {}", userId, e);
+            return loadFromDb(userId);
+        }
+
+        if (!entries.containsKey(LOADED_FIELD)) {
+            return load(userId);
+        }
+        return toCounts(entries);
+    }
+
+    // 적재된 사본의 scope별 읽지 않은 수 (적재 전이거나 Redis를 사용할 수 없으면 null, 여기서 적재하지 않음)
+    public Map<NotificationScope, Long> loadedUnreadCounts(Long userId) {
+        Map<Object, Object> entries;
+        try {
+            entries = redisTemplate.opsForHash().entries(key(userId));
+        } catch (RuntimeException e) {
+            log.warn("알림 읽지 않은 수 조회 실패 - userId: {}", userId, e);
+            return null;
+        }
+        return entries.containsKey(LOADED_FIELD) ? toCounts(entries) : null;
+    }
+
+    // DB 기준으로 해시 적재
+    private Map<NotificationScope, Long> load(Long userId) {
+        Map<NotificationScope, Long> counts = loadFromDb(userId);
+
+        List<String> args = new ArrayList<>(counts.size() * 2 + 3);
+        args.add(Long.toString(ttl.toSeconds()));
+        counts.forEach((scope, count) -> {
+            args.add(scope.name());
+            args.add(count.toString());
+        });
+        args.add(LOADED_FIELD);
+        args.add("1");
+
+        try {
+            redisTemplate.execute(REPLACE_SCRIPT, List.of(key(userId)), args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("알림 읽지 않은 수 적재 실패 - userId: {}", userId, e);
+        }
+        return counts;
+    }
+
+    private Map<NotificationScope, Long> loadFromDb(Long userId) {
+        Map<NotificationScope, Long> counts = new EnumMap<>(NotificationScope.class);
+        for (UnreadRow row : notificationRepository.countUnreadByScope(userId)) {
+            counts.put(row.getScope(), row.getUnreadCount());
+        }
+        return counts;
+    }
+
+    private static Map<NotificationScope, Long> toCounts(Map<Object, Object> entries) {
+        Map<NotificationScope, Long> counts = new EnumMap<>(NotificationScope.class);
+        entries.forEach((field, value) -> {
+            if (!LOADED_FIELD.equals(field)) {
+                long count = Long.parseLong(value.toString());
+                if (count > 0) {
+                    counts.put(NotificationScope.valueOf(field.toString()), count);
+                }
+            }
+        });
+        return counts;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,82 @@
+package com.nect.api.domain.notifications.infra;
+
+import com.nect.core.repository.team.ProjectUserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 참여 중(ACTIVE)인 프로젝트 id 근거리 캐시.
+ * 작업실 알림 조회마다 project_user를 다시 읽지 않도록 ttl 동안 보관하고,
+ * 조회한 알림의 프로젝트가 현재 참여 중인지 메모리에서 바로 확인합니다. (정렬된 id 배열 + 이진 탐색)
+ * 참여/추방 등 멤버 상태가 바뀌면 커밋 후 이 노드의 항목을 바로 비웁니다.
+ * 노드 간 무효화는 하지 않으므로 다른 노드에는 최대 ttl만큼 늦게 반영됩니다.
+ */
+@Component
+public class ProjectMembershipCache {
+
+    private final ProjectUserRepository projectUserRepository;
+    private final long ttlMillis;
+    private final int maxUsers;
+
+    private final Map<Long, CachedMembership> cache = new ConcurrentHashMap<>();
+
+    public ProjectMembershipCache(ProjectUserRepository projectUserRepository,
+                                  @Value("${notification.membership-cache.ttl-seconds:30}") long ttlSeconds,
+                                  @Value("${notification.membership-cache.max-users:10000}") int maxUsers) {
+        this.projectUserRepository = projectUserRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxUsers = maxUsers;
+    }
+
+    public ActiveProjects activeProjects(Long userId) {
+        long now = System.currentTimeMillis();
+        CachedMembership cached = cache.get(userId);
+        if (cached != null && cached.loadedAt + ttlMillis > now) {
+            return cached.projects;
+        }
+
+        ActiveProjects projects = ActiveProjects.of(projectUserRepository.findActiveProjectIdsByUserId(userId));
+        if (cache.size() >= maxUsers) {
+            cache.values().removeIf(entry -> entry.loadedAt + ttlMillis <= now);
+            if (cache.size() >= maxUsers) {
+                cache.clear();
+            }
+        }
+        cache.put(userId, new CachedMembership(now, projects));
+        return projects;
+    }
+
+    public void evict(Long userId) {
+        cache.remove(userId);
+    }
+
+    private record CachedMembership(long loadedAt, ActiveProjects projects) {
+    }
+
+    // 참여 중인 프로젝트 id 집합 (불변)
+    public static final class ActiveProjects {
+        private final long[] sortedIds;
+
+        private ActiveProjects(long[] sortedIds) {
+            this.sortedIds = sortedIds;
+        }
+
+        static ActiveProjects of(List<Long> projectIds) {
+            long[] ids = projectIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+            return new ActiveProjects(ids);
+        }
+
+        public boolean contains(Long projectId) {
+            return projectId != null && Arrays.binarySearch(sortedIds, projectId) >= 0;
+        }
+
+        public boolean isEmpty() {
+            return sortedIds.length == 0;
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package com.nect.api.domain.notifications.infra;
+
+import com.nect.api.domain.notifications.enums.code.NotificationErrorCode;
+import com.nect.api.domain.notifications.exception.NotificationException;
+import com.nect.core.repository.notifications.EmitterRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * SSE 연결별 비동기 전송기이자 연결 수명 관리자.
+ * 연결(SseEmitter)마다 크기 제한이 있는 전송 큐와 전용 writer(가상 스레드)를 두고,
+ * 알림 전송 요청은 큐에 넣기만 하고 바로 반환합니다. 느린 클라이언트는 자기 큐만 밀리고 요청 스레드나 다른 연결에는 영향이 없습니다.
+ *
+ * 큐가 가득 차면 가장 오래된 이벤트를 버리고, 다음 전송 전에 버린 건수를 담은 resync 이벤트를 한 번만 보냅니다.
+ * 재접속 시 놓친 이벤트를 재전송할 수 없을 때도 resync 이벤트를 보냅니다.
+ * (알림은 DB에 저장되어 있으므로 클라이언트는 resync 수신 시에만 목록을 다시 조회하면 됩니다)
+ *
+ * 연결 종료(완료/타임아웃/에러) 시 해당 연결만 제거하고, 주기적인 heartbeat 주석으로 끊긴(half-open) 연결을 찾아 정리합니다.
+ * 유저별 연결 수를 넘으면 가장 오래된 연결을 닫고, 전체 연결 수를 넘으면 새 연결을 거부합니다.
+ */
+@Component
+@Slf4j
+public class SseDeliveryEngine {
+
+    public static final String RESYNC_EVENT = "resync";
+
+    // writer가 주석으로 보내는 연결 확인용 이벤트
+    private static final SseEvent HEARTBEAT = new SseEvent(null, null, null);
+
+    private final EmitterRepository emitterRepository;
+    private final int queueCapacity;
+    private final int maxConnectionsPerUser;
+    private final int maxConnections;
+    private final long stallTimeoutMillis;
+
+    private final Map<SseEmitter, Connection> connections = new ConcurrentHashMap<>();
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder stalled = new LongAdder();
+
+    public SseDeliveryEngine(EmitterRepository emitterRepository,
+                             @Value("${notification.sse.queue-capacity:100}") int queueCapacity,
+                             @Value("${notification.sse.max-connections-per-user:5}") int maxConnectionsPerUser,
+                             @Value("${notification.sse.max-connections:10000}") int maxConnections,
+                             @Value("${notification.sse.stall-timeout-ms:60000}") long stallTimeoutMillis) {
+        this.emitterRepository = emitterRepository;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.maxConnectionsPerUser = Math.max(1, maxConnectionsPerUser);
+        this.maxConnections = Math.max(1, maxConnections);
+        this.stallTimeoutMillis = stallTimeoutMillis;
+    }
+
+    /**
+     * 전체 연결 수 제한 확인 (emitter 생성 전에 호출).
+     * 동시에 들어온 연결끼리는 조금 넘을 수 있는 느슨한 제한입니다.
+     */
+    public void checkCapacity() {
+        if (connections.size() >= maxConnections) {
+            rejected.increment();
+            throw new NotificationException(NotificationErrorCode.SSE_CONNECTION_LIMIT_EXCEEDED,
+                    "connections: " + connections.size());
+        }
+    }
+
+    /**
+     * 연결을 등록하고 writer를 시작합니다.
+     * 재접속이면 등록 이후에 놓친 이벤트를 조회해 큐 앞에 넣으므로, 조회 도중 도착한 이벤트도 빠지지 않습니다.
+     * (재전송분과 실시간 이벤트가 겹치면 writer가 최근에 보낸 id와 내용을 비교해 한 번만 보냄)
+     *
+     * @param missedEvents 놓친 이벤트 (오래된 순), 놓친 범위를 알 수 없으면 null을 반환
+     */
+    public void open(Long userId, SseEmitter emitter, Supplier<List<SseEvent>> missedEvents) {
+        Connection connection = new Connection(userId, emitter);
+
+        // 종료된 연결만 제거 (같은 유저의 다른 탭/디바이스 연결은 유지)
+        emitter.onCompletion(() -> closed(emitter));
+        emitter.onTimeout(() -> closed(emitter));
+        emitter.onError(e -> closed(emitter));
+
+        connections.put(emitter, connection);
+        emitterRepository.addEmitter(userId, emitter);
+        evictOldest(userId);
+
+        List<SseEvent> missed = missedEvents.get();
+        if (missed == null) {
+            connection.queue.offerFirst(new SseEvent(RESYNC_EVENT, null, Map.of("reason", "replay_unavailable")));
+        } else {
+            for (int i = missed.size() - 1; i >= 0; i--) {
+                if (!connection.queue.offerFirst(missed.get(i))) {
+                    connection.overflowed.incrementAndGet();
+                    dropped.increment();
+                }
+            }
+            replayed.add(missed.size());
+        }
+        connection.start();
+    }
+
+    // emitter 종료(완료/타임아웃/에러) 시 해당 연결만 정리
+    public void closed(SseEmitter emitter) {
+        Connection connection = connections.remove(emitter);
+        if (connection != null) {
+            emitterRepository.remove(connection.userId, emitter);
+            connection.stop();
+        }
+    }
+
+    /**
+     * 유저의 모든 연결 큐에 이벤트를 넣습니다. 전송을 기다리지 않습니다.
+     */
+    public void deliver(Long userId, SseEvent event) {
+        Set<SseEmitter> emitters = emitterRepository.getAll(userId);
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+
+        for (SseEmitter emitter : new ArrayList<>(emitters)) {
+            Connection connection = connections.get(emitter);
+            if (connection != null) {
+                connection.offer(event);
+            }
+        }
+    }
+
+    /**
+     * 모든 연결에 heartbeat 주석을 보내 끊긴 연결을 찾습니다. (전송 실패 시 writer가 정리)
+     * 대기 중인 이벤트가 있는데 stallTimeout 동안 한 건도 보내지 못한 연결은 막힌 연결로 보고 닫습니다.
+     */
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        for (Connection connection : new ArrayList<>(connections.values())) {
+            if (connection.queue.isEmpty()) {
+                connection.queue.offerLast(HEARTBEAT);
+            } else if (now - connection.lastWriteAt > stallTimeoutMillis) {
+                stalled.increment();
+                log.info("SSE stalled - receiverId={}, emitterCode={}, queued={}",
+                        connection.userId, System.identityHashCode(connection.emitter), connection.queue.size());
+                close(connection);
+            }
+        }
+    }
+
+    // 유저별 전송 대기 이벤트 수
+    public Map<Long, Integer> queueDepths() {
+        Map<Long, Integer> depths = new HashMap<>();
+        for (Connection connection : connections.values()) {
+            depths.merge(connection.userId, connection.queue.size(), Integer::sum);
+        }
+        return depths;
+    }
+
+    public DeliveryStats stats() {
+        Map<Long, Integer> depths = queueDepths();
+        int queued = 0;
+        int maxQueued = 0;
+        Long maxQueuedUserId = null;
+        for (Map.Entry<Long, Integer> entry : depths.entrySet()) {
+            queued += entry.getValue();
+            if (entry.getValue() > maxQueued) {
+                maxQueued = entry.getValue();
+                maxQueuedUserId = entry.getKey();
+            }
+        }
+        return new DeliveryStats(depths.size(), connections.size(), queued, maxQueued, maxQueuedUserId,
+                delivered.sum(), replayed.sum(), dropped.sum(), failed.sum(),
+                evicted.sum(), rejected.sum(), stalled.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Connection connection : new ArrayList<>(connections.values())) {
+            close(connection);
+        }
+    }
+
+    // 유저별 연결 수를 넘으면 가장 오래된 연결부터 닫음 (탭을 새로 열고 닫지 않은 경우 등)
+    private void evictOldest(Long userId) {
+        List<Connection> userConnections = new ArrayList<>();
+        for (SseEmitter emitter : emitterRepository.getAll(userId)) {
+            Connection connection = connections.get(emitter);
+            if (connection != null) {
+                userConnections.add(connection);
+            }
+        }
+        if (userConnections.size() <= maxConnectionsPerUser) {
+            return;
+        }
+
+        userConnections.sort((a, b) -> Long.compare(a.openedAt, b.openedAt));
+        for (int i = 0; i < userConnections.size() - maxConnectionsPerUser; i++) {
+            evicted.increment();
+            close(userConnections.get(i));
+        }
+    }
+
+    // 전송 실패 = 끊긴 연결로 판단하고 제거
+    private void disconnect(Connection connection, IOException cause) {
+        failed.increment();
+        log.info("SSE disconnected - receiverId={}, emitterCode={}, cause={}",
+                connection.userId, System.identityHashCode(connection.emitter), cause.getMessage());
+        close(connection);
+    }
+
+    // 등록 해제 후 emitter 완료 (막힌 연결은 writer가 쓰기 lock을 잡고 있을 수 있어 별도 가상 스레드에서 완료)
+    private void close(Connection connection) {
+        closed(connection.emitter);
+        Thread.ofVirtual().start(() -> {
+            try {
+                connection.emitter.complete();
+            } catch (Exception closeEx) {
+                log.debug("SSE emitter close failed - receiverId={}, emitterCode={}",
+                        connection.userId, System.identityHashCode(connection.emitter), closeEx);
+            }
+        });
+    }
+
+    private final class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final long openedAt = System.currentTimeMillis();
+        private final BlockingDeque<SseEvent> queue = new LinkedBlockingDeque<>(queueCapacity);
+        // 마지막 전송 이후 버린 이벤트 수
+        private final AtomicInteger overflowed = new AtomicInteger();
+        // 최근에 보낸 이벤트 id -> 내용 (재전송분과 실시간 이벤트 중복 방지, writer 스레드에서만 사용)
+        // 커밋 순서와 id 순서가 다를 수 있어 최댓값이 아닌 id 자체로 비교하며,
+        // 중복된 두 이벤트는 같은 큐 안에 있으므로 큐 크기만큼만 기억하면 충분함
+        // 같은 id라도 내용이 다르면(합쳐진 알림의 갱신) 다시 보냄
+        private final Map<String, Object> recentlySent = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                return size() > queueCapacity;
+            }
+        };
+        // 마지막으로 전송에 성공한 시각 (막힌 연결 판단)
+        private volatile long lastWriteAt = openedAt;
+
+        private volatile boolean running = true;
+        private Thread writer;
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void start() {
+            writer = Thread.ofVirtual()
+                    .name("sse-writer-" + userId + "-" + System.identityHashCode(emitter))
+                    .start(this::run);
+        }
+
+        private void stop() {
+            running = false;
+            queue.clear();
+            if (writer != null) {
+                writer.interrupt();
+            }
+        }
+
+        // 가득 차면 가장 오래된 이벤트를 버리고 넣음
+        private void offer(SseEvent event) {
+            while (running && !queue.offerLast(event)) {
+                if (queue.pollFirst() != null) {
+                    overflowed.incrementAndGet();
+                    dropped.increment();
+                }
+            }
+        }
+
+        private void run() {
+            while (running) {
+                SseEvent event;
+                try {
+                    event = queue.takeFirst();
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                if (event.id() != null && recentlySent.containsKey(event.id())
+                        && Objects.equals(recentlySent.get(event.id()), event.data())) {
+                    continue;
+                }
+
+                try {
+                    if (event == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                        lastWriteAt = System.currentTimeMillis();
+                        continue;
+                    }
+
+                    int skipped = overflowed.getAndSet(0);
+                    if (skipped > 0) {
+                        emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(Map.of("reason", "overflow", "dropped", skipped)));
+                    }
+                    SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.name());
+                    if (event.id() != null) {
+                        builder.id(event.id());
+                    }
+                    emitter.send(builder.data(event.data()));
+                    lastWriteAt = System.currentTimeMillis();
+                    delivered.increment();
+                    if (event.id() != null) {
+                        recentlySent.put(event.id(), event.data());
+                    }
+                } catch (IOException e) {
+                    disconnect(this, e);
+                    return;
+                } catch (IllegalStateException e) {
+                    // 이미 완료된 emitter
+                    closed(emitter);
+                    return;
+                }
+            }
+        }
+    }
+
+    // maxQueuedUserId: 대기 이벤트가 가장 많은 유저
+    // evicted: 유저별 연결 수 초과로 닫은 연결, rejected: 전체 연결 수 초과로 거부한 연결, stalled: 막혀서 닫은 연결
+    public record DeliveryStats(int users, int connections, int queued, int maxQueued, Long maxQueuedUserId,
+                                long delivered, long replayed, long dropped, long failed,
+                                long evicted, long rejected, long stalled) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.nect.api.domain.notifications.infra;
+
+/**
+ * SSE 연결로 내보낼 이벤트 한 건.
+ * data는 트랜잭션 안에서 DTO로 변환해 두고, 전송은 연결별 writer가 커밋 이후에 합니다.
+ */
+public record SseEvent(String name, String id, Object data) {
+}
@@ -1,20 +1,25 @@
 package com.nect.api.domain.notifications.service;
 
+import com.nect.api.domain.notifications.dto.NotificationEventDto;
 import com.nect.api.domain.notifications.dto.NotificationResponse;
 import com.nect.api.domain.notifications.enums.code.NotificationErrorCode;
 import com.nect.api.domain.notifications.exception.NotificationException;
+import com.nect.api.domain.notifications.infra.NotificationRedisPublisher;
+import com.nect.api.domain.notifications.infra.NotificationReplayReader;
+import com.nect.api.domain.notifications.infra.SseDeliveryEngine;
+import com.nect.api.domain.notifications.infra.SseEvent;
+import com.nect.api.global.infra.exception.RedisException;
 import com.nect.core.entity.notifications.Notification;
 import com.nect.core.entity.notifications.enums.NotificationScope;
-import com.nect.core.entity.notifications.enums.NotificationType;
-import com.nect.core.repository.notifications.EmitterRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Set;
+import java.util.List;
 
 /**
  * SSE(Server-Sent Events)를 이용해
@@ -30,13 +35,16 @@ import java.util.Set;
  *
  * 하나의 유저는 여러 개의 SSE 연결(여러 탭, 여러 디바이스)을 가질 수 있으며,
  * 모든 연결에 동일한 알림을 브로드캐스트 방식으로 전송합니다.
+ * 연결별 전송 큐와 writer는 SseDeliveryEngine이 관리합니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationDispatchService {
 
-    private final EmitterRepository emitterRepository;
+    private final SseDeliveryEngine deliveryEngine;
+    private final NotificationRedisPublisher notificationRedisPublisher;
+    private final NotificationReplayReader notificationReplayReader;
 
     private static final long DEFAULT_TIMEOUT = 5L * 60 * 1000; // emitter 객체 수명 15분
 
@@ -48,16 +56,25 @@ public class NotificationDispatchService {
      * - 유저 ID 기준으로 emitter를 저장하여
      *   다중 탭 / 다중 디바이스 환경을 지원합니다.
      *
+     * - 재접속 요청(Last-Event-ID 포함)이면 그 이후의 알림만 한 번에 재전송합니다.
+     *   재전송할 수 없으면 resync 이벤트를 보내 클라이언트가 목록을 다시 조회하도록 합니다.
+     *
      * 연결 종료, 타임아웃, 에러 발생 시
-     * 해당 emitter는 자동으로 제거됩니다.
+     * 해당 emitter만 자동으로 제거됩니다. (같은 유저의 다른 연결은 유지)
+     * 유저별 연결 수를 넘으면 가장 오래된 연결이 닫히고, 전체 연결 수를 넘으면 구독이 거부됩니다.
+     *
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 id (최초 연결이면 null)
      */
-    public SseEmitter subscribe(Long userId) {
+    public SseEmitter subscribe(Long userId, String lastEventId) {
 
         // 유저 없을 경우 예외처리
         if (userId == null) {
             throw new NotificationException(NotificationErrorCode.NOTIFICATION_SUBSCRIBE_FAILED, "userId가 존재하지 않습니다");
         }
 
+        // 전체 연결 수 제한
+        deliveryEngine.checkCapacity();
+
         // 현재 클라이언트에 대한 emitter 생성
         SseEmitter sseEmitter = new SseEmitter(DEFAULT_TIMEOUT);
 
@@ -76,13 +93,9 @@ public class NotificationDispatchService {
             );
         }
 
-        // userId 기준으로 emitter 저장 (다중 탭 / 다중 디바이스 대응)
-        emitterRepository.addEmitter(userId, sseEmitter);
-
-        // emitter 제거하는 경우
-        sseEmitter.onCompletion(() -> emitterRepository.remove(userId)); // 정상 종료 시
-        sseEmitter.onTimeout(() -> emitterRepository.remove(userId)); // 타임아웃 발생 시
-        sseEmitter.onError((e) -> emitterRepository.remove(userId)); // 에러 발생 시
+        // userId 기준으로 emitter 저장 (다중 탭 / 다중 디바이스 대응) + 연결 전용 writer 시작
+        // 연결 종료(완료/타임아웃/에러) 시 해당 emitter만 제거됩니다.
+        deliveryEngine.open(userId, sseEmitter, () -> missedEvents(userId, lastEventId));
 
         return sseEmitter;
     }
@@ -90,63 +103,61 @@ public class NotificationDispatchService {
     /**
      * 특정 유저에게 실시간 알림을 전송합니다.
      *
-     * - 해당 유저가 가지고 있는 모든 SSE 연결(emitter)에 대해
-     *   동일한 알림 이벤트를 전송합니다.
-     * - 전송 중 IOException 발생 시
-     *   연결이 끊긴 emitter로 판단하고 즉시 제거합니다.
+     * - 응답 DTO는 호출한 트랜잭션 안에서 만들어 두고,
+     *   커밋 이후 수신자 채널(notification:{receiverId})로 Redis에 발행합니다.
+     * - 각 노드는 NotificationRedisMessageHandler에서 자기 노드의 연결에만
+     *   SseDeliveryEngine의 연결별 큐에 넣는 것으로 전송을 끝냅니다.
+     * - 느린 연결이나 끊긴 연결 처리는 연결별 writer에서 하므로
+     *   호출한 요청의 응답 시간에 영향을 주지 않습니다.
      *
      * @param notification 전송할 알림 엔티티
      */
     public void send(Notification notification) {
 
-        // user에 대한 모든 emitters 조회
         Long receiverId = notification.getReceiver().getUserId();
-        Set<SseEmitter> emitters = emitterRepository.getAll(receiverId);
+        NotificationScope scope = notification.getScope();
+        // 재접속 시 Last-Event-ID로 놓친 알림을 찾을 수 있도록 알림 id를 이벤트 id로 사용
+        String eventId = String.valueOf(notification.getId());
 
-        // 유저에 대한 emitter 없을 시 return
-        if (emitters == null || emitters.isEmpty())
-            return;
+        NotificationEventDto event = new NotificationEventDto(scope.getEventName(), eventId, NotificationResponse.from(notification));
 
-        NotificationType type = notification.getType();
-        NotificationScope scope = notification.getScope();
-        String eventId = receiverId + "_" + scope.name() + "_" + type.name() + System.currentTimeMillis();
-
-        // ConcurrentModificationException 방지를 위해 복사본 사용
-        for (SseEmitter emitter : new ArrayList<>(emitters)) {
-
-            int emitterCode = System.identityHashCode(emitter); // 이후 로그 작성을 위해 생성
-            try {
-                // 실제 SSE 이벤트 전송
-                emitter.send(SseEmitter.event()
-                        .name(scope.getEventName())
-                        .id(eventId)
-                        .data(NotificationResponse.from(notification))
-                );
-            } catch (IOException e) { // 전송 실패 = 연결이 끊긴 emitter로 판단
-
-                emitterRepository.remove(receiverId, emitter);
-
-                log.info(
-                        "SSE disconnected - receiverId={}, emitterCode={}, event={}, notificationId={}",
-                        receiverId,
-                        emitterCode,
-                        scope.getEventName(),
-                        notification.getId()
-                );
-
-                try {
-                    emitter.complete();
-                } catch (Exception closeEx) {
-                    log.debug(
-                            "SSE emitter close failed - receiverId={}, emitterCode={}",
-                            receiverId,
-                            emitterCode,
-                            closeEx
-                    );
-                }
-            }
+        // 롤백된 알림이 전송되지 않도록 커밋 이후 전송
+        afterCommit(() -> publish(receiverId, event));
+    }
+
+    // Last-Event-ID 이후 놓친 알림 (이전 형식 id 등 해석할 수 없으면 재전송 불가로 처리)
+    private List<SseEvent> missedEvents(Long userId, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+        try {
+            return notificationReplayReader.readAfter(userId, Long.parseLong(lastEventId.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 수신자의 연결이 어느 노드에 있는지 모르므로 Redis로 발행 (발행 실패 시 이 노드의 연결에만 전송)
+    private void publish(Long receiverId, NotificationEventDto event) {
+        try {
+            notificationRedisPublisher.publish(receiverId, event);
+        } catch (RedisException e) {
+            log.warn("알림 Redis 발행 실패, 로컬 연결에만 전송 - receiverId={}", receiverId, e);
+            deliveryEngine.deliver(receiverId, new SseEvent(event.eventName(), event.eventId(), event.notification()));
+        }
+    }
 
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
 }
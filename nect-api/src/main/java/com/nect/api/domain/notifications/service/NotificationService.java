@@ -4,22 +4,33 @@ import com.nect.api.domain.notifications.enums.code.NotificationSearchFilter;
 import com.nect.api.domain.user.exception.UserNotFoundException;
 import com.nect.api.global.code.CommonResponseCode;
 import com.nect.api.domain.notifications.command.NotificationCommand;
+import com.nect.api.domain.notifications.dto.NotificationBadgeResponse;
 import com.nect.api.domain.notifications.dto.NotificationListResponse;
 import com.nect.api.domain.notifications.enums.code.NotificationErrorCode;
 import com.nect.api.domain.notifications.exception.NotificationException;
+import com.nect.api.domain.notifications.infra.NotificationBulkWriter;
+import com.nect.api.domain.notifications.infra.NotificationUnreadCounter;
+import com.nect.api.domain.notifications.infra.ProjectMembershipCache;
 import com.nect.core.entity.notifications.Notification;
 import com.nect.core.entity.notifications.enums.NotificationScope;
-import com.nect.core.entity.team.Project;
 import com.nect.core.entity.user.User;
 import com.nect.core.repository.notifications.NotificationRepository;
-import com.nect.core.repository.team.ProjectUserRepository;
 import com.nect.core.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * 알림(Notification) 도메인 엔티티를 생성하고
@@ -35,13 +46,19 @@ import java.util.List;
  * 에만 집중하고,
  * 실제 전송은 NotificationDispatchService에서 처리됩니다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
+    // 작업실 알림 조회 시 참여 중이 아닌 프로젝트 알림을 건너뛰며 더 읽는 최대 횟수
+    private static final int MAX_INBOX_SCAN_ROUNDS = 5;
+
     private final NotificationRepository notificationRepository;
+    private final NotificationBulkWriter notificationBulkWriter;
     private final UserRepository userRepository;
-    private final ProjectUserRepository projectUserRepository;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final ProjectMembershipCache projectMembershipCache;
 
     // 여러 유저에 대해 생성
     @Transactional(readOnly = false)
@@ -57,21 +74,56 @@ public class NotificationService {
 
         // 알림 command에서 Notification 리스트 생성
         List<Notification> notifications = receivers.stream()
-                .map(receiver ->
-                        Notification.create(
-                                command.type(),
-                                command.classification(),
-                                command.scope(),
-                                command.targetId(),
-                                receiver,
-                                command.project(),
-                                command.mainArgs(),
-                                command.contentArgs()
-                        )
-                ).toList();
-
-        // 모든 알림 저장
-        return notificationRepository.saveAll(notifications);
+                .map(receiver -> toNotification(receiver, command))
+                .toList();
+
+        // 모든 알림 저장 (수신자 수와 관계없이 배치 INSERT)
+        return saveAll(notifications);
+    }
+
+    /**
+     * 열린 합치기 묶음의 알림에 같은 알림 한 건을 더 반영합니다. (합쳐진 수 증가 + 마지막 내용으로 교체)
+     * 이미 읽은 알림이면 갱신하지 않고 false를 반환하므로, 호출 측에서 새 알림으로 저장합니다.
+     */
+    @Transactional(readOnly = false)
+    public boolean mergeCoalesced(Long notificationId, User receiver, NotificationCommand command) {
+        Notification latest = toNotification(receiver, command);
+        return notificationRepository.mergeCoalesced(
+                notificationId, latest.getMainMessage(), latest.getContentMessage()) > 0;
+    }
+
+    // 묶음 전송용으로 저장된 알림 다시 조회 (합쳐진 수와 마지막 내용 반영)
+    @Transactional(readOnly = true)
+    public List<Notification> findAllByIds(List<Long> notificationIds) {
+        return notificationRepository.findAllById(notificationIds);
+    }
+
+    // 저장 후 커밋되면 뱃지 수 증가
+    private List<Notification> saveAll(List<Notification> notifications) {
+        List<Notification> saved = notificationBulkWriter.insertAll(notifications);
+
+        Map<Long, Map<NotificationScope, Long>> increments = new HashMap<>();
+        for (Notification notification : saved) {
+            increments.computeIfAbsent(notification.getReceiver().getUserId(), k -> new EnumMap<>(NotificationScope.class))
+                    .merge(notification.getScope(), 1L, Long::sum);
+        }
+        afterCommit(() -> increments.forEach((userId, counts) ->
+                counts.forEach((scope, delta) -> notificationUnreadCounter.increment(userId, scope, delta))));
+
+        return saved;
+    }
+
+    private Notification toNotification(User receiver, NotificationCommand command) {
+        return Notification.create(
+                command.type(),
+                command.classification(),
+                command.scope(),
+                command.targetId(),
+                receiver,
+                command.project(),
+                command.mainArgs(),
+                command.contentArgs()
+        );
     }
 
     // 알림 목록 조회
@@ -95,38 +147,109 @@ public class NotificationService {
 
         // FILTER에 담긴 SCOPE 가져오기
         List<NotificationScope> scopes = filter.getScopes();
-        List<Notification> notifications;
 
-        // filter가 EXPLORATION이면 나에 대한 알림을 조회
+        // filter가 EXPLORATION이면 나에 대한 알림을 모두 조회
         if (filter == NotificationSearchFilter.EXPLORATION) {
-            notifications = notificationRepository.findByScopesWithCursor(
-                    user,
-                    scopes,
-                    cursor,
-                    PageRequest.of(0, safeSize)
-            );
-        } else {
-            // filter가 WORKSPACE 종류일 때는 내가 속한 프로젝트들을 가져와서 그거로 조회
-            List<Project> myProjects = projectUserRepository.findActiveProjectsByUserId(userId);
-            if (myProjects.isEmpty()) {
-                return NotificationListResponse.from(List.of(), null);
+            InboxPage page = loadInbox(user.getUserId(), scopes, cursor, safeSize, null);
+            return NotificationListResponse.from(page.notifications(), page.nextCursor());
+        }
+
+        // filter가 WORKSPACE 종류일 때는 지금 참여 중인 프로젝트의 알림만 (참여 여부는 조회 시점에 캐시로 확인)
+        ProjectMembershipCache.ActiveProjects activeProjects = projectMembershipCache.activeProjects(userId);
+        if (activeProjects.isEmpty()) {
+            return NotificationListResponse.from(List.of(), null);
+        }
+
+        InboxPage page = loadInbox(user.getUserId(), scopes, cursor, safeSize,
+                notification -> notification.getProject() != null
+                        && activeProjects.contains(notification.getProject().getId()));
+        return NotificationListResponse.from(page.notifications(), page.nextCursor());
+    }
+
+    /**
+     * 범위별로 idx_notification_inbox(user_id, scope, id DESC)를 LIMIT 범위 스캔한 뒤 id 내림차순으로 합칩니다.
+     * accept로 걸러진 알림이 있으면 다음 구간을 이어서 읽고, MAX_INBOX_SCAN_ROUNDS를 넘기면 읽은 위치까지만 반환합니다.
+     * (이때 nextCursor는 마지막으로 읽은 id라 다음 요청에서 이어서 조회됩니다)
+     */
+    private InboxPage loadInbox(Long userId, List<NotificationScope> scopes, Long cursor, int size,
+                                Predicate<Notification> accept) {
+        List<Notification> result = new ArrayList<>(size);
+        long scanCursor = cursor == null ? Long.MAX_VALUE : cursor;
+
+        for (int round = 0; round < MAX_INBOX_SCAN_ROUNDS; round++) {
+            List<Notification> batch = new ArrayList<>();
+            boolean exhausted = true;
+            for (NotificationScope scope : scopes) {
+                List<Notification> rows = notificationRepository.findInboxPage(
+                        userId, scope, scanCursor, PageRequest.of(0, size));
+                batch.addAll(rows);
+                if (rows.size() == size) {
+                    exhausted = false;
+                }
             }
+            batch.sort(Comparator.comparing(Notification::getId).reversed());
 
-            notifications = notificationRepository.findByScopesAndProjectsWithCursor(
-                    user,
-                    scopes,
-                    myProjects,
-                    cursor,
-                    PageRequest.of(0, safeSize)
-            );
+            // 범위마다 size개씩 읽었으므로 합친 결과는 앞의 size개까지만 빠짐없는 구간
+            int scanned = Math.min(size, batch.size());
+            for (int i = 0; i < scanned && result.size() < size; i++) {
+                Notification notification = batch.get(i);
+                if (accept == null || accept.test(notification)) {
+                    result.add(notification);
+                }
+            }
+
+            if (result.size() == size) {
+                return new InboxPage(result, result.getLast().getId());
+            }
+            if (exhausted && scanned == batch.size()) {
+                return new InboxPage(result, null);
+            }
+            scanCursor = batch.get(scanned - 1).getId();
+        }
+
+        log.debug("알림 목록 조회 스캔 한도 도달 - userId: {}, returned: {}", userId, result.size());
+        return new InboxPage(result, scanCursor);
+    }
+
+    private record InboxPage(List<Notification> notifications, Long nextCursor) {
+    }
+
+    // 범위별 읽지 않은 알림 수 (Redis 사본 기준)
+    public NotificationBadgeResponse getBadge(Long userId) {
+        return NotificationBadgeResponse.from(notificationUnreadCounter.unreadCounts(userId));
+    }
+
+    // filter 범위의 알림 모두 읽음 처리
+    @Transactional(readOnly = false)
+    public void markAllAsRead(Long userId, NotificationSearchFilter filter) {
+
+        if (filter == null) {
+            throw new NotificationException(NotificationErrorCode.INVALID_NOTIFICATION_SCOPE);
         }
 
-        Long nextCursor = (notifications.size() == safeSize)
-                ? notifications.getLast().getId()
-                : null;
+        List<NotificationScope> scopes = filter.getScopes();
 
-        // API 응답 객체 생성 후 반환
-        return NotificationListResponse.from(notifications, nextCursor);
+        // 적재된 Redis 사본에 읽지 않은 알림이 없으면 UPDATE 생략 (적재 전이거나 Redis를 쓸 수 없으면 UPDATE)
+        Map<NotificationScope, Long> unread = notificationUnreadCounter.loadedUnreadCounts(userId);
+        if (unread != null && scopes.stream().noneMatch(unread::containsKey)) {
+            return;
+        }
+
+        notificationRepository.markAllAsRead(userId, scopes);
+        afterCommit(() -> notificationUnreadCounter.reset(userId, scopes));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
 
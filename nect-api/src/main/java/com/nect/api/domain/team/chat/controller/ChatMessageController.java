@@ -40,6 +40,17 @@ public class ChatMessageController {
     }
 
 
+    // 재접속 시 놓친 메시지 조회
+    @GetMapping("/rooms/{room_id}/messages/replay")
+    public ApiResponse<ChatRoomMessagesResponseDto> replayMessages(
+            @PathVariable Long room_id,
+            @RequestParam Long lastMessage_id,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        Long currentUserId = userDetails.getUserId();
+        ChatRoomMessagesResponseDto messages = chatService.replayMessages(room_id, currentUserId, lastMessage_id);
+        return ApiResponse.ok(messages);
+    }
 
     @GetMapping("/projects/{projectId}/rooms")
     public ApiResponse<List<ChatRoomListDto>> getProjectChatRooms(
@@ -100,7 +111,7 @@ public class ChatMessageController {
     public ApiResponse<ChatMessageSearchResponseDto> searchMessages(
             @PathVariable Long room_id,
             @RequestParam String keyword,  // 검색어만
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Long lastMessage_id,
             @RequestParam(defaultValue = "20") int size,
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
@@ -110,7 +121,7 @@ public class ChatMessageController {
                 room_id,
                 currentUserId,
                 keyword,
-                page,
+                lastMessage_id,
                 size
         );
 
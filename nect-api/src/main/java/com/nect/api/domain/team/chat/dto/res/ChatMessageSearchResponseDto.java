@@ -15,6 +15,9 @@ import java.util.List;
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public class ChatMessageSearchResponseDto {
     private String keyword;
-    private Integer totalCount;
     private List<ChatMessageDto> messages;
+
+    // 다음 페이지 요청 시 lastMessage_id로 전달 (없으면 null)
+    private Long nextCursor;
+    private Boolean hasNext;
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.nect.api.domain.team.chat.infra;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * 쓰기 지연 모드에서 채팅 메시지 ID를 발급합니다.
+ * chat_message.id IDENTITY 컬럼이 쓰는 DB 시퀀스에서 메시지마다 nextval로 받으므로,
+ * 노드나 저장 방식(즉시 저장/쓰기 지연)과 관계없이 ID가 발급 순서대로 증가합니다.
+ * (노드별로 블록을 미리 예약하면 노드 사이 ID 순서가 뒤섞여 ID 순 정렬과 읽음 위치 비교가 틀어짐)
+ */
+@Component
+public class ChatMessageIdAllocator {
+
+    private static final Pattern SEQUENCE_NAME = Pattern.compile("[A-Za-z0-9_.]+");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextIdSql;
+
+    public ChatMessageIdAllocator(JdbcTemplate jdbcTemplate,
+                                  @Value("${chat.write-behind.id-sequence:chat_message_id_seq}") String sequence) {
+        if (!SEQUENCE_NAME.matcher(sequence).matches()) {
+            throw new IllegalArgumentException("채팅 메시지 ID 시퀀스 이름 오류 - " + sequence);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.nextIdSql = "SELECT nextval('" + sequence + "')";
+    }
+
+    public long nextId() {
+        Long id = jdbcTemplate.queryForObject(nextIdSql, Long.class);
+        if (id == null) {
+            throw new IllegalStateException("채팅 메시지 ID 발급 실패");
+        }
+        return id;
+    }
+}
@@ -0,0 +1,78 @@
+package com.nect.api.domain.team.chat.infra;
+
+import com.nect.api.domain.team.chat.dto.req.ChatMessageDto;
+import com.nect.api.domain.team.chat.dto.res.ChatFileUploadResponseDto;
+import com.nect.api.global.infra.redis.codec.PayloadReader;
+import com.nect.api.global.infra.redis.codec.PayloadSchema;
+import com.nect.api.global.infra.redis.codec.PayloadWriter;
+import com.nect.core.entity.team.chat.enums.MessageType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// 채팅 메시지 바이너리 배치 (필드 순서 변경 금지, 추가는 뒤에)
+@Component
+public class ChatMessagePayloadSchema implements PayloadSchema<ChatMessageDto> {
+
+    public static final int TYPE_ID = 1;
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public Class<ChatMessageDto> type() {
+        return ChatMessageDto.class;
+    }
+
+    @Override
+    public void write(ChatMessageDto message, PayloadWriter writer) {
+        writer.writeLong(message.getMessageId());
+        writer.writeLong(message.getUserId());
+        writer.writeLong(message.getRoomId());
+        writer.writeString(message.getUserName());
+        writer.writeString(message.getProfileImage());
+        writer.writeString(message.getContent());
+        writer.writeEnum(message.getMessageType());
+        writer.writeBoolean(message.getIsPinned());
+        writer.writeDateTime(message.getCreatedAt());
+        writer.writeInt(message.getReadCount());
+
+        ChatFileUploadResponseDto fileInfo = message.getFileInfo();
+        writer.writeBoolean(fileInfo != null);
+        if (fileInfo != null) {
+            writer.writeLong(fileInfo.fileId());
+            writer.writeString(fileInfo.fileName());
+            writer.writeString(fileInfo.fileUrl());
+            writer.writeLong(fileInfo.fileSize());
+            writer.writeString(fileInfo.fileType());
+        }
+    }
+
+    @Override
+    public ChatMessageDto read(PayloadReader reader) throws IOException {
+        ChatMessageDto.ChatMessageDtoBuilder builder = ChatMessageDto.builder()
+                .messageId(reader.readLong())
+                .userId(reader.readLong())
+                .roomId(reader.readLong())
+                .userName(reader.readString())
+                .profileImage(reader.readString())
+                .content(reader.readString())
+                .messageType(reader.readEnum(MessageType.class))
+                .isPinned(reader.readBoolean())
+                .createdAt(reader.readDateTime())
+                .readCount(reader.readInt());
+
+        if (Boolean.TRUE.equals(reader.readBoolean())) {
+            builder.fileInfo(new ChatFileUploadResponseDto(
+                    reader.readLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readLong(),
+                    reader.readString()
+            ));
+        }
+        return builder.build();
+    }
+}
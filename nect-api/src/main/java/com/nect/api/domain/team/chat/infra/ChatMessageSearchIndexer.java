@@ -0,0 +1,104 @@
+package com.nect.api.domain.team.chat.infra;
+
+import com.nect.api.domain.team.chat.util.ChatSearchTokenizer;
+import com.nect.core.repository.team.chat.ChatMessageTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅 메시지 검색 색인(chat_message_token)을 관리합니다.
+ * 메시지 저장과 같은 트랜잭션에서 bigram 토큰을 JDBC 배치로 추가하고,
+ * 색인 도입 이전 메시지를 위한 전체 재색인 작업을 제공합니다.
+ */
+@Component
+@Slf4j
+public class ChatMessageSearchIndexer {
+
+    private static final String INSERT_TOKEN_SQL =
+            "INSERT INTO chat_message_token (chat_room_id, token, message_id) VALUES (?, ?, ?)";
+
+    private static final String SELECT_TEXT_MESSAGES_SQL =
+            "SELECT id, chat_room_id, content FROM chat_message " +
+            "WHERE message_type = 'TEXT' AND id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatMessageTokenRepository chatMessageTokenRepository;
+    private final int rebuildChunkSize;
+
+    public ChatMessageSearchIndexer(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    ChatMessageTokenRepository chatMessageTokenRepository,
+                                    @Value("${chat.search.rebuild-chunk-size:1000}") int rebuildChunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chatMessageTokenRepository = chatMessageTokenRepository;
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    public void index(Long messageId, Long roomId, String content) {
+        indexAll(List.of(new IndexEntry(messageId, roomId, content)));
+    }
+
+    // 호출 측 트랜잭션 안에서 실행
+    public void indexAll(List<IndexEntry> entries) {
+        List<Object[]> rows = new ArrayList<>();
+        for (IndexEntry entry : entries) {
+            for (String token : ChatSearchTokenizer.tokenize(entry.content())) {
+                rows.add(new Object[]{entry.roomId(), token, entry.messageId()});
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, rows);
+        }
+    }
+
+    public void deleteRoom(Long roomId) {
+        chatMessageTokenRepository.deleteByChatRoomId(roomId);
+    }
+
+    /**
+     * 전체 텍스트 메시지를 ID 순서로 나눠 다시 색인합니다.
+     * 청크마다 기존 토큰을 지우고 새로 넣으므로 중간에 실패해도 다시 실행하면 됩니다.
+     */
+    public long rebuild() {
+        long cursor = 0L;
+        long indexed = 0L;
+
+        while (true) {
+            long from = cursor;
+            List<IndexEntry> chunk = jdbcTemplate.query(SELECT_TEXT_MESSAGES_SQL,
+                    (rs, rowNum) -> new IndexEntry(rs.getLong("id"), rs.getLong("chat_room_id"), rs.getString("content")),
+                    from, rebuildChunkSize);
+
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                chatMessageTokenRepository.deleteByMessageIdIn(chunk.stream().map(IndexEntry::messageId).toList());
+                indexAll(chunk);
+            });
+
+            indexed += chunk.size();
+            cursor = chunk.get(chunk.size() - 1).messageId();
+
+            if (chunk.size() < rebuildChunkSize) {
+                break;
+            }
+        }
+
+        log.info("채팅 검색 색인 재구성 완료 - messages: {}", indexed);
+        return indexed;
+    }
+
+    public record IndexEntry(Long messageId, Long roomId, String content) {
+    }
+}
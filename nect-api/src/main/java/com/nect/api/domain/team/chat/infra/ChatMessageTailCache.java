@@ -0,0 +1,393 @@
+package com.nect.api.domain.team.chat.infra;
+
+import com.nect.api.domain.team.chat.dto.req.ChatMessageDto;
+import com.nect.api.global.infra.redis.RedisStreamReplayReader;
+import com.nect.core.repository.team.chat.ChatMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅방별 최근 메시지(hot tail) 캐시.
+ * 공유 계층은 발행 시 함께 쌓이는 Redis 재전송 스트림이고, 노드 로컬에는 방마다 최근 roomCapacity개를 보관합니다.
+ * 로컬 사본은 fan-out으로 받은 메시지를 이어 붙여 갱신하며, localTtl이 지나면 Redis에서 다시 읽습니다.
+ *
+ * 캐시는 가장 오래된 보관 메시지 ID 이상 구간의 메시지를 모두 가지고 있을 때만 응답하고,
+ * 그보다 오래된 페이지는 DB로 넘깁니다.
+ *
+ * 메시지는 ID 순이 아니라 커밋/발행 순으로 도착하므로, 보관 구간 안에 아직 도착하지 않은(또는 적재 범위 밖에서 발행된) ID가 있을 수 있습니다.
+ * 그래서 DB 메시지 수와 맞춰 본 구간(contiguity watermark)만 그대로 응답하고,
+ * 확인되지 않은 구간은 DB에서 해당 구간의 수만 세어(인덱스 범위) 캐시와 다르면 DB로 넘깁니다.
+ *
+ * 발행 후 바뀐 메시지 정보(공지 여부, 삭제된 첨부파일, 프로필 이미지)는 재전송 스트림을 고칠 수 없으므로
+ * 커밋 후 방별 변경 기록(Redis 해시)에 남기고 로컬 사본을 비웁니다. Redis에서 다시 읽을 때 변경 기록을 덮어써 적용하며,
+ * 다른 노드의 로컬 사본은 localTtl이 지나 다시 읽을 때 반영됩니다.
+ */
+@Component
+@Slf4j
+public class ChatMessageTailCache {
+
+    private static final String OVERRIDE_KEY_PREFIX = "chat:tail:override:";
+    private static final Duration OVERRIDE_TTL = Duration.ofHours(24);
+
+    // 변경 기록 필드: pinned:{messageId}, file:{messageId}, profile:{userId}
+    private static final String PINNED_FIELD = "pinned:";
+    private static final String FILE_FIELD = "file:";
+    private static final String PROFILE_FIELD = "profile:";
+    private static final String FILE_DELETED = "deleted";
+
+    // DTO 1개의 고정 비용 추정치 (문자열 내용은 별도 계산)
+    private static final long BASE_ENTRY_BYTES = 256;
+
+    private final RedisStreamReplayReader redisStreamReplayReader;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+    private final boolean enabled;
+    private final int roomCapacity;
+    private final int maxRooms;
+    private final long maxBytes;
+    private final long localTtlMillis;
+
+    // accessOrder=true: 조회 순서 기준 LRU
+    private final LinkedHashMap<Long, RoomTail> rooms = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder gaps = new LongAdder();
+    private final LongAdder redisLoads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ChatMessageTailCache(RedisStreamReplayReader redisStreamReplayReader,
+                                RedisTemplate<String, String> redisTemplate,
+                                ChatMessageRepository chatMessageRepository,
+                                @Value("${chat.tail-cache.enabled:true}") boolean enabled,
+                                @Value("${chat.tail-cache.room-capacity:100}") int roomCapacity,
+                                @Value("${chat.tail-cache.max-rooms:2000}") int maxRooms,
+                                @Value("${chat.tail-cache.max-bytes:67108864}") long maxBytes,
+                                @Value("${chat.tail-cache.local-ttl-seconds:30}") long localTtlSeconds) {
+        this.redisStreamReplayReader = redisStreamReplayReader;
+        this.redisTemplate = redisTemplate;
+        this.chatMessageRepository = chatMessageRepository;
+        this.enabled = enabled;
+        this.roomCapacity = Math.min(roomCapacity, ChatRedisMessageHandler.REPLAY_LENGTH);
+        this.maxRooms = maxRooms;
+        this.maxBytes = maxBytes;
+        this.localTtlMillis = localTtlSeconds * 1000;
+    }
+
+    /**
+     * lastMessageId 미만의 최신 size개 (오래된 순, 복사본).
+     * 캐시 구간만으로 답할 수 없으면 null.
+     */
+    public List<ChatMessageDto> findPage(Long roomId, Long lastMessageId, int size) {
+        if (!enabled) {
+            return null;
+        }
+
+        List<ChatMessageDto> page = readLocal(roomId, lastMessageId, size);
+        if (page == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return page;
+    }
+
+    // fan-out으로 받은 메시지 반영 (로컬 사본이 있는 방만)
+    public void append(Long roomId, ChatMessageDto message) {
+        if (!enabled || message.getMessageId() == null) {
+            return;
+        }
+        synchronized (rooms) {
+            RoomTail tail = rooms.get(roomId);
+            if (tail == null) {
+                return;
+            }
+            totalBytes += tail.add(message, roomCapacity);
+            evictIfNeeded();
+        }
+    }
+
+    // 조회한 DB 페이지가 방 전체이고 모두 캐시에 있으면 더 오래된 메시지가 없다고 표시
+    public void markCompleteIfCovers(Long roomId, Collection<Long> messageIds) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (rooms) {
+            RoomTail tail = rooms.get(roomId);
+            if (tail != null && tail.messages.keySet().containsAll(messageIds)) {
+                tail.complete = true;
+            }
+        }
+    }
+
+    // 공지 등록/해제 (커밋 후 호출)
+    public void recordPinned(Long roomId, Long messageId, boolean isPinned) {
+        recordOverride(roomId, PINNED_FIELD + messageId, Boolean.toString(isPinned));
+    }
+
+    // 첨부파일 삭제: 파일 메시지는 DB 조회와 같이 fileInfo 없이 응답 (커밋 후 호출)
+    public void recordFileDeleted(Long roomId, Long messageId) {
+        recordOverride(roomId, FILE_FIELD + messageId, FILE_DELETED);
+    }
+
+    // 프로필 이미지 변경: 사용자가 속한 방마다 기록 (커밋 후 호출)
+    public void recordProfileImage(Collection<Long> roomIds, Long userId, String profileImage) {
+        for (Long roomId : roomIds) {
+            recordOverride(roomId, PROFILE_FIELD + userId, profileImage);
+        }
+    }
+
+    public void evict(Long roomId) {
+        synchronized (rooms) {
+            RoomTail removed = rooms.remove(roomId);
+            if (removed != null) {
+                totalBytes -= removed.bytes;
+            }
+        }
+    }
+
+    // 변경 기록을 남긴 뒤 로컬 사본을 비워 다음 조회 때 기록이 반영된 상태로 다시 읽음
+    private void recordOverride(Long roomId, String field, String value) {
+        String key = OVERRIDE_KEY_PREFIX + roomId;
+        try {
+            redisTemplate.opsForHash().put(key, field, value);
+            redisTemplate.expire(key, OVERRIDE_TTL);
+        } catch (RuntimeException e) {
+            log.warn("채팅 캐시 변경 기록 실패 - roomId: {}, field: {}", roomId, field, e);
+        }
+        evict(roomId);
+    }
+
+    public Stats stats() {
+        synchronized (rooms) {
+            return new Stats(hits.sum(), misses.sum(), gaps.sum(), redisLoads.sum(), evictions.sum(), rooms.size(), totalBytes);
+        }
+    }
+
+    private List<ChatMessageDto> readLocal(Long roomId, Long lastMessageId, int size) {
+        RoomTail tail;
+        synchronized (rooms) {
+            tail = rooms.get(roomId);
+            if (tail != null && System.currentTimeMillis() - tail.loadedAt > localTtlMillis) {
+                rooms.remove(roomId);
+                totalBytes -= tail.bytes;
+                tail = null;
+            }
+        }
+
+        if (tail == null) {
+            tail = loadFromRedis(roomId);
+            if (tail == null) {
+                return null;
+            }
+            synchronized (rooms) {
+                RoomTail existing = rooms.get(roomId);
+                if (existing != null) {
+                    tail = existing;
+                } else {
+                    rooms.put(roomId, tail);
+                    totalBytes += tail.bytes;
+                    evictIfNeeded();
+                }
+            }
+        }
+
+        TailPage page;
+        synchronized (rooms) {
+            page = tail.page(lastMessageId, size);
+        }
+        if (page == null || page.verified()) {
+            return page == null ? null : page.messages();
+        }
+
+        // 확인되지 않은 구간: DB의 메시지 수와 같으면 빠진 ID가 없으므로 확인 구간으로 기록
+        long stored;
+        try {
+            stored = chatMessageRepository.countInIdRange(roomId, page.fromId(), page.toId());
+        } catch (RuntimeException e) {
+            log.warn("채팅 캐시 구간 확인 실패 - roomId: {}", roomId, e);
+            return null;
+        }
+        if (stored != page.messages().size()) {
+            gaps.increment();
+            return null;
+        }
+        synchronized (rooms) {
+            tail.markVerified(page.fromId(), page.toId());
+        }
+        return page.messages();
+    }
+
+    private RoomTail loadFromRedis(Long roomId) {
+        List<ChatMessageDto> recent;
+        Map<Object, Object> overrides;
+        try {
+            recent = new ArrayList<>(redisStreamReplayReader.readRecent(
+                    ChatRedisMessageHandler.CHANNEL_PREFIX + roomId, roomCapacity, ChatMessageDto.class));
+            overrides = redisTemplate.opsForHash().entries(OVERRIDE_KEY_PREFIX + roomId);
+        } catch (RuntimeException e) {
+            log.warn("채팅 캐시 Redis 조회 실패 - roomId: {}", roomId, e);
+            return null;
+        }
+        redisLoads.increment();
+
+        if (!overrides.isEmpty()) {
+            recent.forEach(message -> applyOverrides(message, overrides));
+        }
+
+        // 스트림은 발행 순서이므로 ID 순으로 정렬해 적재 (적재 범위 밖에서 먼저 발행된 ID는 구간 확인에서 걸러짐)
+        recent.sort(Comparator.comparing(ChatMessageDto::getMessageId));
+        RoomTail tail = new RoomTail(System.currentTimeMillis());
+        recent.forEach(message -> tail.add(message, roomCapacity));
+        return tail;
+    }
+
+    private static void applyOverrides(ChatMessageDto message, Map<Object, Object> overrides) {
+        Object pinned = overrides.get(PINNED_FIELD + message.getMessageId());
+        if (pinned != null) {
+            message.setIsPinned(Boolean.valueOf(pinned.toString()));
+        }
+        if (overrides.containsKey(FILE_FIELD + message.getMessageId())) {
+            message.setFileInfo(null);
+        }
+        Object profileImage = overrides.get(PROFILE_FIELD + message.getUserId());
+        if (profileImage != null) {
+            message.setProfileImage(profileImage.toString());
+        }
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Long, RoomTail>> it = rooms.entrySet().iterator();
+        while ((rooms.size() > maxRooms || totalBytes > maxBytes) && it.hasNext()) {
+            totalBytes -= it.next().getValue().bytes;
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private static long estimateBytes(ChatMessageDto message) {
+        long bytes = BASE_ENTRY_BYTES;
+        if (message.getContent() != null) {
+            bytes += message.getContent().length() * 2L;
+        }
+        if (message.getFileInfo() != null && message.getFileInfo().fileUrl() != null) {
+            bytes += message.getFileInfo().fileUrl().length() * 2L;
+        }
+        return bytes;
+    }
+
+    private static ChatMessageDto copyOf(ChatMessageDto message) {
+        return ChatMessageDto.builder()
+                .messageId(message.getMessageId())
+                .userId(message.getUserId())
+                .roomId(message.getRoomId())
+                .userName(message.getUserName())
+                .profileImage(message.getProfileImage())
+                .content(message.getContent())
+                .messageType(message.getMessageType())
+                .isPinned(message.getIsPinned())
+                .createdAt(message.getCreatedAt())
+                .readCount(message.getReadCount())
+                .fileInfo(message.getFileInfo())
+                .build();
+    }
+
+    private static class RoomTail {
+        private final NavigableMap<Long, ChatMessageDto> messages = new TreeMap<>();
+        private final long loadedAt;
+        private long bytes;
+        // 보관 구간보다 오래된 메시지가 방에 없음
+        private boolean complete;
+        // DB 메시지 수와 맞춰 본 연속 구간 [verifiedFrom, verifiedThrough] (없으면 비어 있음)
+        private long verifiedFrom = Long.MAX_VALUE;
+        private long verifiedThrough = Long.MIN_VALUE;
+
+        private RoomTail(long loadedAt) {
+            this.loadedAt = loadedAt;
+        }
+
+        // 추가된 바이트 수 (제거분 차감) 반환
+        private long add(ChatMessageDto message, int capacity) {
+            Long id = message.getMessageId();
+            if (messages.containsKey(id)) {
+                return 0;
+            }
+            // 보관 구간보다 오래된 메시지는 연속성을 보장할 수 없으므로 버림
+            if (!complete && !messages.isEmpty() && id < messages.firstKey()) {
+                return 0;
+            }
+
+            long before = bytes;
+            messages.put(id, message);
+            bytes += estimateBytes(message);
+            while (messages.size() > capacity) {
+                bytes -= estimateBytes(messages.pollFirstEntry().getValue());
+                complete = false;
+            }
+            return bytes - before;
+        }
+
+        private TailPage page(Long lastMessageId, int size) {
+            NavigableMap<Long, ChatMessageDto> window = lastMessageId == null
+                    ? messages
+                    : messages.headMap(lastMessageId, false);
+
+            if (window.size() < size && !complete) {
+                return null;
+            }
+
+            List<ChatMessageDto> page = new ArrayList<>(Math.min(size, window.size()));
+            for (ChatMessageDto message : window.descendingMap().values()) {
+                if (page.size() == size) {
+                    break;
+                }
+                page.add(copyOf(message));
+            }
+            Collections.reverse(page);
+
+            // 페이지가 대신하는 ID 구간: 페이지 첫 ID(방 전체면 0) ~ 요청 커서 직전 (아직 도착하지 않은 최신 구간 제외)
+            long upper = messages.isEmpty() ? 0L : messages.lastKey();
+            long fromId = page.size() < size ? 0L : page.get(0).getMessageId();
+            long toId = lastMessageId == null ? upper : Math.min(lastMessageId - 1, upper);
+            boolean verified = fromId >= verifiedFrom && toId <= verifiedThrough;
+            return new TailPage(page, fromId, toId, verified);
+        }
+
+        // 확인한 구간을 기존 구간과 합침 (떨어져 있으면 새 구간으로 교체)
+        private void markVerified(long fromId, long toId) {
+            boolean connected = verifiedFrom <= verifiedThrough
+                    && fromId <= verifiedThrough + 1 && toId + 1 >= verifiedFrom;
+            if (connected) {
+                verifiedFrom = Math.min(verifiedFrom, fromId);
+                verifiedThrough = Math.max(verifiedThrough, toId);
+            } else {
+                verifiedFrom = fromId;
+                verifiedThrough = toId;
+            }
+        }
+    }
+
+    // messages: 응답할 페이지, [fromId, toId]: 페이지가 대신하는 ID 구간, verified: 이미 DB와 맞춰 본 구간인지
+    private record TailPage(List<ChatMessageDto> messages, long fromId, long toId, boolean verified) {
+    }
+
+    // gaps: 구간 확인에서 빠진 메시지가 있어 DB로 넘긴 수
+    public record Stats(long hits, long misses, long gaps, long redisLoads, long evictions, int rooms, long bytes) {
+    }
+}
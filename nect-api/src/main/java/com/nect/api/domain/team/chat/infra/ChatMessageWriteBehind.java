@@ -0,0 +1,302 @@
+package com.nect.api.domain.team.chat.infra;
+
+import com.nect.api.domain.team.chat.dto.req.ChatMessageDto;
+import com.nect.api.global.infra.redis.RedisPublisher;
+import com.nect.core.entity.team.chat.ChatRoomSummary;
+import com.nect.core.entity.team.chat.enums.MessageType;
+import com.nect.core.repository.team.chat.ChatRoomSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 쓰기 지연(write-behind) 파이프라인.
+ * 메시지는 큐에 쌓이고, 백그라운드 스레드가 ID 순서대로 JDBC 배치 INSERT 합니다.
+ * Redis 발행은 배치가 커밋된 뒤에만 하므로, 구독자가 받은 메시지는 항상 DB에서도 조회됩니다.
+ * 큐가 가득 차면 offerTimeout 동안 대기한 뒤 호출 스레드에서 바로 저장하며(backpressure),
+ * 정상 종료 시에는 남은 메시지를 모두 저장한 뒤 멈춥니다.
+ */
+@Component
+@Slf4j
+public class ChatMessageWriteBehind implements SmartLifecycle {
+
+    private static final String INSERT_MESSAGE_SQL =
+            "INSERT INTO chat_message (id, content, message_type, is_pinned, user_id, chat_room_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_LAST_READ_SQL =
+            "UPDATE chat_room_user SET last_read_message_id = ?, last_read_at = ? " +
+            "WHERE chat_room_id = ? AND user_id = ? " +
+            "AND (last_read_message_id IS NULL OR last_read_message_id < ?)";
+
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatRoomSummaryRepository chatRoomSummaryRepository;
+    private final ChatMessageIdAllocator idAllocator;
+    private final ChatMessageSearchIndexer chatMessageSearchIndexer;
+    private final RedisPublisher redisPublisher;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+    private final BlockingQueue<PendingChatMessage> queue;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ChatMessageWriteBehind(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  ChatRoomSummaryRepository chatRoomSummaryRepository,
+                                  ChatMessageIdAllocator idAllocator,
+                                  ChatMessageSearchIndexer chatMessageSearchIndexer,
+                                  RedisPublisher redisPublisher,
+                                  @Value("${chat.write-behind.enabled:false}") boolean enabled,
+                                  @Value("${chat.write-behind.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${chat.write-behind.batch-size:200}") int batchSize,
+                                  @Value("${chat.write-behind.flush-interval-ms:50}") long flushIntervalMillis,
+                                  @Value("${chat.write-behind.offer-timeout-ms:100}") long offerTimeoutMillis,
+                                  @Value("${chat.write-behind.shutdown-timeout-ms:30000}") long shutdownTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chatRoomSummaryRepository = chatRoomSummaryRepository;
+        this.idAllocator = idAllocator;
+        this.chatMessageSearchIndexer = chatMessageSearchIndexer;
+        this.redisPublisher = redisPublisher;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long nextId() {
+        return idAllocator.nextId();
+    }
+
+    // 큐에 적재 (가득 차 있으면 잠시 대기 후 호출 스레드에서 직접 저장)
+    public void enqueue(PendingChatMessage message) {
+        if (running) {
+            try {
+                if (queue.offer(message, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+                log.warn("채팅 쓰기 지연 큐 포화 - 직접 저장합니다. messageId: {}", message.id());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writeNow(message);
+    }
+
+    // 즉시 저장 (호출 측 트랜잭션이 있으면 참여하고, 발행은 그 트랜잭션 커밋 후)
+    public void writeNow(PendingChatMessage message) {
+        transactionTemplate.executeWithoutResult(status -> write(List.of(message)));
+        afterCommit(() -> publish(List.of(message)));
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runFlusher, "chat-write-behind");
+        flusher.start();
+        log.info("채팅 메시지 쓰기 지연 모드 시작 - batchSize: {}, flushInterval: {}ms", batchSize, flushIntervalMillis);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 제한 시간 안에 못 비운 메시지는 현재 스레드에서 저장
+        List<PendingChatMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flushWithRetry(remaining);
+        }
+        log.info("채팅 메시지 쓰기 지연 모드 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버가 요청 수신을 멈춘 뒤에 종료되도록 낮은 phase 사용
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void runFlusher() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingChatMessage first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingChatMessage> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flushWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void flushWithRetry(List<PendingChatMessage> batch) {
+        for (int attempt = 1; attempt <= MAX_FLUSH_ATTEMPTS; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(batch));
+                publish(batch);
+                return;
+            } catch (Exception e) {
+                log.warn("채팅 메시지 배치 저장 실패 - size: {}, attempt: {}", batch.size(), attempt, e);
+                sleepQuietly(100L * attempt);
+            }
+        }
+
+        // 배치 단위로 계속 실패하면 한 건씩 저장해 실패 건만 격리
+        for (PendingChatMessage message : batch) {
+            try {
+                writeNow(message);
+            } catch (Exception e) {
+                log.error("채팅 메시지 저장 실패 - messageId: {}, roomId: {}, userId: {}",
+                        message.id(), message.roomId(), message.userId(), e);
+            }
+        }
+    }
+
+    private void write(List<PendingChatMessage> batch) {
+        List<PendingChatMessage> ordered = new ArrayList<>(batch);
+        ordered.sort(Comparator.comparing(PendingChatMessage::id));
+
+        // 1. 메시지 INSERT
+        jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, ordered, ordered.size(), (ps, message) -> {
+            Timestamp createdAt = Timestamp.valueOf(message.createdAt());
+            ps.setLong(1, message.id());
+            ps.setString(2, message.content());
+            ps.setString(3, message.messageType().name());
+            ps.setBoolean(4, false);
+            ps.setLong(5, message.userId());
+            ps.setLong(6, message.roomId());
+            ps.setTimestamp(7, createdAt);
+            ps.setTimestamp(8, createdAt);
+        });
+
+        // 2. 검색 색인
+        chatMessageSearchIndexer.indexAll(ordered.stream()
+                .filter(message -> message.messageType() == MessageType.TEXT)
+                .map(message -> new ChatMessageSearchIndexer.IndexEntry(message.id(), message.roomId(), message.content()))
+                .toList());
+
+        // 3. 발신자 읽음 위치 (채팅방+발신자별 마지막 메시지만)
+        Map<String, PendingChatMessage> latestBySender = new LinkedHashMap<>();
+        Map<Long, PendingChatMessage> latestByRoom = new HashMap<>();
+        for (PendingChatMessage message : ordered) {
+            latestBySender.put(message.roomId() + ":" + message.userId(), message);
+            latestByRoom.put(message.roomId(), message);
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_LAST_READ_SQL, new ArrayList<>(latestBySender.values()), latestBySender.size(),
+                (ps, message) -> {
+                    ps.setLong(1, message.id());
+                    ps.setTimestamp(2, Timestamp.valueOf(message.createdAt()));
+                    ps.setLong(3, message.roomId());
+                    ps.setLong(4, message.userId());
+                    ps.setLong(5, message.id());
+                });
+
+        // 4. 채팅방 요약
+        for (PendingChatMessage message : latestByRoom.values()) {
+            chatRoomSummaryRepository.updateLastMessage(
+                    message.roomId(),
+                    message.id(),
+                    ChatRoomSummary.toPreview(message.content()),
+                    message.messageType(),
+                    message.createdAt());
+        }
+    }
+
+    // 저장이 끝난 메시지만 ID 순서대로 발행 (발행 실패는 저장된 메시지에 영향을 주지 않음)
+    private void publish(List<PendingChatMessage> saved) {
+        saved.stream()
+                .filter(message -> message.event() != null)
+                .sorted(Comparator.comparing(PendingChatMessage::id))
+                .forEach(message -> {
+                    try {
+                        redisPublisher.publish("chatroom:" + message.roomId(), message.event());
+                    } catch (Exception e) {
+                        log.warn("채팅 메시지 발행 실패 - messageId: {}, roomId: {}", message.id(), message.roomId(), e);
+                    }
+                });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public record PendingChatMessage(
+            Long id,
+            Long roomId,
+            Long userId,
+            String content,
+            MessageType messageType,
+            LocalDateTime createdAt,
+            ChatMessageDto event // 저장 후 발행할 메시지 (null이면 발행하지 않음)
+    ) {
+    }
+}
@@ -0,0 +1,233 @@
+package com.nect.api.domain.team.chat.infra;
+
+import com.nect.api.domain.team.chat.util.ReadWatermarks;
+import com.nect.core.repository.team.chat.ChatRoomUserRepository.ReadWatermarkRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방 읽음 위치(lastReadMessageId)의 Redis 사본.
+ * 읽음 처리는 방별 해시에 큰 값만 반영(max-only)하고 방 ID를 dirty 집합에 넣어 두며,
+ * 스케줄러가 dirty 방을 꺼내 chat_room_user에 배치로 반영합니다.
+ * readCount, 새 메시지 여부 계산은 DB 값과 Redis 값 중 큰 쪽을 사용합니다.
+ */
+@Component
+@Slf4j
+public class ChatReadReceiptStore {
+
+    private static final String READ_KEY_PREFIX = "chat:read:";
+    private static final String READ_AT_KEY_PREFIX = "chat:read-at:";
+    private static final String DIRTY_ROOMS_KEY = "chat:read-dirty";
+
+    // KEYS: 읽음 위치 해시, 읽은 시각 해시, dirty 집합 / ARGV: userId, messageId, epochMillis, roomId, ttlSeconds
+    private static final DefaultRedisScript<Long> MARK_READ_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if current and tonumber(current) >= tonumber(ARGV[2]) then
+              return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            redis.call('EXPIRE', KEYS[2], ARGV[5])
+            redis.call('SADD', KEYS[3], ARGV[4])
+            return 1
+            """, Long.class);
+
+    private static final String UPDATE_LAST_READ_SQL =
+            "UPDATE chat_room_user SET last_read_message_id = ?, last_read_at = ? " +
+            "WHERE chat_room_id = ? AND user_id = ? " +
+            "AND (last_read_message_id IS NULL OR last_read_message_id < ?)";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final long ttlSeconds;
+
+    public ChatReadReceiptStore(RedisTemplate<String, String> redisTemplate,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${chat.read-receipt.ttl-hours:72}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ttlSeconds = ttlHours * 3600;
+    }
+
+    // 읽음 처리 (현재 값보다 클 때만 반영)
+    public void markRead(Long roomId, Long userId, Long messageId) {
+        if (messageId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        try {
+            redisTemplate.execute(MARK_READ_SCRIPT,
+                    List.of(READ_KEY_PREFIX + roomId, READ_AT_KEY_PREFIX + roomId, DIRTY_ROOMS_KEY),
+                    userId.toString(), messageId.toString(), Long.toString(now), roomId.toString(), Long.toString(ttlSeconds));
+        } catch (RuntimeException e) {
+            // Redis 장애 시 DB에 바로 반영
+            log.warn("읽음 위치 Redis 반영 실패, DB에 직접 저장 - roomId: {}, userId: {}", roomId, userId, e);
+            requiresNew.executeWithoutResult(status ->
+                    jdbcTemplate.update(UPDATE_LAST_READ_SQL, messageId, toTimestamp(now), roomId, userId, messageId));
+        }
+    }
+
+    // DB 읽음 위치에 Redis 값을 겹쳐 멤버 전체의 워터마크 생성
+    public ReadWatermarks watermarks(Long roomId, List<ReadWatermarkRow> rows) {
+        Map<Object, Object> hot = readHash(READ_KEY_PREFIX + roomId);
+
+        List<Long> lastReadIds = new ArrayList<>(rows.size());
+        for (ReadWatermarkRow row : rows) {
+            lastReadIds.add(max(row.getLastReadMessageId(), parse(hot.get(row.getUserId().toString()))));
+        }
+        return ReadWatermarks.of(lastReadIds);
+    }
+
+    // 한 사용자의 여러 방 읽음 위치 (파이프라인 1회)
+    public Map<Long, Long> findLastReadByRooms(Long userId, List<Long> roomIds) {
+        Map<Long, Long> result = new HashMap<>();
+        if (roomIds.isEmpty()) {
+            return result;
+        }
+
+        byte[] field = userId.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long roomId : roomIds) {
+                    connection.hashCommands().hGet((READ_KEY_PREFIX + roomId).getBytes(StandardCharsets.UTF_8), field);
+                }
+                return null;
+            });
+            for (int i = 0; i < roomIds.size(); i++) {
+                Long value = parse(values.get(i));
+                if (value != null) {
+                    result.put(roomIds.get(i), value);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("읽음 위치 Redis 조회 실패, DB 값 사용 - userId: {}", userId, e);
+        }
+        return result;
+    }
+
+    public void remove(Long roomId, Long userId) {
+        try {
+            redisTemplate.opsForHash().delete(READ_KEY_PREFIX + roomId, userId.toString());
+            redisTemplate.opsForHash().delete(READ_AT_KEY_PREFIX + roomId, userId.toString());
+        } catch (RuntimeException e) {
+            log.warn("읽음 위치 Redis 삭제 실패 - roomId: {}, userId: {}", roomId, userId, e);
+        }
+    }
+
+    public void deleteRoom(Long roomId) {
+        try {
+            redisTemplate.delete(List.of(READ_KEY_PREFIX + roomId, READ_AT_KEY_PREFIX + roomId));
+        } catch (RuntimeException e) {
+            log.warn("읽음 위치 Redis 삭제 실패 - roomId: {}", roomId, e);
+        }
+    }
+
+    /**
+     * dirty 방을 최대 maxRooms개 꺼내 chat_room_user에 반영합니다.
+     * SPOP으로 꺼내므로 여러 노드가 동시에 실행해도 같은 방을 중복 처리하지 않고,
+     * 실패한 방은 dirty 집합에 다시 넣어 다음 주기에 재시도합니다.
+     */
+    public int flush(int maxRooms) {
+        List<String> roomIds = redisTemplate.opsForSet().pop(DIRTY_ROOMS_KEY, maxRooms);
+        if (roomIds == null || roomIds.isEmpty()) {
+            return 0;
+        }
+
+        int flushed = 0;
+        for (String roomId : roomIds) {
+            try {
+                flushed += flushRoom(Long.valueOf(roomId));
+            } catch (RuntimeException e) {
+                log.warn("읽음 위치 DB 반영 실패, 다음 주기에 재시도 - roomId: {}", roomId, e);
+                redisTemplate.opsForSet().add(DIRTY_ROOMS_KEY, roomId);
+            }
+        }
+        return flushed;
+    }
+
+    private int flushRoom(Long roomId) {
+        Map<Object, Object> readIds = redisTemplate.opsForHash().entries(READ_KEY_PREFIX + roomId);
+        if (readIds.isEmpty()) {
+            return 0;
+        }
+        Map<Object, Object> readAts = redisTemplate.opsForHash().entries(READ_AT_KEY_PREFIX + roomId);
+
+        List<Object[]> rows = new ArrayList<>(readIds.size());
+        readIds.forEach((userId, messageId) -> {
+            Long readAt = parse(readAts.get(userId));
+            Long id = parse(messageId);
+            rows.add(new Object[]{
+                    id,
+                    toTimestamp(readAt != null ? readAt : System.currentTimeMillis()),
+                    roomId,
+                    Long.valueOf(userId.toString()),
+                    id
+            });
+        });
+
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_LAST_READ_SQL, rows));
+        return rows.size();
+    }
+
+    private Map<Object, Object> readHash(String key) {
+        try {
+            return redisTemplate.opsForHash().entries(key);
+        } catch (RuntimeException e) {
+            log.warn("읽음 위치 Redis 조회 실패, DB 값 사용 - key: {}", key, e);
+            return Map.of();
+        }
+    }
+
+    private static Long parse(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return Long.valueOf(value.toString());
+    }
+
+    private static Long max(Long a, Long b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+    private static Timestamp toTimestamp(long epochMillis) {
+        return Timestamp.valueOf(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()));
+    }
+
+    // 마지막 메시지가 (DB, Redis 중 큰) 읽음 위치보다 뒤에 있는지
+    public static boolean hasUnread(Long lastMessageId, Long dbLastReadId, Long hotLastReadId) {
+        if (lastMessageId == null) {
+            return false;
+        }
+        Long lastReadId = max(dbLastReadId, hotLastReadId);
+        return lastReadId == null || lastMessageId > lastReadId;
+    }
+}
@@ -0,0 +1,44 @@
+package com.nect.api.domain.team.chat.infra;
+
+import com.nect.api.domain.team.chat.dto.req.ChatMessageDto;
+import com.nect.api.global.infra.redis.RedisMessageHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatRedisMessageHandler implements RedisMessageHandler<ChatMessageDto> {
+    public static final String CHANNEL_PREFIX = "chatroom:";
+
+    // 재접속 시 재전송할 수 있도록 채팅방별로 보관할 최근 메시지 수
+    public static final int REPLAY_LENGTH = 300;
+
+    private final ChatMessageTailCache chatMessageTailCache;
+
+    @Override
+    public String channelPrefix() {
+        return CHANNEL_PREFIX;
+    }
+
+    @Override
+    public int replayLength() {
+        return REPLAY_LENGTH;
+    }
+
+    @Override
+    public Class<ChatMessageDto> payloadType() {
+        return ChatMessageDto.class;
+    }
+
+    @Override
+    public void handle(String channel, ChatMessageDto chatMessage, SimpMessageSendingOperations messagingTemplate) {
+        String roomId = channel.substring(CHANNEL_PREFIX.length());
+        chatMessageTailCache.append(Long.valueOf(roomId), chatMessage);
+        String destination = "/topic/chatroom/" + roomId;
+        messagingTemplate.convertAndSend(destination, chatMessage);
+        log.debug(" WebSocket 전송 완료 - Destination: {}", destination);
+    }
+}
@@ -2,6 +2,10 @@ package com.nect.api.domain.team.chat.service;
 import com.nect.api.domain.team.chat.converter.FileConverter;
 import com.nect.api.domain.team.chat.dto.req.ChatMessageDto;
 import com.nect.api.domain.team.chat.dto.res.*;
+import com.nect.api.domain.team.chat.infra.ChatMessageTailCache;
+import com.nect.api.domain.team.chat.infra.ChatMessageWriteBehind;
+import com.nect.api.domain.team.chat.infra.ChatReadReceiptStore;
+import com.nect.api.domain.team.chat.infra.ChatMessageWriteBehind.PendingChatMessage;
 import com.nect.api.domain.team.chat.util.FileValidator;
 import com.nect.api.domain.user.enums.UserErrorCode;
 import com.nect.api.global.code.StorageErrorCode;
@@ -25,6 +29,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -47,6 +53,10 @@ public class ChatFileService {
     private final RedisPublisher redisPublisher;
     private final S3Service s3Service;
     private final ProjectUserRepository projectUserRepository;
+    private final ChatRoomSummaryService chatRoomSummaryService;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
+    private final ChatReadReceiptStore chatReadReceiptStore;
+    private final ChatMessageTailCache chatMessageTailCache;
 
 
     private String uploadDir;
@@ -68,7 +78,15 @@ public class ChatFileService {
             String fileUrl = getSafePresignedUrl(storedFileName);
 
             ChatMessage message = FileConverter.toFileMessage(chatRoom, user);
-            chatMessageRepository.save(message);
+            LocalDateTime now = LocalDateTime.now();
+            if (chatMessageWriteBehind.isEnabled()) {
+                // 파일은 ChatFile이 메시지를 참조하므로 지연 없이 같은 트랜잭션에서 저장
+                message.setId(chatMessageWriteBehind.nextId());
+                chatMessageWriteBehind.writeNow(new PendingChatMessage(
+                        message.getId(), roomId, userId, message.getContent(), message.getMessageType(), now, null));
+            } else {
+                chatMessageRepository.save(message);
+            }
 
             ChatFile chatFile = FileConverter.toFileEntity(
                     file.getOriginalFilename(),
@@ -78,20 +96,28 @@ public class ChatFileService {
                     file.getContentType(),
                     chatRoom
             );
-            chatFile.setChatMessage(message);
+            chatFile.setChatMessage(chatMessageWriteBehind.isEnabled()
+                    ? chatMessageRepository.getReferenceById(message.getId())
+                    : message);
             chatFileRepository.save(chatFile);
+            if (!chatMessageWriteBehind.isEnabled()) {
+                chatRoomSummaryService.applyMessage(message);
+            }
 
-            chatRoomUser.setLastReadMessageId(message.getId());
-            chatRoomUser.setLastReadAt(LocalDateTime.now());
+            chatReadReceiptStore.markRead(roomId, userId, message.getId());
 
             // 7. DTO 변환
             ChatMessageDto messageDto = FileConverter.toFileMessageDto(message, chatFile);
+            if (messageDto.getCreatedAt() == null) {
+                messageDto.setCreatedAt(now);
+            }
 
             int totalMembers = chatRoomUserRepository.countByChatRoomId(roomId);
             messageDto.setReadCount(totalMembers - 1);
 
+            // 메시지와 파일이 커밋된 뒤 발행
             String channel = "chatroom:" + roomId;
-            redisPublisher.publish(channel, messageDto);
+            afterCommit(() -> redisPublisher.publish(channel, messageDto));
 
             return messageDto;
 
@@ -105,10 +131,17 @@ public class ChatFileService {
     public void deleteFile(Long fileId, Long userId) {
         ChatFile chatFile = chatFileRepository.findById(fileId)
                 .orElseThrow(() -> new StorageException(StorageErrorCode.FILE_NOT_FOUND));
-        validateRoomMember(chatFile.getChatRoom().getId(), userId);
+        Long roomId = chatFile.getChatRoom().getId();
+        validateRoomMember(roomId, userId);
+        Long messageId = chatFile.getChatMessage() != null ? chatFile.getChatMessage().getId() : null;
         s3Service.deleteByFileName(chatFile.getStoredFileName());
         chatFileRepository.delete(chatFile);
 
+        // 커밋 후 캐시된 파일 메시지의 첨부파일 정보 제거
+        if (messageId != null) {
+            afterCommit(() -> chatMessageTailCache.recordFileDeleted(roomId, messageId));
+        }
+
     }
 
 
@@ -248,4 +281,17 @@ validateRoomMember(roomId, userId);
         }
         return s3Service.getPresignedGetUrl(fileName);
     }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
@@ -4,23 +4,26 @@ import com.nect.api.domain.team.chat.dto.res.ChatRoomLeaveResponseDto;
 import com.nect.api.domain.team.chat.dto.res.ChatRoomListDto;
 import com.nect.api.domain.team.chat.enums.ChatErrorCode;
 import com.nect.api.domain.team.chat.exeption.ChatException;
+import com.nect.api.domain.team.chat.infra.ChatMessageSearchIndexer;
+import com.nect.api.domain.team.chat.infra.ChatReadReceiptStore;
 import com.nect.api.global.infra.S3Service;
-import com.nect.core.entity.team.chat.ChatMessage;
 import com.nect.core.entity.team.chat.ChatRoom;
+import com.nect.core.entity.team.chat.ChatRoomSummary;
 import com.nect.core.entity.team.chat.ChatRoomUser;
 import com.nect.core.entity.team.chat.enums.MessageType;
 import com.nect.core.entity.user.User;
-import com.nect.core.repository.team.chat.ChatMessageRepository;
+import com.nect.core.repository.team.chat.ChatRoomSummaryRepository;
+import com.nect.core.repository.team.chat.ChatRoomSummaryRepository.ChatRoomListRow;
 import com.nect.core.repository.team.chat.ChatRoomUserRepository;
 import com.nect.core.repository.team.chat.ChatRoomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 
@@ -31,37 +34,30 @@ import java.util.stream.Collectors;
 public class ChatRoomService {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomUserRepository chatRoomUserRepository;
-    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomSummaryRepository chatRoomSummaryRepository;
     private final ChatService chatService;
+    private final ChatRoomSummaryService chatRoomSummaryService;
+    private final ChatMessageSearchIndexer chatMessageSearchIndexer;
+    private final ChatReadReceiptStore chatReadReceiptStore;
     private final S3Service s3Service;
 
     public List<ChatRoomListDto> getMyChatRooms(Long user_id) {
 
-        //  내가 소속된 방 멤버 정보 다 가져오기
-        List<ChatRoomUser> myMemberships = chatRoomUserRepository.findAllByUserUserId(user_id);
+        // 내가 소속된 방 + 요약 정보 한 번에 조회
+        List<ChatRoomListRow> rows = chatRoomSummaryRepository.findChatRoomListRowsByUserId(user_id);
+        Map<Long, Long> hotLastReadIds = findHotLastReadIds(user_id, rows);
 
-        return myMemberships.stream().map(member -> {
+        return rows.stream().map(row -> {
 
-            ChatRoom room = member.getChatRoom();
-            // 마지막 메시지 조회
-            ChatMessage lastMessage = chatMessageRepository.findTopByChatRoomOrderByIdDesc(room)
-                    .orElse(null); // 메시지가 없으면 null
-
-            boolean hasNewMessage = false;
-            if (lastMessage != null) {
-
-                Long lastReadId = member.getLastReadMessageId() == null ? 0L : member.getLastReadMessageId();
-                if (lastMessage.getId() > lastReadId) {
-                    hasNewMessage = true;
-                }
-            }
+            boolean hasNewMessage = ChatReadReceiptStore.hasUnread(
+                    row.getLastMessageId(), row.getLastReadMessageId(), hotLastReadIds.get(row.getRoomId()));
 
             return ChatRoomListDto.builder()
-                    .roomId(room.getId())
-                    .roomName(room.getName())
-                    .lastMessage(lastMessage != null ? lastMessage.getContent() : "")
+                    .roomId(row.getRoomId())
+                    .roomName(row.getRoomName())
+                    .lastMessage(row.getLastMessageId() != null ? row.getLastMessagePreview() : "")
                     .hasNewMessage(hasNewMessage)
-                    .lastMessageTime(lastMessage != null ? lastMessage.getCreatedAt() : room.getCreatedAt())
+                    .lastMessageTime(row.getLastMessageAt() != null ? row.getLastMessageAt() : row.getRoomCreatedAt())
                     .build();
         }).collect(Collectors.toList());
     }
@@ -89,10 +85,16 @@ public class ChatRoomService {
 
 
         chatRoomUserRepository.delete(chatRoomUser);
+        chatReadReceiptStore.remove(roomId, userId);
 
 
         if (currentMemberCount == 1) {
+            chatRoomSummaryService.delete(roomId);
+            chatMessageSearchIndexer.deleteRoom(roomId);
+            chatReadReceiptStore.deleteRoom(roomId);
             chatRoomRepository.delete(chatRoom);
+        } else {
+            chatRoomSummaryService.refreshMembers(roomId);
         }
 
         return ChatRoomLeaveResponseDto.builder()
@@ -108,84 +110,54 @@ public class ChatRoomService {
 
     public List<ChatRoomListDto> getProjectChatRooms(Long projectId, Long userId) {
 
-        List<ChatRoom> chatRooms = chatRoomRepository
-                .findGroupChatRoomsByProjectAndUser(projectId, userId);
+        List<ChatRoomListRow> rows = chatRoomSummaryRepository
+                .findGroupChatRoomListRowsByProjectAndUser(projectId, userId);
+        Map<Long, Long> hotLastReadIds = findHotLastReadIds(userId, rows);
 
-        return chatRooms.stream()
-                .map(room -> buildChatRoomListDto(room, userId))
+        return rows.stream()
+                .map(row -> buildChatRoomListDto(row, hotLastReadIds.get(row.getRoomId())))
                 .collect(Collectors.toList());
     }
 
+    // 아직 DB에 반영되지 않은 읽음 위치 (Redis)
+    private Map<Long, Long> findHotLastReadIds(Long userId, List<ChatRoomListRow> rows) {
+        return chatReadReceiptStore.findLastReadByRooms(userId, rows.stream()
+                .map(ChatRoomListRow::getRoomId)
+                .toList());
+    }
 
-    private ChatRoomListDto buildChatRoomListDto(ChatRoom chatRoom, Long userId) {
 
+    private ChatRoomListDto buildChatRoomListDto(ChatRoomListRow row, Long hotLastReadId) {
 
-        int memberCount = chatRoomUserRepository.countByChatRoomId(chatRoom.getId());
-        
-        // 프로필 4명이하 조회
-        List<ChatRoomUser> members = chatRoomUserRepository.findTop4ByChatRoomId(chatRoom.getId());
-        
-        List<String> profileImages = members.stream()
-                .map(member -> member.getUser().getProfileImageName())
-                .filter(StringUtils::hasText)
+        // 프로필 4명이하 (요약 테이블에 저장된 key)
+        List<String> profileImages = ChatRoomSummary.splitProfileImageKeys(row.getProfileImageKeys()).stream()
                 .map(s3Service::getPresignedGetUrl)
-                .limit(4)
                 .collect(Collectors.toList());
 
-
-        ChatMessage lastMessage = chatMessageRepository
-                .findTopByChatRoomIdOrderByCreatedAtDesc(chatRoom.getId())
-                .orElse(null);
-
-
-        boolean hasNewMessage = checkHasNewMessage(chatRoom.getId(), userId, lastMessage);
+        boolean hasNewMessage = ChatReadReceiptStore.hasUnread(
+                row.getLastMessageId(), row.getLastReadMessageId(), hotLastReadId);
 
         return ChatRoomListDto.builder()
-                .roomId(chatRoom.getId())
-                .roomName(chatRoom.getName())
-                .memberCount(memberCount)
+                .roomId(row.getRoomId())
+                .roomName(row.getRoomName())
+                .memberCount(row.getMemberCount() != null ? row.getMemberCount() : 0)
                 .profileImages(profileImages)
-                .lastMessage(getLastMessageContent(lastMessage))
-                .lastMessageTime(lastMessage != null ? lastMessage.getCreatedAt() : null)
+                .lastMessage(getLastMessageContent(row))
+                .lastMessageTime(row.getLastMessageAt())
                 .hasNewMessage(hasNewMessage)
                 .build();
     }
 
-    private List<String> getProfileImages(Long chatRoomId) {
-        List<ChatRoomUser> roomUsers = chatRoomUserRepository
-                .findAllByChatRoomId(chatRoomId);
-
-        return roomUsers.stream()
-                .map(ChatRoomUser::getUser)
-                .map(u -> s3Service.getPresignedGetUrl(u.getProfileImageName()))
-                .filter(StringUtils::hasText)
-                .limit(4)
-                .collect(Collectors.toList());
-    }
-
-    private boolean checkHasNewMessage(Long chatRoomId, Long userId, ChatMessage lastMessage) {
-        if (lastMessage == null) {
-            return false;
-        }
-
-        return chatRoomUserRepository
-                .findByChatRoomIdAndUser_UserId(chatRoomId, userId)
-                .map(userRoom -> {
-                    Long lastReadMessageId = userRoom.getLastReadMessageId();
-                    return lastReadMessageId == null || lastMessage.getId() > lastReadMessageId;
-                })
-                .orElse(false);
-    }
-    private String getLastMessageContent(ChatMessage lastMessage) {
-        if (lastMessage == null) {
+    private String getLastMessageContent(ChatRoomListRow row) {
+        if (row.getLastMessageId() == null) {
             return null;
         }
 
-        if (lastMessage.getMessageType() == MessageType.FILE) {
+        if (row.getLastMessageType() == MessageType.FILE) {
             return " 파일을 보냈습니다.";
         }
 
-        return lastMessage.getContent();
+        return row.getLastMessagePreview();
     }
 
 }
@@ -0,0 +1,147 @@
+package com.nect.api.domain.team.chat.service;
+
+import com.nect.core.entity.team.chat.ChatMessage;
+import com.nect.core.entity.team.chat.ChatRoomSummary;
+import com.nect.core.entity.team.chat.ChatRoomUser;
+import com.nect.core.entity.user.User;
+import com.nect.core.repository.team.chat.ChatMessageRepository;
+import com.nect.core.repository.team.chat.ChatRoomSummaryRepository;
+import com.nect.core.repository.team.chat.ChatRoomUserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * 채팅방 목록 조회용 요약(chat_room_summary)을 관리합니다.
+ * 메시지 전송, 초대, 나가기와 같은 트랜잭션 안에서 호출됩니다.
+ */
+@Service
+@Slf4j
+public class ChatRoomSummaryService {
+
+    private final ChatRoomSummaryRepository chatRoomSummaryRepository;
+    private final ChatRoomUserRepository chatRoomUserRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final TransactionTemplate requiresNew;
+    private final int backfillChunkSize;
+
+    public ChatRoomSummaryService(ChatRoomSummaryRepository chatRoomSummaryRepository,
+                                  ChatRoomUserRepository chatRoomUserRepository,
+                                  ChatMessageRepository chatMessageRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${chat.summary.backfill-chunk-size:500}") int backfillChunkSize) {
+        this.chatRoomSummaryRepository = chatRoomSummaryRepository;
+        this.chatRoomUserRepository = chatRoomUserRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.backfillChunkSize = backfillChunkSize;
+    }
+
+    // 새 메시지 반영
+    @Transactional
+    public void applyMessage(ChatMessage message) {
+        Long roomId = message.getChatRoom().getId();
+
+        int updated = updateLastMessage(roomId, message);
+
+        if (updated == 0 && !chatRoomSummaryRepository.existsById(roomId)) {
+            createIfAbsent(roomId);
+            updateLastMessage(roomId, message);
+        }
+    }
+
+    // 인원 수, 프로필 이미지 갱신
+    @Transactional
+    public void refreshMembers(Long roomId) {
+        if (!chatRoomSummaryRepository.existsById(roomId)) {
+            createIfAbsent(roomId);
+        }
+        ChatRoomSummary summary = chatRoomSummaryRepository.findById(roomId)
+                .orElseThrow(() -> new IllegalStateException("채팅방 요약 없음 - roomId: " + roomId));
+
+        updateMembers(summary, roomId);
+        chatRoomSummaryRepository.save(summary);
+    }
+
+    @Transactional
+    public void delete(Long roomId) {
+        chatRoomSummaryRepository.deleteById(roomId);
+    }
+
+    // 요약이 없는 기존 채팅방 채우기 (채팅방 id 순으로 backfillChunkSize개씩 별도 트랜잭션)
+    public int backfillMissing() {
+        int created = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> roomIds = chatRoomSummaryRepository.findChatRoomIdsWithoutSummary(afterId, PageRequest.of(0, backfillChunkSize));
+            if (roomIds.isEmpty()) {
+                return created;
+            }
+            afterId = roomIds.get(roomIds.size() - 1);
+            try {
+                requiresNew.executeWithoutResult(status -> roomIds.forEach(this::rebuild));
+            } catch (DataIntegrityViolationException e) {
+                // 새 메시지나 초대로 같은 방 요약이 먼저 생긴 경우 한 방씩 다시 시도
+                roomIds.forEach(this::createIfAbsent);
+            }
+            created += roomIds.size();
+        }
+    }
+
+    // 동시에 첫 메시지를 보내는 경우를 위해 별도 트랜잭션에서 생성하고 중복은 무시
+    private void createIfAbsent(Long roomId) {
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                if (!chatRoomSummaryRepository.existsById(roomId)) {
+                    rebuild(roomId);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("채팅방 요약 동시 생성 - roomId: {}", roomId);
+        }
+    }
+
+    private int updateLastMessage(Long roomId, ChatMessage message) {
+        return chatRoomSummaryRepository.updateLastMessage(
+                roomId,
+                message.getId(),
+                ChatRoomSummary.toPreview(message.getContent()),
+                message.getMessageType(),
+                message.getCreatedAt());
+    }
+
+    private void rebuild(Long roomId) {
+        ChatRoomSummary summary = new ChatRoomSummary(roomId);
+
+        updateMembers(summary, roomId);
+        chatMessageRepository.findTopByChatRoomIdOrderByCreatedAtDesc(roomId)
+                .ifPresent(last -> summary.updateLastMessage(
+                        last.getId(), last.getContent(), last.getMessageType(), last.getCreatedAt()));
+
+        chatRoomSummaryRepository.saveAndFlush(summary);
+        log.info("채팅방 요약 생성 - roomId: {}", roomId);
+    }
+
+    private void updateMembers(ChatRoomSummary summary, Long roomId) {
+        int memberCount = chatRoomUserRepository.countByChatRoomId(roomId);
+
+        List<String> profileImageKeys = chatRoomUserRepository.findTop4ByChatRoomId(roomId).stream()
+                .map(ChatRoomUser::getUser)
+                .map(User::getProfileImageName)
+                .filter(StringUtils::hasText)
+                .limit(ChatRoomSummary.MAX_PROFILE_IMAGES)
+                .toList();
+
+        summary.updateMembers(memberCount, profileImageKeys);
+    }
+}
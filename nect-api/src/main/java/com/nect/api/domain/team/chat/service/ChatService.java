@@ -8,7 +8,16 @@ import com.nect.api.domain.team.chat.dto.res.ChatNoticeResponseDto;
 import com.nect.api.domain.team.chat.dto.res.ChatRoomMessagesResponseDto;
 import com.nect.api.domain.team.chat.enums.ChatErrorCode;
 import com.nect.api.domain.team.chat.exeption.ChatException;
+import com.nect.api.domain.team.chat.infra.ChatMessageSearchIndexer;
+import com.nect.api.domain.team.chat.infra.ChatMessageTailCache;
+import com.nect.api.domain.team.chat.infra.ChatReadReceiptStore;
+import com.nect.api.domain.team.chat.infra.ChatMessageWriteBehind;
+import com.nect.api.domain.team.chat.infra.ChatMessageWriteBehind.PendingChatMessage;
+import com.nect.api.domain.team.chat.infra.ChatRedisMessageHandler;
+import com.nect.api.domain.team.chat.util.ChatSearchTokenizer;
+import com.nect.api.domain.team.chat.util.ReadWatermarks;
 import com.nect.api.global.infra.redis.RedisPublisher;
+import com.nect.api.global.infra.redis.RedisStreamReplayReader;
 import com.nect.core.entity.team.chat.ChatFile;
 import com.nect.core.entity.team.chat.ChatMessage;
 import com.nect.core.entity.team.chat.ChatRoom;
@@ -17,22 +26,30 @@ import com.nect.core.entity.team.chat.enums.MessageType;
 import com.nect.core.entity.user.User;
 import com.nect.core.repository.team.chat.ChatFileRepository;
 import com.nect.core.repository.team.chat.ChatMessageRepository;
+import com.nect.core.repository.team.chat.ChatMessageTokenRepository;
 import com.nect.core.repository.team.chat.ChatRoomUserRepository;
 import com.nect.core.repository.team.chat.ChatRoomRepository;
 import com.nect.core.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -47,27 +64,48 @@ public class ChatService {
     private final RedisPublisher redisPublisher;
     private final UserRepository userRepository;
     private final ChatFileRepository chatFileRepository;
+    private final ChatRoomSummaryService chatRoomSummaryService;
+    private final RedisStreamReplayReader redisStreamReplayReader;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
+    private final ChatMessageSearchIndexer chatMessageSearchIndexer;
+    private final ChatMessageTokenRepository chatMessageTokenRepository;
+    private final ChatReadReceiptStore chatReadReceiptStore;
+    private final ChatMessageTailCache chatMessageTailCache;
+
+    // 재전송 시 DB에서 한 번에 가져올 최대 메시지 수
+    private static final int MAX_REPLAY_SIZE = 300;
+
+    // 검색 한 페이지를 채우기 위해 색인 후보를 읽는 최대 횟수
+    private static final int MAX_SEARCH_ROUNDS = 5;
+
+    // 검색어 bigram의 빈도를 비교할 때 셀 최대 행 수
+    private static final int POSTING_COUNT_LIMIT = 10_000;
 
     @Transactional
     public ChatMessageDto sendMessage(Long roomId, Long userId, String content) {
 
+        if (chatMessageWriteBehind.isEnabled()) {
+            return sendMessageWriteBehind(roomId, userId, content);
+        }
+
         ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new ChatException(ChatErrorCode.CHAT_ROOM_NOT_FOUND));
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ChatException(ChatErrorCode.CHAT_MEMBER_NOT_FOUND));
 
+        if (!chatRoomUserRepository.existsByChatRoomIdAndUserUserId(roomId, userId)) {
+            throw new ChatException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED);
+        }
+
         // 메시지 생성 및 저장
         ChatMessage message = ChatConverter.toTextMessage(chatRoom, user, content);
         chatMessageRepository.save(message);
+        chatMessageSearchIndexer.index(message.getId(), roomId, content);
+        chatRoomSummaryService.applyMessage(message);
 
-        // 발신자의 lastReadMessageId 업데이트 (본인은 이미 읽음)
-        ChatRoomUser senderRoomUser = chatRoomUserRepository
-                .findByChatRoom_IdAndUser_UserId(roomId, userId)
-                .orElseThrow(() -> new ChatException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED));
-
-        senderRoomUser.setLastReadMessageId(message.getId());
-        senderRoomUser.setLastReadAt(LocalDateTime.now());
+        // 발신자의 읽음 위치 갱신 (본인은 이미 읽음)
+        chatReadReceiptStore.markRead(roomId, userId, message.getId());
 
         // DTO 변환
         ChatMessageDto messageDto = ChatConverter.toMessageDto(message);
@@ -84,10 +122,33 @@ public class ChatService {
         return messageDto;
     }
 
+    // 쓰기 지연 모드: ID를 먼저 발급해 바로 응답하고, 저장과 발행은 배치 스레드에 맡김 (발행은 저장 후)
+    private ChatMessageDto sendMessageWriteBehind(Long roomId, Long userId, String content) {
 
+        ChatRoomUser senderRoomUser = chatRoomUserRepository.findMemberInRoom(roomId, userId)
+                .orElseThrow(() -> new ChatException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED));
+
+        ChatMessage message = ChatConverter.toTextMessage(senderRoomUser.getChatRoom(), senderRoomUser.getUser(), content);
+        message.setId(chatMessageWriteBehind.nextId());
+        LocalDateTime now = LocalDateTime.now();
+
+        ChatMessageDto event = ChatConverter.toMessageDto(message);
+        event.setCreatedAt(now);
+
+        ChatMessageDto messageDto = ChatConverter.toMessageDto(message);
+        messageDto.setCreatedAt(now);
+
+        int totalMembers = chatRoomUserRepository.countByChatRoomId(roomId);
+        messageDto.setReadCount(totalMembers - 1);
+
+        chatMessageWriteBehind.enqueue(new PendingChatMessage(
+                message.getId(), roomId, userId, content, MessageType.TEXT, now, event));
+        chatReadReceiptStore.markRead(roomId, userId, message.getId());
+
+        return messageDto;
+    }
 
 
-    @Transactional
     public ChatRoomMessagesResponseDto getChatMessages(Long roomId, Long userId,Long lastMessageId, int size) {
 
         // 1. 채팅방 조회
@@ -95,15 +156,40 @@ public class ChatService {
                 .orElseThrow(() -> new ChatException(ChatErrorCode.CHAT_ROOM_NOT_FOUND));
 
         // 2.  권한 확인: 채팅방 멤버인지 확인
-        ChatRoomUser chatRoomUser = chatRoomUserRepository
-                .findByChatRoom_IdAndUser_UserId(roomId, userId)
-                .orElseThrow(() -> new ChatException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED));
+        if (!chatRoomUserRepository.existsByChatRoomIdAndUserUserId(roomId, userId)) {
+            throw new ChatException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED);
+        }
+
+
+        // 3. 메시지 조회 (최근 구간은 캐시, 오래된 페이지는 DB)
+        List<ChatMessageDto> messageDtos = chatMessageTailCache.findPage(roomId, lastMessageId, size);
+        if (messageDtos == null) {
+            messageDtos = findMessagePage(chatRoom, lastMessageId, size);
+        }
+
+        // 자동 읽음 처리 (Redis에 반영 후 스케줄러가 DB에 일괄 저장)
+        if (!messageDtos.isEmpty()) {
+            chatReadReceiptStore.markRead(roomId, userId, messageDtos.get(messageDtos.size() - 1).getMessageId());
+        }
 
+        // 4. 멤버 읽음 위치 일괄 조회 (인원 수 + readCount 계산용)
+        ReadWatermarks watermarks = chatReadReceiptStore.watermarks(
+                roomId, chatRoomUserRepository.findReadWatermarkRowsByChatRoomId(roomId));
+        int memberCount = watermarks.memberCount();
 
-        // 3. 인원 수 조회
-        long memberCount = chatRoomUserRepository.countByChatRoomId(roomId);
+        // readCount = 안 읽은 사람 수
+        messageDtos.forEach(dto -> dto.setReadCount(watermarks.unreadCount(dto.getMessageId())));
 
-        // 4. 메시지 조회
+        return ChatRoomMessagesResponseDto.builder()
+                .roomId(roomId)
+                .roomName(chatRoom.getName())
+                .memberCount(memberCount)
+                .messages(messageDtos)
+                .hasNext(messageDtos.size() == size)
+                .build();
+    }
+
+    private List<ChatMessageDto> findMessagePage(ChatRoom chatRoom, Long lastMessageId, int size) {
         Pageable pageable = PageRequest.of(0, size);
         List<ChatMessage> messages;
 
@@ -116,51 +202,71 @@ public class ChatService {
 
         Collections.reverse(messages);
 
-        if (!messages.isEmpty()) {
-            Long latestMessageId = messages.get(messages.size() - 1).getId();
+        // 방 전체 메시지가 한 페이지에 들어오면 캐시에 더 오래된 메시지가 없다고 표시
+        if (lastMessageId == null && messages.size() < size) {
+            chatMessageTailCache.markCompleteIfCovers(chatRoom.getId(),
+                    messages.stream().map(ChatMessage::getId).toList());
+        }
 
-            if (chatRoomUser.getLastReadMessageId() == null
-                    || latestMessageId > chatRoomUser.getLastReadMessageId()) {
+        // 파일 메시지 첨부파일 일괄 조회
+        Map<Long, ChatFile> filesByMessageId = findFilesByMessageId(messages);
 
-                chatRoomUser.setLastReadMessageId(latestMessageId);
-                chatRoomUser.setLastReadAt(LocalDateTime.now());
+        return messages.stream()
+                .map(message -> {
+                    ChatFile chatFile = filesByMessageId.get(message.getId());
+                    return chatFile != null
+                            ? FileConverter.toFileMessageDto(message, chatFile)
+                            : ChatConverter.toMessageDto(message);
+                })
+                .collect(Collectors.toList());
+    }
 
-                log.info("자동 읽음 처리 - roomId: {}, userId: {}, messageId: {}",
-                        roomId, userId, latestMessageId);
-            }
+    // 재접속 시 마지막으로 받은 메시지 이후의 메시지만 재전송
+    public ChatRoomMessagesResponseDto replayMessages(Long roomId, Long userId, Long lastMessageId) {
+
+        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
+                .orElseThrow(() -> new ChatException(ChatErrorCode.CHAT_ROOM_NOT_FOUND));
+
+        if (!chatRoomUserRepository.existsByChatRoomIdAndUserUserId(roomId, userId)) {
+            throw new ChatException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED);
         }
 
-        // 메시지 DTO 변환 및 readCount 계산
-        List<ChatMessageDto> messageDtos = messages.stream()
-                .map(message -> {
-//                    ChatMessageDto dto = ChatConverter.toMessageDto(message);
-                    ChatMessageDto dto;
-                    if (message.getMessageType() == MessageType.FILE) {
-                        Optional<ChatFile> fileOpt = chatFileRepository
-                                .findByChatMessageId(message.getId());
-                        if (fileOpt.isPresent()) {
-                            dto = FileConverter.toFileMessageDto(message, fileOpt.get());
-                        } else {
-                            dto = ChatConverter.toMessageDto(message);
-                        }
-                    } else {
-                        dto = ChatConverter.toMessageDto(message);
-                    }
+        // 1. Redis 스트림에서 누락분 조회, 스트림이 이미 잘려 공백이 생겼으면 DB로 조회
+        List<ChatMessageDto> messageDtos = readMissedFromStream(roomId, lastMessageId);
+        boolean hasNext = false;
+
+        if (messageDtos == null) {
+            List<ChatMessage> messages = chatMessageRepository.findByChatRoomAndIdGreaterThanOrderByIdAsc(
+                    chatRoom, lastMessageId, PageRequest.of(0, MAX_REPLAY_SIZE));
+            hasNext = messages.size() == MAX_REPLAY_SIZE;
+
+            Map<Long, ChatFile> filesByMessageId = findFilesByMessageId(messages);
+            messageDtos = messages.stream()
+                    .map(message -> {
+                        ChatFile chatFile = filesByMessageId.get(message.getId());
+                        return chatFile != null
+                                ? FileConverter.toFileMessageDto(message, chatFile)
+                                : ChatConverter.toMessageDto(message);
+                    })
+                    .collect(Collectors.toList());
+        }
 
-                    // readCount = 안 읽은 사람 수
-                    int readCount = calculateUnreadCount(roomId, message.getId(), memberCount);
-                    dto.setReadCount(readCount);
+        // 2. 읽음 처리
+        if (!messageDtos.isEmpty()) {
+            chatReadReceiptStore.markRead(roomId, userId, messageDtos.get(messageDtos.size() - 1).getMessageId());
+        }
 
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        // 3. readCount 재계산
+        ReadWatermarks watermarks = chatReadReceiptStore.watermarks(
+                roomId, chatRoomUserRepository.findReadWatermarkRowsByChatRoomId(roomId));
+        messageDtos.forEach(dto -> dto.setReadCount(watermarks.unreadCount(dto.getMessageId())));
 
         return ChatRoomMessagesResponseDto.builder()
                 .roomId(roomId)
                 .roomName(chatRoom.getName())
-                .memberCount((int) memberCount)
+                .memberCount(watermarks.memberCount())
                 .messages(messageDtos)
-                .hasNext(messages.size() == size)
+                .hasNext(hasNext)
                 .build();
     }
 
@@ -180,6 +286,10 @@ public class ChatService {
 
         message.setIsPinned(isPinned);
 
+        // 커밋 후 캐시된 최근 메시지의 공지 여부 갱신 (커밋 전에 비우면 다른 요청이 이전 상태로 다시 채울 수 있음)
+        boolean pinned = Boolean.TRUE.equals(isPinned);
+        afterCommit(() -> chatMessageTailCache.recordPinned(roomId, messageId, pinned));
+
         return ChatConverter.toNoticeResponseDTO(message);
     }
 
@@ -189,7 +299,7 @@ public class ChatService {
             Long roomId,
             Long userId,
             String keyword,
-            int page,
+            Long lastMessageId,
             int size
     ) {
         // 1. 권한 확인
@@ -199,32 +309,156 @@ public class ChatService {
             throw new ChatException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED);
         }
 
+        // 2. 검색 (size + 1개를 찾아 다음 페이지 여부 판단)
+        long cursor = lastMessageId != null ? lastMessageId : Long.MAX_VALUE;
+        String normalized = ChatSearchTokenizer.normalize(keyword);
+        Set<String> grams = ChatSearchTokenizer.grams(normalized);
+
+        List<ChatMessage> hits;
+        Long scannedCursor = null;
+
+        if (normalized.isEmpty()) {
+            hits = Collections.emptyList();
+        } else if (grams.isEmpty()) {
+            // 한 글자 검색은 색인 대상이 아니므로 채팅방 범위 LIKE 검색 (색인 검색과 같은 정규화 키워드 사용)
+            hits = chatMessageRepository.searchByKeyword(roomId, normalized, cursor, PageRequest.of(0, size + 1));
+        } else {
+            hits = new ArrayList<>(size + 1);
+            int candidateSize = Math.max(size + 1, 50);
+
+            // 가장 드문 bigram으로 후보를 읽고, 나머지는 드문 순서대로 후보에 대해서만 확인
+            List<String> terms = orderByRarity(roomId, grams);
+            String driver = terms.get(0);
+
+            for (int round = 0; round < MAX_SEARCH_ROUNDS && hits.size() <= size; round++) {
+                List<Long> candidateIds = chatMessageTokenRepository.findMessageIdsByToken(
+                        roomId, driver, cursor, PageRequest.of(0, candidateSize));
+                if (candidateIds.isEmpty()) {
+                    scannedCursor = null;
+                    break;
+                }
+
+                List<Long> matchedIds = candidateIds;
+                for (String term : terms.subList(1, terms.size())) {
+                    if (matchedIds.isEmpty()) {
+                        break;
+                    }
+                    Set<Long> having = new HashSet<>(
+                            chatMessageTokenRepository.findMessageIdsHavingToken(roomId, term, matchedIds));
+                    matchedIds = matchedIds.stream().filter(having::contains).toList();
+                }
+
+                // bigram이 모두 있어도 순서가 다를 수 있으므로 원문으로 한 번 더 확인
+                List<ChatMessage> candidates = matchedIds.isEmpty()
+                        ? Collections.emptyList()
+                        : chatMessageRepository.findAllWithUserByIdIn(matchedIds);
+                for (ChatMessage message : candidates) {
+                    if (hits.size() > size) {
+                        break;
+                    }
+                    if (ChatSearchTokenizer.normalize(message.getContent()).contains(normalized)) {
+                        hits.add(message);
+                    }
+                }
 
+                cursor = candidateIds.get(candidateIds.size() - 1);
+                scannedCursor = candidateIds.size() < candidateSize ? null : cursor;
+                if (scannedCursor == null) {
+                    break;
+                }
+            }
+        }
 
-        Pageable pageable = PageRequest.of(page, size);
-        Page<ChatMessage> messagesPage = chatMessageRepository.searchByKeyword(
-                roomId, keyword, pageable);
+        boolean hasNext = hits.size() > size || scannedCursor != null;
+        List<ChatMessage> page = hits.size() > size ? hits.subList(0, size) : hits;
 
+        Long nextCursor = null;
+        if (hits.size() > size) {
+            nextCursor = page.get(page.size() - 1).getId();
+        } else if (hasNext) {
+            // 최대 탐색 횟수 안에 페이지를 채우지 못한 경우 탐색한 위치부터 이어서 조회
+            nextCursor = scannedCursor;
+        }
 
-        List<ChatMessageDto> messageDtos = messagesPage.getContent().stream()
+        List<ChatMessageDto> messageDtos = page.stream()
                 .map(ChatConverter::toMessageDto)
                 .collect(Collectors.toList());
 
-
         return ChatMessageSearchResponseDto.builder()
                 .keyword(keyword)
-                .totalCount((int) messagesPage.getTotalElements())
                 .messages(messageDtos)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
                 .build();
     }
 
 
-    private int calculateUnreadCount(Long roomId, Long messageId, long totalMembers) {
-        int readMembers = chatRoomUserRepository.countUsersWhoReadMessage(roomId, messageId);
-        return (int) (totalMembers - readMembers);
+    // 채팅방 안에서 적게 나온 bigram 순 (빈도는 POSTING_COUNT_LIMIT까지만 비교)
+    private List<String> orderByRarity(Long roomId, Set<String> grams) {
+        Map<String, Long> postings = new HashMap<>();
+        for (String gram : grams) {
+            postings.put(gram, chatMessageTokenRepository.countPostings(roomId, gram, POSTING_COUNT_LIMIT));
+        }
+        return grams.stream()
+                .sorted(Comparator.comparing(postings::get))
+                .toList();
+    }
+
+    // 스트림에 lastMessageId 이후가 모두 남아 있으면 반환, 아니면 null
+    private List<ChatMessageDto> readMissedFromStream(Long roomId, Long lastMessageId) {
+        List<ChatMessageDto> recent;
+        try {
+            recent = new ArrayList<>(redisStreamReplayReader.readRecent(
+                    ChatRedisMessageHandler.CHANNEL_PREFIX + roomId, ChatRedisMessageHandler.REPLAY_LENGTH, ChatMessageDto.class));
+        } catch (RuntimeException e) {
+            log.warn("재전송 스트림 조회 실패, DB로 대체 - roomId: {}", roomId, e);
+            return null;
+        }
+
+        if (recent.isEmpty()) {
+            return null;
+        }
+        recent.sort(Comparator.comparing(ChatMessageDto::getMessageId));
+
+        Long oldestMessageId = recent.get(0).getMessageId();
+        if (oldestMessageId > lastMessageId + 1
+                && chatMessageRepository.existsByChatRoomIdAndIdGreaterThanAndIdLessThan(
+                        roomId, lastMessageId, oldestMessageId)) {
+            return null;
+        }
+
+        return recent.stream()
+                .filter(dto -> dto.getMessageId() > lastMessageId)
+                .collect(Collectors.toList());
     }
 
+    private Map<Long, ChatFile> findFilesByMessageId(List<ChatMessage> messages) {
+        List<Long> fileMessageIds = messages.stream()
+                .filter(message -> message.getMessageType() == MessageType.FILE)
+                .map(ChatMessage::getId)
+                .toList();
 
+        if (fileMessageIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
+        return chatFileRepository.findAllByChatMessageIdIn(fileMessageIds).stream()
+                .collect(Collectors.toMap(
+                        chatFile -> chatFile.getChatMessage().getId(),
+                        Function.identity(),
+                        (existing, duplicate) -> existing));
+    }
 
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
@@ -42,6 +42,7 @@ public class TeamChatService {
     private final ProjectUserRepository projectUserRepository;
     private final ProjectRepository projectRepository;
     private final ChatService chatService;
+    private final ChatRoomSummaryService chatRoomSummaryService;
     private final S3Service s3Service;
 
     public List<ProjectMemberResponseDto> getProjectMembers(Long projectId) {
@@ -110,6 +111,7 @@ public class TeamChatService {
         }
 
         chatRoomUserRepository.saveAll(members);
+        chatRoomSummaryService.refreshMembers(chatRoom.getId());
 
         List<String> profileImages = members.stream()
                 .map(member -> member.getUser().getProfileImageName())
@@ -175,6 +177,7 @@ public class TeamChatService {
                 .collect(Collectors.toList());
 
         chatRoomUserRepository.saveAll(chatRoomUsers);
+        chatRoomSummaryService.refreshMembers(roomId);
 
         // 초대 알림 메시지 전송
         User inviter = userRepository.findById(currentUserId)
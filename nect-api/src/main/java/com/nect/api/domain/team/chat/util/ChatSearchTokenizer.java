@@ -0,0 +1,47 @@
+package com.nect.api.domain.team.chat.util;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 채팅 검색용 bigram 토크나이저.
+ * 한글은 띄어쓰기가 일정하지 않아 형태소 대신 공백을 제거한 문자열의 연속 두 글자를 토큰으로 사용합니다.
+ * 색인과 검색어 모두 같은 정규화를 거치므로 "회의 시간"과 "회의시간"은 같은 검색 결과를 가집니다.
+ */
+public final class ChatSearchTokenizer {
+
+    public static final int GRAM_SIZE = 2;
+
+    private ChatSearchTokenizer() {
+    }
+
+    // NFC 정규화, 소문자 변환, 공백 제거
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+        StringBuilder sb = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(cp -> !Character.isWhitespace(cp))
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    // 정규화된 문자열의 중복 없는 bigram (한 글자 이하면 비어 있음)
+    public static Set<String> grams(String normalized) {
+        int[] codePoints = normalized.codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    public static Set<String> tokenize(String text) {
+        return grams(normalize(text));
+    }
+}
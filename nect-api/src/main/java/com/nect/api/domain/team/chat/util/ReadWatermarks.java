@@ -0,0 +1,47 @@
+package com.nect.api.domain.team.chat.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 채팅방 멤버들의 lastReadMessageId(읽음 위치)를 정렬해 보관하고,
+ * 메시지별 안 읽은 인원 수를 이진 탐색으로 계산합니다.
+ */
+public class ReadWatermarks {
+
+    private final long[] sorted;
+
+    private ReadWatermarks(long[] sorted) {
+        this.sorted = sorted;
+    }
+
+    // null(읽은 메시지 없음)은 0으로 취급
+    public static ReadWatermarks of(Collection<Long> lastReadMessageIds) {
+        long[] values = new long[lastReadMessageIds.size()];
+        int i = 0;
+        for (Long id : lastReadMessageIds) {
+            values[i++] = id != null ? id : 0L;
+        }
+        Arrays.sort(values);
+        return new ReadWatermarks(values);
+    }
+
+    public int memberCount() {
+        return sorted.length;
+    }
+
+    // 읽음 위치가 messageId 미만인 멤버 수 = 안 읽은 사람 수
+    public int unreadCount(long messageId) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < messageId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
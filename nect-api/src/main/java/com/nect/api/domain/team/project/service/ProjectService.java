@@ -2,6 +2,7 @@ package com.nect.api.domain.team.project.service;
 
 import com.nect.api.domain.analysis.dto.req.ProjectCreateRequestDto;
 import com.nect.api.domain.analysis.dto.res.ProjectCreateResponseDto;
+import com.nect.api.domain.notifications.infra.ProjectMembershipCache;
 import com.nect.api.domain.team.project.enums.code.ProjectErrorCode;
 import com.nect.api.domain.team.project.exception.ProjectException;
 import com.nect.api.domain.user.enums.UserErrorCode;
@@ -31,6 +32,8 @@ import org.springframework.stereotype.Service;
 import com.nect.core.entity.team.enums.ProjectStatus;
 import com.nect.core.repository.analysis.ProjectIdeaAnalysisRepository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.lang.reflect.Field;
 import java.util.List;
@@ -52,6 +55,7 @@ public class ProjectService {
     private final ProjectUserRepository projectUserRepository;
     private final ProcessRepository processRepository;
     private final UserService userService;
+    private final ProjectMembershipCache projectMembershipCache;
 
     public Project getProject(Long projectId){
         return projectRepository.findById(projectId)
@@ -296,7 +300,21 @@ public class ProjectService {
                 .build();
 
         projectUserRepository.save(projectUser);
+        afterCommit(() -> projectMembershipCache.evict(userId));
 
     }
 
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
 }
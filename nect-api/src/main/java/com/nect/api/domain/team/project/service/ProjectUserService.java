@@ -1,5 +1,6 @@
 package com.nect.api.domain.team.project.service;
 
+import com.nect.api.domain.notifications.infra.ProjectMembershipCache;
 import com.nect.api.domain.team.project.converter.ProjectUserConverter;
 import com.nect.api.domain.team.project.dto.ProjectUserFieldReqDto;
 import com.nect.api.domain.team.project.dto.ProjectUserFieldResDto;
@@ -19,6 +20,8 @@ import com.nect.core.repository.team.ProjectUserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
@@ -27,6 +30,7 @@ import java.util.List;
 public class ProjectUserService {
 
     private final ProjectUserRepository projectUserRepository;
+    private final ProjectMembershipCache projectMembershipCache;
 
     public ProjectUser addProjectUser(Long userId, Project project, RoleField field){
         ProjectUser projectUser = ProjectUser.builder()
@@ -36,6 +40,7 @@ public class ProjectUserService {
                 .build();
 
         projectUserRepository.save(projectUser);
+        afterCommit(() -> projectMembershipCache.evict(userId));
         return projectUser;
     }
 
@@ -94,6 +99,8 @@ public class ProjectUserService {
         }
 
         projectUser.kick();
+        Long kickedUserId = projectUser.getUserId();
+        afterCommit(() -> projectMembershipCache.evict(kickedUserId));
         return ProjectUserConverter.toProjectUserResDto(projectUser);
     }
 
@@ -122,4 +129,18 @@ public class ProjectUserService {
         projectUser.changeType(memberType);
         return ProjectUserConverter.toProjectUserResDto(projectUser);
     }
+
+    // 참여 중인 프로젝트 캐시는 커밋 후 비움 (커밋 전에 비우면 다른 요청이 이전 상태로 다시 채울 수 있음)
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
@@ -18,45 +18,10 @@ public class LogbookConfig {
     private static final String MDC_TRACE_ID = "traceId";
 
     @Bean
-    public Logbook jsonLogbook() {
-        Predicate<HttpRequest> customCondition = request -> {
-            String path = request.getPath();
-            return !(
-                    "OPTIONS".equals(request.getMethod()) ||
-                            path.contains("/health") ||
-                            path.contains("/health_check") ||
-                            path.contains("/actuator") ||
-                            path.contains("/static") ||
-                            path.contains("/swagger-ui") ||
-                            path.contains("/swagger-resources") ||
-                            path.contains("/v3/api-docs") ||
-                            path.contains("/v2/api-docs") ||
-                            path.contains("/webjars") ||
-                            path.endsWith(".js") ||
-                            path.endsWith(".css") ||
-                            path.endsWith(".png") ||
-                            path.endsWith(".ico") ||
-                            path.endsWith(".html") ||
-                            path.equals("/") ||
-                            path.equals("/robots.txt") ||
-                            path.equals("/favicon-16x16.png") ||
-                            path.equals("/favicon-32x32.png") ||
-                            path.equals("/swagger-ui.html") ||
-                            // Bot attack and vulnerability scanning paths
-                            path.contains("/.git") ||
-                            path.contains("/setup.cgi") ||
-                            path.contains("/docker") ||
-                            path.contains("/ReportServer") ||
-                            path.contains("/geoserver") ||
-                            path.contains("/sitemap.xml") ||
-                            path.contains("MGLNDD") ||
-                            path.contains("/manager") ||
-                            path.contains("/backup") ||
-                            path.contains("/bin") ||
-                            path.endsWith(".xml") ||
-                            path.endsWith(".env")
-            );
-        };
+    public Logbook jsonLogbook(RouteClassifier routeClassifier) {
+        // 제외 경로(헬스체크, 정적 리소스, 문서, 봇 스캔 등)는 RouteClassifier에서 한 번에 판단
+        Predicate<HttpRequest> customCondition = request ->
+                !routeClassifier.skipsLogging(request.getMethod(), request.getPath());
 
         HttpLogFormatter formatter = new CustomJsonHttpLogFormatter();
         HttpLogWriter writer = new CustomHttpLogWriter();
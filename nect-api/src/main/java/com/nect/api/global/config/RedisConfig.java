@@ -1,11 +1,9 @@
 package com.nect.api.global.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.nect.api.global.infra.redis.RedisMessageHandler;
 import com.nect.api.global.infra.redis.RedisSubscriber;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -14,7 +12,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.util.List;
@@ -48,34 +46,30 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    // Redis 발행 payload(RedisMessageCodec 인코딩 결과)를 그대로 주고받는 템플릿
     @Bean
-    public RedisTemplate<String, Object> objectRedisTemplate() {
-        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+    public RedisTemplate<String, byte[]> binaryRedisTemplate() {
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory());
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
-
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(serializer);
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
         redisTemplate.setHashKeySerializer(new StringRedisSerializer());
-        redisTemplate.setHashValueSerializer(serializer);
+        redisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
 
         return redisTemplate;
     }
 
-    //Pub/Sub리스너 컨테이너
+    //Pub/Sub리스너 컨테이너 (redis.stream.enabled=true가 아니면 사용)
     @Bean
+    @ConditionalOnProperty(name = "redis.stream.enabled", havingValue = "false", matchIfMissing = true)
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
             MessageListenerAdapter listenerAdapter,
-            List<RedisMessageHandler> handlers) {
+            List<RedisMessageHandler<?>> handlers) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        for (RedisMessageHandler handler : handlers) {
+        for (RedisMessageHandler<?> handler : handlers) {
             container.addMessageListener(listenerAdapter, new PatternTopic(handler.channelPrefix() + "*"));
         }
         return container;
@@ -86,6 +80,7 @@ public class RedisConfig {
      // RedisSubscriber의 onMessage 메서드를 호출
 
     @Bean
+    @ConditionalOnProperty(name = "redis.stream.enabled", havingValue = "false", matchIfMissing = true)
     public MessageListenerAdapter listenerAdapter(RedisSubscriber subscriber) {
         return new MessageListenerAdapter(subscriber, "onMessage");
     }
@@ -0,0 +1,72 @@
+package com.nect.api.global.config;
+
+import com.nect.api.global.infra.redis.RedisStreamSubscriber;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "redis.stream.enabled", havingValue = "true")
+public class RedisStreamConfig {
+
+    private static final int BATCH_SIZE = 100;
+
+    //Stream 리스너 컨테이너 (노드 전용 consumer group)
+    // 채널 계열별 스트림을 각각 구독하며, 구독마다 컨테이너 executor의 별도 스레드에서 읽음
+    @Bean(destroyMethod = "stop")
+    public StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>> redisStreamListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisStreamSubscriber subscriber) {
+
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, byte[]>> options =
+                StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(Duration.ofSeconds(1))
+                        .batchSize(BATCH_SIZE)
+                        .executor(new SimpleAsyncTaskExecutor("redis-stream-"))
+                        .keySerializer(StringRedisSerializer.UTF_8)
+                        .<String, byte[]>hashKeySerializer(StringRedisSerializer.UTF_8)
+                        .<String, byte[]>hashValueSerializer(RedisSerializer.byteArray())
+                        .build();
+
+        StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>> container =
+                StreamMessageListenerContainer.create(connectionFactory, options);
+
+        // group 생성 후 이전 실행에서 ack하지 못한 pending 메시지부터 전달
+        subscriber.prepare();
+
+        // 연결 오류가 나도 구독을 유지하고, 재연결 후 마지막으로 읽은 위치부터 이어서 읽음
+        // (group이 지워졌으면 다시 만들어 이어서 읽음)
+        for (String streamKey : subscriber.streamKeys()) {
+            StreamReadRequest<String> request = StreamReadRequest
+                    .builder(StreamOffset.create(streamKey, ReadOffset.lastConsumed()))
+                    .consumer(subscriber.consumer())
+                    .autoAcknowledge(false)
+                    .cancelOnError(e -> false)
+                    .errorHandler(e -> {
+                        log.warn(" Redis Stream 읽기 실패 - stream: {}, 재시도합니다: {}", streamKey, e.getMessage());
+                        if (String.valueOf(e.getMessage()).contains("NOGROUP")) {
+                            subscriber.createGroup(streamKey);
+                        }
+                    })
+                    .build();
+
+            container.register(request, subscriber.listener(streamKey));
+        }
+        container.start();
+        return container;
+    }
+}
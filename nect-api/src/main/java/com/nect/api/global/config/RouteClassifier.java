@@ -0,0 +1,150 @@
+package com.nect.api.global.config;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청 경로 분류기 ("인증 생략?", "로깅 생략?").
+ * 기동 시 패턴을 한 번 컴파일해 두고 요청마다 조회만 합니다.
+ *
+ * - 인증 생략: 와일드카드 없는 패턴은 HashSet, 나머지는 PathPattern을 첫 경로 세그먼트별로 묶어 해당 묶음만 비교
+ * - 로깅 생략: 정확히 일치(HashSet) / 확장자(HashSet) / 부분 문자열(trie 한 번 순회)
+ */
+public class RouteClassifier {
+
+    private static final PathPatternParser PARSER = PathPatternParser.defaultInstance;
+    private static final String MATCH_ALL = "*";
+
+    // 로깅 제외: 경로 전체 일치
+    private static final Set<String> LOG_EXCLUDED_PATHS = Set.of(
+            "/", "/robots.txt", "/favicon-16x16.png", "/favicon-32x32.png", "/swagger-ui.html"
+    );
+
+    // 로깅 제외: 확장자
+    private static final Set<String> LOG_EXCLUDED_EXTENSIONS = Set.of(
+            "js", "css", "png", "ico", "html", "xml", "env"
+    );
+
+    // 로깅 제외: 경로에 포함된 문자열 (봇 공격/취약점 스캔 경로 포함)
+    private static final List<String> LOG_EXCLUDED_FRAGMENTS = List.of(
+            "/health", "/actuator", "/static", "/swagger-ui", "/swagger-resources",
+            "/v3/api-docs", "/v2/api-docs", "/webjars",
+            "/.git", "/setup.cgi", "/docker", "/ReportServer", "/geoserver", "/sitemap.xml",
+            "MGLNDD", "/manager", "/backup", "/bin"
+    );
+
+    private static final TrieNode LOG_EXCLUDED_TRIE = buildTrie(LOG_EXCLUDED_FRAGMENTS);
+
+    private final boolean authSkipAll;
+    private final Set<String> authExactPaths = new HashSet<>();
+    private final Map<String, List<PathPattern>> authPatternsBySegment = new HashMap<>();
+    // 첫 세그먼트에 와일드카드가 있는 패턴 ("/*.html" 등)
+    private final List<PathPattern> authPatternsAnySegment = new ArrayList<>();
+
+    public RouteClassifier(List<String> authExcludePatterns) {
+        this.authSkipAll = authExcludePatterns.contains(MATCH_ALL);
+        for (String pattern : authExcludePatterns) {
+            if (MATCH_ALL.equals(pattern)) {
+                continue;
+            }
+            PathPattern compiled = PARSER.parse(pattern);
+            if (!compiled.hasPatternSyntax()) {
+                authExactPaths.add(pattern);
+                continue;
+            }
+
+            String segment = firstSegment(pattern);
+            if (segment.indexOf('*') >= 0 || segment.indexOf('{') >= 0 || segment.indexOf('?') >= 0) {
+                authPatternsAnySegment.add(compiled);
+            } else {
+                authPatternsBySegment.computeIfAbsent(segment, key -> new ArrayList<>()).add(compiled);
+            }
+        }
+    }
+
+    public boolean skipsAuthentication(String path) {
+        if (authSkipAll || authExactPaths.contains(path)) {
+            return true;
+        }
+
+        List<PathPattern> candidates = authPatternsBySegment.get(firstSegment(path));
+        if (candidates == null && authPatternsAnySegment.isEmpty()) {
+            return false;
+        }
+
+        PathContainer container = PathContainer.parsePath(path);
+        if (candidates != null) {
+            for (PathPattern pattern : candidates) {
+                if (pattern.matches(container)) {
+                    return true;
+                }
+            }
+        }
+        for (PathPattern pattern : authPatternsAnySegment) {
+            if (pattern.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean skipsLogging(String method, String path) {
+        if ("OPTIONS".equals(method) || LOG_EXCLUDED_PATHS.contains(path)) {
+            return true;
+        }
+
+        int dot = path.lastIndexOf('.');
+        if (dot > path.lastIndexOf('/') && LOG_EXCLUDED_EXTENSIONS.contains(path.substring(dot + 1))) {
+            return true;
+        }
+        return containsFragment(path);
+    }
+
+    // "/api/v1/users" -> "api"
+    private static String firstSegment(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+
+    private static boolean containsFragment(String path) {
+        for (int start = 0; start < path.length(); start++) {
+            TrieNode node = LOG_EXCLUDED_TRIE;
+            for (int i = start; i < path.length(); i++) {
+                node = node.children.get(path.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.terminal) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static TrieNode buildTrie(List<String> fragments) {
+        TrieNode root = new TrieNode();
+        for (String fragment : fragments) {
+            TrieNode node = root;
+            for (int i = 0; i < fragment.length(); i++) {
+                node = node.children.computeIfAbsent(fragment.charAt(i), key -> new TrieNode());
+            }
+            node.terminal = true;
+        }
+        return root;
+    }
+
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private boolean terminal;
+    }
+}
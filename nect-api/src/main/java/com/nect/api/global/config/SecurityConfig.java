@@ -3,7 +3,6 @@ package com.nect.api.global.config;
 import com.nect.api.global.jwt.JwtAuthenticationFilter;
 import com.nect.api.global.jwt.JwtUtil;
 import com.nect.api.global.security.UserDetailsServiceImpl;
-import com.nect.api.global.jwt.service.TokenBlacklistService;
 import com.nect.api.domain.user.oauth2.service.OAuth2UserService;
 import com.nect.api.domain.user.oauth2.handler.OAuth2EventHandler;
 import lombok.RequiredArgsConstructor;
@@ -32,7 +31,6 @@ public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
-    private final TokenBlacklistService tokenBlacklistService;
     private final OAuth2UserService oAuth2UserService;
     private final OAuth2EventHandler oAuth2EventHandler;
 
@@ -84,7 +82,13 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtUtil, userDetailsService, tokenBlacklistService, JWT_EXCLUDE_PATHS);
+        return new JwtAuthenticationFilter(jwtUtil, userDetailsService, routeClassifier());
+    }
+
+    // 인증/로깅 생략 경로 분류 (JwtAuthenticationFilter, LogbookConfig 공용)
+    @Bean
+    public RouteClassifier routeClassifier() {
+        return new RouteClassifier(JWT_EXCLUDE_PATHS);
     }
 
     @Bean
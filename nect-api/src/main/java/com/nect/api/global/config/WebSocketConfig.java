@@ -63,8 +63,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
                             if (token != null && !token.isEmpty()) {
                                 try {
-                                    jwtUtil.validateToken(token);
-                                    Long userId = jwtUtil.getUserIdFromToken(token);
+                                    Long userId = jwtUtil.authenticate(token).userId();
                                     attributes.put("userId", userId.toString());
                                     log.info("WebSocket 인증 성공 - userId: {}", userId);
                                     return true;
@@ -0,0 +1,73 @@
+package com.nect.api.global.infra.presence;
+
+import com.nect.core.repository.team.chat.ChatRoomUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+
+/**
+ * STOMP 세션 이벤트를 접속 정보에 반영합니다.
+ * CONNECT 시 WebSocketConfig에서 설정한 Principal(userId)을 사용합니다.
+ * 방 구독은 DM 참여자이거나 채팅방 멤버인 경우에만 접속으로 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PresenceEventListener {
+
+    private final PresenceService presenceService;
+    private final ChatRoomUserRepository chatRoomUserRepository;
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Principal user = event.getUser();
+        if (user == null) {
+            return;
+        }
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        presenceService.connect(sessionId, Long.valueOf(user.getName()));
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String roomKey = PresenceService.roomKeyOf(accessor.getDestination());
+        Principal user = event.getUser();
+        if (roomKey == null || user == null) {
+            return;
+        }
+        Long userId = Long.valueOf(user.getName());
+        if (!canEnter(roomKey, userId)) {
+            log.warn(" 접속 정보 구독 거부 - userId: {}, destination: {}", userId, accessor.getDestination());
+            return;
+        }
+        presenceService.subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), roomKey);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        presenceService.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        presenceService.disconnect(event.getSessionId());
+    }
+
+    private boolean canEnter(String roomKey, Long userId) {
+        if (PresenceService.isDmParticipant(roomKey, userId)) {
+            return true;
+        }
+        Long chatRoomId = PresenceService.chatRoomIdOf(roomKey);
+        return chatRoomId != null && chatRoomUserRepository.existsByChatRoomIdAndUserUserId(chatRoomId, userId);
+    }
+}
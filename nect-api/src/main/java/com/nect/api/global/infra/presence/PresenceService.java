@@ -0,0 +1,373 @@
+package com.nect.api.global.infra.presence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 기반 접속(presence) 정보.
+ * 방별 ZSET(presence:room:{roomKey})과 전체 접속 ZSET(presence:online)에 userId를 만료 시각(score)과 함께 기록하고,
+ * 이 노드의 STOMP 세션이 살아 있는 동안 heartbeat로 만료 시각을 연장합니다.
+ * 세션이 비정상 종료되어도 TTL이 지나면 자동으로 빠집니다.
+ * 방 접속은 STOMP 구독으로만 기록합니다. (REST 조회는 세션이 없어 heartbeat로 연장할 수 없으므로 접속으로 보지 않음)
+ *
+ * 같은 사용자가 여러 노드에 접속할 수 있으므로 노드별 로컬 구독/세션 수를 해시(presence:refs:...)에 두고,
+ * 모든 노드의 수가 0이 되었을 때만 방/전체 접속 ZSET에서 뺍니다.
+ *
+ * 조회 결과는 nearCacheTtl 동안 로컬에 보관하며, 이 노드의 입장/퇴장 시에는 바로 무효화합니다.
+ */
+@Component
+@Slf4j
+public class PresenceService {
+
+    private static final String ROOM_KEY_PREFIX = "presence:room:";
+    private static final String ONLINE_KEY = "presence:online";
+    private static final String ROOM_REFS_PREFIX = "presence:refs:room:";
+    private static final String ONLINE_REFS_PREFIX = "presence:refs:online:";
+
+    // KEYS: 노드별 수 해시, 접속 ZSET / ARGV: nodeId, 이 노드의 수, userId, ttlMillis
+    // 이 노드의 수를 기록하고, 0이 되어 모든 노드의 수가 없어지면 ZSET에서 제거
+    private static final DefaultRedisScript<Long> SYNC_REFS_SCRIPT = new DefaultRedisScript<>("""
+            if tonumber(ARGV[2]) > 0 then
+              redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+              redis.call('PEXPIRE', KEYS[1], ARGV[4])
+              return 0
+            end
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            if redis.call('HLEN', KEYS[1]) == 0 then
+              redis.call('ZREM', KEYS[2], ARGV[3])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final String DM_ROOM_PREFIX = "dm:";
+    private static final String CHAT_ROOM_PREFIX = "chat:";
+    private static final String DM_DESTINATION_PREFIX = "/topic/dm/";
+    private static final String CHAT_DESTINATION_PREFIX = "/topic/chatroom/";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String nodeId;
+    private final long ttlMillis;
+    private final long nearCacheTtlMillis;
+
+    // 이 노드의 STOMP 세션 (heartbeat 대상)
+    private final Map<String, LocalSession> sessions = new ConcurrentHashMap<>();
+
+    // 방별 접속자 (만료 시각 포함) 근거리 캐시
+    private final Map<String, CachedRoom> roomCache = new ConcurrentHashMap<>();
+
+    public PresenceService(RedisTemplate<String, String> redisTemplate,
+                           @Value("${redis.stream.node-id:${HOSTNAME:}}") String nodeId,
+                           @Value("${presence.ttl-seconds:30}") long ttlSeconds,
+                           @Value("${presence.near-cache-millis:500}") long nearCacheTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        this.ttlMillis = ttlSeconds * 1000;
+        this.nearCacheTtlMillis = nearCacheTtlMillis;
+    }
+
+    public static String dmRoom(String channelId) {
+        return DM_ROOM_PREFIX + channelId;
+    }
+
+    public static String chatRoom(Long roomId) {
+        return CHAT_ROOM_PREFIX + roomId;
+    }
+
+    // DM 방 key(dm:{작은 id}_{큰 id})의 참여자인지
+    public static boolean isDmParticipant(String roomKey, Long userId) {
+        if (!roomKey.startsWith(DM_ROOM_PREFIX)) {
+            return false;
+        }
+        String[] userIds = roomKey.substring(DM_ROOM_PREFIX.length()).split("_");
+        return userIds.length == 2 && (userIds[0].equals(userId.toString()) || userIds[1].equals(userId.toString()));
+    }
+
+    // 채팅방 key(chat:{roomId}) -> roomId (채팅방 key가 아니거나 형식이 틀리면 null)
+    public static Long chatRoomIdOf(String roomKey) {
+        if (!roomKey.startsWith(CHAT_ROOM_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(roomKey.substring(CHAT_ROOM_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 구독 경로 -> 방 key (접속 정보 대상이 아니면 null)
+    public static String roomKeyOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        if (destination.startsWith(DM_DESTINATION_PREFIX)) {
+            return dmRoom(destination.substring(DM_DESTINATION_PREFIX.length()));
+        }
+        if (destination.startsWith(CHAT_DESTINATION_PREFIX)) {
+            return CHAT_ROOM_PREFIX + destination.substring(CHAT_DESTINATION_PREFIX.length());
+        }
+        return null;
+    }
+
+    // ===== STOMP 세션 =====
+
+    public void connect(String sessionId, Long userId) {
+        sessions.put(sessionId, new LocalSession(userId));
+        touch(List.of(), userId);
+        syncOnlineRefs(userId);
+    }
+
+    // 권한 확인은 호출부(PresenceEventListener)에서 처리
+    public void subscribe(String sessionId, String subscriptionId, String roomKey) {
+        LocalSession session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        session.subscriptions.put(subscriptionId, roomKey);
+        touch(List.of(roomKey), session.userId);
+        syncRoomRefs(roomKey, session.userId);
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        LocalSession session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        String roomKey = session.subscriptions.remove(subscriptionId);
+        if (roomKey != null) {
+            syncRoomRefs(roomKey, session.userId);
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        LocalSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        for (String roomKey : new HashSet<>(session.subscriptions.values())) {
+            syncRoomRefs(roomKey, session.userId);
+        }
+        syncOnlineRefs(session.userId);
+    }
+
+    // 구독은 유지한 채 방에서 나감 (이 세션의 해당 방 구독을 접속 정보에서 제외, 다시 구독하면 다시 입장)
+    public void leave(String sessionId, String roomKey) {
+        LocalSession session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        if (session.subscriptions.values().removeIf(roomKey::equals)) {
+            syncRoomRefs(roomKey, session.userId);
+        }
+    }
+
+    // ===== 조회 =====
+
+    public boolean isPresent(String roomKey, Long userId) {
+        Long expiresAt = roomMembers(roomKey).get(userId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    public boolean allPresent(String roomKey, Long... userIds) {
+        Map<Long, Long> members = roomMembers(roomKey);
+        long now = System.currentTimeMillis();
+        for (Long userId : userIds) {
+            Long expiresAt = members.get(userId);
+            if (expiresAt == null || expiresAt <= now) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 주어진 사용자 중 접속 중인 사용자 (왕복 1회)
+    public Set<Long> onlineUsers(Collection<Long> userIds) {
+        Set<Long> online = new HashSet<>();
+        if (userIds.isEmpty()) {
+            return online;
+        }
+
+        List<Long> ids = new ArrayList<>(userIds);
+        byte[] key = ONLINE_KEY.getBytes(StandardCharsets.UTF_8);
+        try {
+            List<Object> scores = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : ids) {
+                    connection.zSetCommands().zScore(key, userId.toString().getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < ids.size(); i++) {
+                Object score = scores.get(i);
+                if (score != null && ((Number) score).longValue() > now) {
+                    online.add(ids.get(i));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("접속 정보 조회 실패", e);
+        }
+        return online;
+    }
+
+    // ===== heartbeat =====
+
+    /**
+     * 이 노드의 세션이 구독 중인 방과 접속 상태의 만료 시각을 연장하고, 만료된 항목을 정리합니다.
+     */
+    public void heartbeat() {
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        Map<String, Map<Long, Integer>> usersByRoom = new HashMap<>();
+        Map<Long, Integer> onlineUsers = new HashMap<>();
+        for (LocalSession session : sessions.values()) {
+            onlineUsers.merge(session.userId, 1, Integer::sum);
+            for (String roomKey : session.subscriptions.values()) {
+                usersByRoom.computeIfAbsent(roomKey, key -> new HashMap<>()).merge(session.userId, 1, Integer::sum);
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        double expiresAt = now + ttlMillis;
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byte[] node = nodeId.getBytes(StandardCharsets.UTF_8);
+                byte[] onlineKey = ONLINE_KEY.getBytes(StandardCharsets.UTF_8);
+                onlineUsers.forEach((userId, count) -> {
+                    connection.zSetCommands().zAdd(onlineKey, expiresAt, userId.toString().getBytes(StandardCharsets.UTF_8));
+                    refreshRefs(connection, ONLINE_REFS_PREFIX + userId, node, count);
+                });
+                connection.zSetCommands().zRemRangeByScore(onlineKey, Double.NEGATIVE_INFINITY, now);
+
+                usersByRoom.forEach((roomKey, counts) -> {
+                    byte[] key = (ROOM_KEY_PREFIX + roomKey).getBytes(StandardCharsets.UTF_8);
+                    counts.forEach((userId, count) -> {
+                        connection.zSetCommands().zAdd(key, expiresAt, userId.toString().getBytes(StandardCharsets.UTF_8));
+                        refreshRefs(connection, roomRefsKey(roomKey, userId), node, count);
+                    });
+                    connection.zSetCommands().zRemRangeByScore(key, Double.NEGATIVE_INFINITY, now);
+                    connection.keyCommands().pExpire(key, ttlMillis);
+                });
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("접속 정보 heartbeat 실패 - sessions: {}", sessions.size(), e);
+        }
+    }
+
+    private void touch(List<String> roomKeys, Long userId) {
+        double expiresAt = System.currentTimeMillis() + ttlMillis;
+        try {
+            redisTemplate.opsForZSet().add(ONLINE_KEY, userId.toString(), expiresAt);
+            for (String roomKey : roomKeys) {
+                String key = ROOM_KEY_PREFIX + roomKey;
+                redisTemplate.opsForZSet().add(key, userId.toString(), expiresAt);
+                redisTemplate.expire(key, Duration.ofMillis(ttlMillis));
+                roomCache.remove(roomKey);
+            }
+        } catch (RuntimeException e) {
+            log.warn("접속 정보 기록 실패 - userId: {}, rooms: {}", userId, roomKeys, e);
+        }
+    }
+
+    // 이 노드의 구독 수 기록 (0이면 빼고, 다른 노드에도 없으면 방에서 제거)
+    private void syncRoomRefs(String roomKey, Long userId) {
+        long count = sessions.values().stream()
+                .filter(session -> session.userId.equals(userId))
+                .flatMap(session -> session.subscriptions.values().stream())
+                .filter(roomKey::equals)
+                .count();
+        try {
+            redisTemplate.execute(SYNC_REFS_SCRIPT, List.of(roomRefsKey(roomKey, userId), ROOM_KEY_PREFIX + roomKey),
+                    nodeId, Long.toString(count), userId.toString(), Long.toString(ttlMillis));
+        } catch (RuntimeException e) {
+            log.warn("접속 정보 갱신 실패 - roomKey: {}, userId: {}", roomKey, userId, e);
+        }
+        roomCache.remove(roomKey);
+    }
+
+    // 이 노드의 세션 수 기록 (0이면 빼고, 다른 노드에도 없으면 전체 접속에서 제거)
+    private void syncOnlineRefs(Long userId) {
+        long count = sessions.values().stream()
+                .filter(session -> session.userId.equals(userId))
+                .count();
+        try {
+            redisTemplate.execute(SYNC_REFS_SCRIPT, List.of(ONLINE_REFS_PREFIX + userId, ONLINE_KEY),
+                    nodeId, Long.toString(count), userId.toString(), Long.toString(ttlMillis));
+        } catch (RuntimeException e) {
+            log.warn("접속 정보 갱신 실패 - userId: {}", userId, e);
+        }
+    }
+
+    private void refreshRefs(RedisConnection connection, String refsKey, byte[] node, int count) {
+        byte[] key = refsKey.getBytes(StandardCharsets.UTF_8);
+        connection.hashCommands().hSet(key, node, Integer.toString(count).getBytes(StandardCharsets.UTF_8));
+        connection.keyCommands().pExpire(key, ttlMillis);
+    }
+
+    private static String roomRefsKey(String roomKey, Long userId) {
+        return ROOM_REFS_PREFIX + roomKey + ":" + userId;
+    }
+
+    // 방 접속자 -> 만료 시각 (근거리 캐시 우선)
+    private Map<Long, Long> roomMembers(String roomKey) {
+        long now = System.currentTimeMillis();
+        CachedRoom cached = roomCache.get(roomKey);
+        if (cached != null && cached.loadedAt + nearCacheTtlMillis > now) {
+            return cached.members;
+        }
+
+        Map<Long, Long> members = new HashMap<>();
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(ROOM_KEY_PREFIX + roomKey, now, Double.POSITIVE_INFINITY);
+            if (tuples != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                    if (tuple.getValue() != null && tuple.getScore() != null) {
+                        members.put(Long.valueOf(tuple.getValue()), tuple.getScore().longValue());
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("접속 정보 조회 실패 - roomKey: {}", roomKey, e);
+            return members;
+        }
+
+        roomCache.put(roomKey, new CachedRoom(now, members));
+        return members;
+    }
+
+    private static class LocalSession {
+        private final Long userId;
+        // subscriptionId -> 방 key
+        private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+
+        private LocalSession(Long userId) {
+            this.userId = userId;
+        }
+    }
+
+    private record CachedRoom(long loadedAt, Map<Long, Long> members) {
+    }
+}
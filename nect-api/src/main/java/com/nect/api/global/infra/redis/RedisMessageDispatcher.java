@@ -0,0 +1,276 @@
+package com.nect.api.global.infra.redis;
+
+import com.nect.api.global.infra.redis.codec.RedisMessageCodec;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Redis 채널 이름으로 {@link RedisMessageHandler}를 찾아 메시지를 전달합니다.
+ * Pub/Sub, Stream 전송 방식 모두 이 디스패처를 사용합니다.
+ *
+ * 채널 prefix별(채널 계열)로 전용 작업 큐(lane)를 두고, 같은 채널은 항상 같은 lane에서 처리해 순서를 유지합니다.
+ * 디코딩과 WebSocket 전송은 lane 스레드에서 하므로, 처리가 느려도 수신 스레드가 바로 막히지는 않습니다.
+ *
+ * lane 큐가 가득 찼을 때:
+ * - Stream({@link #dispatch}): 메시지를 버리지 않고 빈 자리가 날 때까지 기다립니다. (backpressure, ack는 처리 후)
+ *   Stream은 채널 계열마다 스트림과 읽는 스레드가 따로 있으므로, 멈추는 것은 그 계열의 수신뿐이고
+ *   토큰 무효화 이벤트(blacklist:, token-epoch:) 등 다른 계열은 계속 전달됩니다.
+ * - Pub/Sub({@link #offer}): 모든 계열이 같은 수신 연결을 쓰므로 기다리지 않고 버린 뒤 dropped로 집계합니다.
+ */
+@Component
+@Slf4j
+public class RedisMessageDispatcher {
+
+    private static final char CHANNEL_SEPARATOR = ':';
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+
+    private final RedisMessageCodec codec;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final long offerTimeoutMillis;
+
+    // "chatroom:" 처럼 ':'로 끝나는 prefix는 첫 ':'까지 잘라 바로 조회
+    private final Map<String, Route> routesByPrefix;
+    // 그 외 prefix (startsWith 비교)
+    private final List<Route> otherRoutes = new ArrayList<>();
+    private final List<Route> routes = new ArrayList<>();
+
+    private volatile boolean running = true;
+
+    public RedisMessageDispatcher(RedisMessageCodec codec,
+                                  SimpMessageSendingOperations messagingTemplate,
+                                  List<RedisMessageHandler<?>> handlers,
+                                  @Value("${redis.dispatch.lanes-per-family:4}") int lanesPerFamily,
+                                  @Value("${redis.dispatch.queue-capacity:2000}") int queueCapacity,
+                                  @Value("${redis.dispatch.offer-timeout-ms:50}") long offerTimeoutMillis) {
+        this.codec = codec;
+        this.messagingTemplate = messagingTemplate;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.routesByPrefix = HashMap.newHashMap(handlers.size());
+
+        for (RedisMessageHandler<?> handler : handlers) {
+            String prefix = handler.channelPrefix();
+            Route route = new Route(handler, lanesPerFamily, queueCapacity);
+            routes.add(route);
+
+            int separator = prefix.indexOf(CHANNEL_SEPARATOR);
+            if (separator == prefix.length() - 1) {
+                if (routesByPrefix.putIfAbsent(prefix, route) != null) {
+                    throw new IllegalStateException("Redis 채널 prefix 중복 - " + prefix);
+                }
+            } else {
+                otherRoutes.add(route);
+            }
+        }
+    }
+
+    public Optional<RedisMessageHandler<?>> findHandler(String channel) {
+        Route route = route(channel);
+        return route == null ? Optional.empty() : Optional.of(route.handler);
+    }
+
+    // 등록된 채널 계열 prefix 목록 (Stream 구독 시 계열별 스트림 키 생성용)
+    public List<String> channelPrefixes() {
+        return routes.stream().map(route -> route.handler.channelPrefix()).toList();
+    }
+
+    /**
+     * 채널의 lane 큐에 넣고 반환합니다. (Stream 수신용)
+     * 큐가 가득 차 있으면 자리가 날 때까지 기다리며, offerTimeout마다 blocked로 집계합니다.
+     * onHandled는 핸들러 처리가 끝난 뒤(실패 포함) lane 스레드에서 호출하며, 지원하지 않는 채널이면 false를 반환하고 호출하지 않습니다.
+     */
+    public boolean dispatch(String channel, byte[] payload, Runnable onHandled) {
+        Route route = route(channel);
+        if (route == null) {
+            log.warn(" Redis Subscriber 미지원 채널 - Channel: {}", channel);
+            return false;
+        }
+        route.lane(channel).submit(new Task(channel, payload, System.currentTimeMillis(), onHandled));
+        return true;
+    }
+
+    /**
+     * 채널의 lane 큐에 자리가 있으면 넣고, 가득 차 있으면 기다리지 않고 버립니다. (Pub/Sub 수신용)
+     * 버린 메시지는 dropped로 집계하며, 적재하지 못했으면 false를 반환합니다.
+     */
+    public boolean offer(String channel, byte[] payload) {
+        Route route = route(channel);
+        if (route == null) {
+            log.warn(" Redis Subscriber 미지원 채널 - Channel: {}", channel);
+            return false;
+        }
+        return route.lane(channel).offer(new Task(channel, payload, System.currentTimeMillis(), null));
+    }
+
+    public List<FamilyStats> stats() {
+        List<FamilyStats> stats = new ArrayList<>(routes.size());
+        for (Route route : routes) {
+            int queued = 0;
+            int maxQueued = 0;
+            for (Lane lane : route.lanes) {
+                int size = lane.queue.size();
+                queued += size;
+                maxQueued = Math.max(maxQueued, size);
+            }
+            stats.add(new FamilyStats(route.handler.channelPrefix(), queued, maxQueued,
+                    route.processed.sum(), route.blocked.sum(), route.dropped.sum(), route.failed.sum(),
+                    route.maxLagMillis.getThenReset()));
+        }
+        return stats;
+    }
+
+    // 남은 메시지를 처리한 뒤 lane 스레드 종료 (수신 컨테이너가 먼저 종료됨)
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MILLIS;
+        for (Route route : routes) {
+            for (Lane lane : route.lanes) {
+                try {
+                    lane.worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private Route route(String channel) {
+        int separator = channel.indexOf(CHANNEL_SEPARATOR);
+        if (separator >= 0) {
+            Route route = routesByPrefix.get(channel.substring(0, separator + 1));
+            if (route != null) {
+                return route;
+            }
+        }
+        for (Route route : otherRoutes) {
+            if (channel.startsWith(route.handler.channelPrefix())) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private <T> void handle(RedisMessageHandler<T> handler, String channel, byte[] payload) throws Exception {
+        T message = codec.decode(payload, handler.payloadType());
+        handler.handle(channel, message, messagingTemplate);
+    }
+
+    private final class Route {
+        private final RedisMessageHandler<?> handler;
+        private final Lane[] lanes;
+
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder blocked = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAccumulator maxLagMillis = new LongAccumulator(Math::max, 0);
+
+        private Route(RedisMessageHandler<?> handler, int laneCount, int queueCapacity) {
+            this.handler = handler;
+            this.lanes = new Lane[Math.max(1, laneCount)];
+            String family = handler.channelPrefix().replace(":", "");
+            for (int i = 0; i < lanes.length; i++) {
+                lanes[i] = new Lane(this, "redis-dispatch-" + family + "-" + i, queueCapacity);
+            }
+        }
+
+        private Lane lane(String channel) {
+            return lanes[Math.floorMod(channel.hashCode(), lanes.length)];
+        }
+    }
+
+    private final class Lane {
+        private final Route route;
+        private final BlockingQueue<Task> queue;
+        private final Thread worker;
+
+        private Lane(Route route, String name, int queueCapacity) {
+            this.route = route;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.worker = new Thread(this::run, name);
+            this.worker.setDaemon(true);
+            this.worker.start();
+        }
+
+        private void submit(Task task) {
+            try {
+                boolean waited = false;
+                while (!queue.offer(task, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    route.blocked.increment();
+                    if (!waited) {
+                        waited = true;
+                        log.warn(" Redis 메시지 처리 대기열 가득 참, 수신 대기 - Channel: {}, queued: {}", task.channel(), queue.size());
+                    }
+                }
+            } catch (InterruptedException e) {
+                // 종료 중 인터럽트 (Stream이면 ack 전이므로 메시지는 pending으로 남음)
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Redis 메시지 대기열 적재 중단 - Channel: " + task.channel(), e);
+            }
+        }
+
+        private boolean offer(Task task) {
+            if (queue.offer(task)) {
+                return true;
+            }
+            long dropped = route.dropped.sum();
+            route.dropped.increment();
+            if (dropped % 1_000 == 0) {
+                log.warn(" Redis 메시지 처리 대기열 가득 참, 메시지 버림 - Channel: {}, dropped: {}", task.channel(), dropped + 1);
+            }
+            return false;
+        }
+
+        private void run() {
+            while (running || !queue.isEmpty()) {
+                Task task;
+                try {
+                    task = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (task == null) {
+                    continue;
+                }
+
+                route.maxLagMillis.accumulate(System.currentTimeMillis() - task.enqueuedAt());
+                try {
+                    handle(route.handler, task.channel(), task.payload());
+                    route.processed.increment();
+                } catch (Exception e) {
+                    route.failed.increment();
+                    log.error(" Redis 메시지 처리 실패 - Channel: {}", task.channel(), e);
+                }
+                if (task.onHandled() != null) {
+                    task.onHandled().run();
+                }
+            }
+        }
+    }
+
+    private record Task(String channel, byte[] payload, long enqueuedAt, Runnable onHandled) {
+    }
+
+    // blocked: 큐가 가득 차 Stream 수신 스레드가 기다린 횟수, dropped: 큐가 가득 차 버린 Pub/Sub 메시지 수
+    // maxLagMillis: 직전 조회 이후 큐 대기 시간 최댓값
+    public record FamilyStats(String channelPrefix, int queued, int maxLaneQueued,
+                              long processed, long blocked, long dropped, long failed, long maxLagMillis) {
+    }
+}
@@ -1,9 +1,17 @@
 package com.nect.api.global.infra.redis;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 
-public interface RedisMessageHandler {
+public interface RedisMessageHandler<T> {
     String channelPrefix();
-    void handle(String channel, String payload, ObjectMapper objectMapper, SimpMessageSendingOperations messagingTemplate) throws Exception;
+
+    // 수신 payload를 디코딩할 타입 (디스패처에서 한 번만 디코딩해 전달)
+    Class<T> payloadType();
+
+    void handle(String channel, T message, SimpMessageSendingOperations messagingTemplate) throws Exception;
+
+    // 채널별 재전송용 스트림 보관 개수 (0이면 보관하지 않음)
+    default int replayLength() {
+        return 0;
+    }
 }
@@ -2,25 +2,88 @@ package com.nect.api.global.infra.redis;
 
 import com.nect.api.global.code.RedisErrorCode;
 import com.nect.api.global.infra.exception.RedisException;
-import lombok.RequiredArgsConstructor;
+import com.nect.api.global.infra.redis.codec.RedisMessageCodec;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class RedisPublisher {
 
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final RedisMessageCodec codec;
+    private final RedisMessageDispatcher dispatcher;
+    private final boolean streamEnabled;
+    private final long fanoutMaxLength;
+    private final Duration replayTtl;
 
-    private final RedisTemplate<String, Object> objectRedisTemplate;
+    public RedisPublisher(RedisTemplate<String, byte[]> binaryRedisTemplate,
+                          RedisMessageCodec codec,
+                          RedisMessageDispatcher dispatcher,
+                          @Value("${redis.stream.enabled:false}") boolean streamEnabled,
+                          @Value("${redis.stream.fanout-max-length:10000}") long fanoutMaxLength,
+                          @Value("${redis.stream.replay-ttl-hours:24}") long replayTtlHours) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.codec = codec;
+        this.dispatcher = dispatcher;
+        this.streamEnabled = streamEnabled;
+        this.fanoutMaxLength = fanoutMaxLength;
+        this.replayTtl = Duration.ofHours(replayTtlHours);
+    }
 
     public void publish(String channel, Object message) {
         try {
-            objectRedisTemplate.convertAndSend(channel, message);
-            log.info("Redis 메시지 발행 성공 - Channel: {}", channel);
+            byte[] payload = codec.encode(message);
+            if (streamEnabled) {
+                publishToStream(channel, payload);
+            } else {
+                binaryRedisTemplate.convertAndSend(channel, payload);
+            }
+            log.debug("Redis 메시지 발행 성공 - Channel: {}, Bytes: {}", channel, payload.length);
         } catch (Exception e) {
             throw new RedisException(RedisErrorCode.REDIS_PUBLISH_FAILED, "Channel: " + channel, e);
         }
     }
+
+    // 채널 계열별 전달용 스트림 + (재전송 대상 채널이면) 채널별 스트림에 XADD MAXLEN ~ (추가와 길이 제한을 한 명령으로), 만료 연장까지 한 번의 파이프라인으로 전송
+    private void publishToStream(String channel, byte[] payload) {
+        RedisMessageHandler<?> handler = dispatcher.findHandler(channel)
+                .orElseThrow(() -> new IllegalArgumentException("Redis 채널 계열 없음 - Channel: " + channel));
+
+        Map<byte[], byte[]> fields = Map.of(
+                RedisStreamKeys.FIELD_CHANNEL.getBytes(StandardCharsets.UTF_8), channel.getBytes(StandardCharsets.UTF_8),
+                RedisStreamKeys.FIELD_PAYLOAD.getBytes(StandardCharsets.UTF_8), payload
+        );
+
+        byte[] fanoutKey = RedisStreamKeys.fanout(handler.channelPrefix()).getBytes(StandardCharsets.UTF_8);
+        int replayLength = handler.replayLength();
+        byte[] replayKey = replayLength > 0
+                ? RedisStreamKeys.replay(channel).getBytes(StandardCharsets.UTF_8)
+                : null;
+
+        binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            append(connection, fanoutKey, fields, fanoutMaxLength);
+            if (replayKey != null) {
+                append(connection, replayKey, fields, replayLength);
+                connection.keyCommands().pExpire(replayKey, replayTtl.toMillis());
+            }
+            return null;
+        });
+    }
+
+    private void append(RedisConnection connection, byte[] key, Map<byte[], byte[]> fields, long maxLength) {
+        ByteRecord record = StreamRecords.rawBytes(fields).withStreamKey(key);
+        connection.streamCommands().xAdd(record, XAddOptions.maxlen(maxLength).approximateTrimming(true));
+    }
 }
@@ -0,0 +1,24 @@
+package com.nect.api.global.infra.redis;
+
+// Redis Stream 키/필드 이름
+public final class RedisStreamKeys {
+
+    public static final String FIELD_CHANNEL = "channel";
+    public static final String FIELD_PAYLOAD = "payload";
+
+    private static final String FANOUT_PREFIX = "stream:fanout:";
+    private static final String REPLAY_PREFIX = "stream:";
+
+    private RedisStreamKeys() {
+    }
+
+    // 채널 계열별 전달용 스트림, 모든 API 노드가 각자의 consumer group으로 읽음 (예: chatroom: -> stream:fanout:chatroom)
+    public static String fanout(String channelPrefix) {
+        return FANOUT_PREFIX + channelPrefix.replace(":", "");
+    }
+
+    // 채널별 재전송용 스트림 (예: stream:chatroom:1)
+    public static String replay(String channel) {
+        return REPLAY_PREFIX + channel;
+    }
+}
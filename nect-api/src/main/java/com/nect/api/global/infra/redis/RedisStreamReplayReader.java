@@ -0,0 +1,61 @@
+package com.nect.api.global.infra.redis;
+
+import com.nect.api.global.infra.redis.codec.RedisMessageCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 채널별 재전송용 스트림에서 최근 메시지를 읽습니다.
+ * Stream 전송을 끄면 재전송 스트림도 더 이상 쌓이지 않으므로, 남아 있는 이전 스트림을 읽지 않고 빈 목록을 반환합니다. (호출부는 DB로 대체)
+ */
+@Component
+public class RedisStreamReplayReader {
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final RedisMessageCodec codec;
+    private final boolean streamEnabled;
+
+    public RedisStreamReplayReader(RedisTemplate<String, byte[]> binaryRedisTemplate,
+                                   RedisMessageCodec codec,
+                                   @Value("${redis.stream.enabled:false}") boolean streamEnabled) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.codec = codec;
+        this.streamEnabled = streamEnabled;
+    }
+
+    // 최근 count개의 메시지 (오래된 순), 디코딩에 실패하면 UncheckedIOException
+    public <T> List<T> readRecent(String channel, int count, Class<T> type) {
+        if (!streamEnabled) {
+            return Collections.emptyList();
+        }
+        List<MapRecord<String, Object, Object>> records = binaryRedisTemplate.opsForStream()
+                .reverseRange(RedisStreamKeys.replay(channel), Range.unbounded(), Limit.limit().count(count));
+
+        if (records == null || records.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<T> messages = new ArrayList<>(records.size());
+        for (int i = records.size() - 1; i >= 0; i--) {
+            Object payload = records.get(i).getValue().get(RedisStreamKeys.FIELD_PAYLOAD);
+            if (payload instanceof byte[] bytes) {
+                try {
+                    messages.add(codec.decode(bytes, type));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("재전송 스트림 메시지 디코딩 실패 - channel: " + channel, e);
+                }
+            }
+        }
+        return messages;
+    }
+}
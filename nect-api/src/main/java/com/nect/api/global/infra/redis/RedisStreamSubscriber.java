@@ -0,0 +1,185 @@
+package com.nect.api.global.infra.redis;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채널 계열별 전달용 스트림(stream:fanout:{계열})을 노드 전용 consumer group으로 읽어 핸들러에 전달합니다.
+ * 계열마다 스트림과 읽는 스레드가 따로 있으므로, 한 계열의 작업 큐가 가득 차도 다른 계열의 수신은 멈추지 않습니다.
+ *
+ * ack는 핸들러 처리가 끝난 뒤 lane 스레드에서 보냅니다. 처리 전에 노드가 종료되면 메시지는 group의 pending 목록에 남고,
+ * 재기동 시 pending 목록부터 다시 읽어 전달합니다. (최소 한 번 전달)
+ * group은 노드 id(redis.stream.node-id, 없으면 호스트 이름)로 고정되어 재기동 후에도 이어서 사용하며,
+ * 교체되어 더 이상 읽지 않는 노드의 group은 consumer가 group-idle-timeout 이상 쉬고 있으면 기동 시 제거합니다.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "redis.stream.enabled", havingValue = "true")
+public class RedisStreamSubscriber {
+
+    private static final String GROUP_PREFIX = "node:";
+    private static final int PENDING_BATCH_SIZE = 100;
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final RedisMessageDispatcher dispatcher;
+    private final String group;
+    private final Duration groupIdleTimeout;
+
+    public RedisStreamSubscriber(RedisTemplate<String, byte[]> binaryRedisTemplate,
+                                 RedisMessageDispatcher dispatcher,
+                                 @Value("${redis.stream.node-id:${HOSTNAME:}}") String nodeId,
+                                 @Value("${redis.stream.group-idle-timeout-hours:24}") long groupIdleTimeoutHours) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.dispatcher = dispatcher;
+        this.group = GROUP_PREFIX + (StringUtils.hasText(nodeId) ? nodeId : localHostName());
+        this.groupIdleTimeout = Duration.ofHours(groupIdleTimeoutHours);
+    }
+
+    public Consumer consumer() {
+        return Consumer.from(group, group);
+    }
+
+    // 구독할 채널 계열별 전달용 스트림 키
+    public List<String> streamKeys() {
+        return dispatcher.channelPrefixes().stream().map(RedisStreamKeys::fanout).toList();
+    }
+
+    // 계열별 스트림에 group 준비: 쉬고 있는 다른 노드 group 제거, 없으면 생성, 남은 pending 메시지 전달
+    public void prepare() {
+        for (String streamKey : streamKeys()) {
+            removeIdleGroups(streamKey);
+            createGroup(streamKey);
+            deliverPending(streamKey);
+        }
+    }
+
+    // 노드 기동 시점 이후 메시지부터 읽도록 group 생성 (이미 있으면 마지막 위치부터 이어서 사용)
+    public void createGroup(String streamKey) {
+        try {
+            binaryRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands().xGroupCreate(
+                    streamKey.getBytes(StandardCharsets.UTF_8), group, ReadOffset.latest(), true));
+            log.info("Redis Stream consumer group 생성 - stream: {}, group: {}", streamKey, group);
+        } catch (Exception e) {
+            log.info("Redis Stream consumer group 재사용 - stream: {}, group: {}, reason: {}", streamKey, group, e.getMessage());
+        }
+    }
+
+    // 계열별 스트림 리스너 (컨테이너에 스트림마다 따로 등록)
+    public StreamListener<String, MapRecord<String, String, byte[]>> listener(String streamKey) {
+        return record -> onMessage(streamKey, record.getId(), record.getValue());
+    }
+
+    // 이전 실행에서 읽었지만 ack하지 못한 메시지 (offset 0부터 이 consumer의 pending 목록을 읽음)
+    void deliverPending(String streamKey) {
+        String lastId = "0";
+        int delivered = 0;
+        try {
+            while (true) {
+                List<MapRecord<String, Object, Object>> records = binaryRedisTemplate.opsForStream().read(
+                        consumer(), StreamReadOptions.empty().count(PENDING_BATCH_SIZE),
+                        StreamOffset.create(streamKey, ReadOffset.from(lastId)));
+                if (records == null || records.isEmpty()) {
+                    break;
+                }
+                for (MapRecord<String, Object, Object> record : records) {
+                    onMessage(streamKey, record.getId(), record.getValue());
+                    lastId = record.getId().getValue();
+                }
+                delivered += records.size();
+            }
+        } catch (Exception e) {
+            log.warn("Redis Stream pending 메시지 전달 실패 - stream: {}, lastId: {}", streamKey, lastId, e);
+        }
+        if (delivered > 0) {
+            log.info("Redis Stream pending 메시지 전달 - stream: {}, count: {}", streamKey, delivered);
+        }
+    }
+
+    void onMessage(String streamKey, RecordId id, Map<?, ?> fields) {
+        String channel = fields.get(RedisStreamKeys.FIELD_CHANNEL) instanceof byte[] channelBytes
+                ? new String(channelBytes, StandardCharsets.UTF_8)
+                : null;
+        byte[] payload = fields.get(RedisStreamKeys.FIELD_PAYLOAD) instanceof byte[] payloadBytes ? payloadBytes : null;
+        try {
+            if (channel == null || payload == null) {
+                // 필드가 없는 항목(pending 목록에 남았지만 스트림에서는 잘려 나간 항목 포함)은 ack만 함
+                log.warn(" Redis Stream 필드 누락 - Id: {}", id);
+                acknowledge(streamKey, id);
+                return;
+            }
+            log.debug(" Redis Stream 수신 - Channel: {}, Id: {}", channel, id);
+            if (!dispatcher.dispatch(channel, payload, () -> acknowledge(streamKey, id))) {
+                acknowledge(streamKey, id);
+            }
+        } catch (IllegalStateException e) {
+            // 종료 중 대기열 적재 중단: ack하지 않고 pending으로 남김 (재기동 시 다시 전달)
+            log.warn(" Redis Stream 메시지 적재 중단 - Channel: {}, Id: {}", channel, id);
+        }
+    }
+
+    // 종료 시 컨테이너가 멈춘 뒤, 대기열에 남은 메시지를 처리하고 ack할 때까지 기다림 (group은 유지)
+    @PreDestroy
+    public void drain() {
+        dispatcher.shutdown();
+    }
+
+    private void acknowledge(String streamKey, RecordId id) {
+        try {
+            binaryRedisTemplate.opsForStream().acknowledge(streamKey, group, id);
+        } catch (Exception e) {
+            // pending으로 남아 재기동 시 다시 전달됨
+            log.warn(" Redis Stream ack 실패 - stream: {}, Id: {}", streamKey, id, e);
+        }
+    }
+
+    // consumer가 모두 group-idle-timeout 이상 쉬고 있는 다른 노드의 group 제거 (consumer가 없는 group은 생성 직후일 수 있어 유지)
+    private void removeIdleGroups(String streamKey) {
+        try {
+            StreamInfo.XInfoGroups groups = binaryRedisTemplate.opsForStream().groups(streamKey);
+            groups.forEach(info -> {
+                if (group.equals(info.groupName())) {
+                    return;
+                }
+                StreamInfo.XInfoConsumers consumers = binaryRedisTemplate.opsForStream().consumers(streamKey, info.groupName());
+                boolean idle = consumers.size() > 0 && consumers.stream()
+                        .allMatch(consumer -> consumer.idleTime().compareTo(groupIdleTimeout) >= 0);
+                if (idle) {
+                    binaryRedisTemplate.opsForStream().destroyGroup(streamKey, info.groupName());
+                    log.info("Redis Stream 유휴 consumer group 제거 - stream: {}, group: {}", streamKey, info.groupName());
+                }
+            });
+        } catch (Exception e) {
+            // 스트림이 아직 없으면 XINFO 실패
+            log.debug("Redis Stream consumer group 조회 생략 - stream: {}, reason: {}", streamKey, e.getMessage());
+        }
+    }
+
+    private static String localHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("Redis Stream 노드 id를 정할 수 없음 - redis.stream.node-id를 설정하세요", e);
+        }
+    }
+}
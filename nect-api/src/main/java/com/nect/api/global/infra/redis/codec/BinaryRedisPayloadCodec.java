@@ -0,0 +1,56 @@
+package com.nect.api.global.infra.redis.codec;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * typeId(varint) + {@link PayloadSchema} 순서대로의 필드 값만 기록하는 바이너리 codec.
+ * 클래스/필드 이름을 싣지 않으므로 JSON보다 payload가 작고 파싱 비용이 낮습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BinaryRedisPayloadCodec implements RedisPayloadCodec {
+
+    public static final String NAME = "binary";
+    public static final byte FORMAT_ID = 2;
+
+    private final RedisPayloadTypeRegistry typeRegistry;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte formatId() {
+        return FORMAT_ID;
+    }
+
+    @Override
+    public boolean supports(Class<?> type) {
+        return typeRegistry.find(type) != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void encode(Object message, PayloadWriter writer) {
+        PayloadSchema<Object> schema = (PayloadSchema<Object>) typeRegistry.find(message.getClass());
+        if (schema == null) {
+            throw new IllegalArgumentException("등록되지 않은 Redis payload 타입입니다: " + message.getClass().getName());
+        }
+        writer.writeVarLong(schema.typeId());
+        schema.write(message, writer);
+    }
+
+    @Override
+    public <T> T decode(PayloadReader reader, Class<T> type) throws IOException {
+        int typeId = (int) reader.readVarLong();
+        PayloadSchema<?> schema = typeRegistry.find(typeId);
+        if (schema == null || schema.type() != type) {
+            throw new IOException("Redis payload 타입 불일치 - typeId: " + typeId + ", expected: " + type.getName());
+        }
+        return type.cast(schema.read(reader));
+    }
+}
@@ -0,0 +1,45 @@
+package com.nect.api.global.infra.redis.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Jackson JSON codec. 스키마가 등록되지 않은 타입과 이전 버전 payload 해석에 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonRedisPayloadCodec implements RedisPayloadCodec {
+
+    public static final String NAME = "json";
+    public static final byte FORMAT_ID = 1;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte formatId() {
+        return FORMAT_ID;
+    }
+
+    @Override
+    public boolean supports(Class<?> type) {
+        return true;
+    }
+
+    @Override
+    public void encode(Object message, PayloadWriter writer) throws IOException {
+        writer.writeBytes(objectMapper.writeValueAsBytes(message));
+    }
+
+    @Override
+    public <T> T decode(PayloadReader reader, Class<T> type) throws IOException {
+        return objectMapper.readValue(reader.buffer(), reader.position(), reader.remaining(), type);
+    }
+}
@@ -0,0 +1,101 @@
+package com.nect.api.global.infra.redis.codec;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * {@link PayloadWriter}로 작성한 payload 읽기.
+ */
+public final class PayloadReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public PayloadReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public int readByte() throws IOException {
+        if (position >= buffer.length) {
+            throw new EOFException("payload가 예상보다 짧습니다.");
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    public long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 varint 형식입니다.");
+    }
+
+    public Long readLong() throws IOException {
+        if (readByte() == 0) {
+            return null;
+        }
+        return unZigZag(readVarLong());
+    }
+
+    public Integer readInt() throws IOException {
+        Long value = readLong();
+        return value == null ? null : Math.toIntExact(value);
+    }
+
+    public Boolean readBoolean() throws IOException {
+        int value = readByte();
+        return value == 0 ? null : value == 2;
+    }
+
+    public String readString() throws IOException {
+        long length = readVarLong();
+        if (length == 0) {
+            return null;
+        }
+        int byteLength = (int) (length - 1);
+        if (byteLength < 0 || byteLength > remaining()) {
+            throw new EOFException("문자열 길이가 payload 범위를 벗어났습니다.");
+        }
+        String value = new String(buffer, position, byteLength, StandardCharsets.UTF_8);
+        position += byteLength;
+        return value;
+    }
+
+    public <E extends Enum<E>> E readEnum(Class<E> type) throws IOException {
+        String name = readString();
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    public LocalDateTime readDateTime() throws IOException {
+        if (readByte() == 0) {
+            return null;
+        }
+        long epochSecond = unZigZag(readVarLong());
+        int nano = (int) readVarLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    public int remaining() {
+        return buffer.length - position;
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
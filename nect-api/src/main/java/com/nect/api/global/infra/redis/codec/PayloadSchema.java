@@ -0,0 +1,19 @@
+package com.nect.api.global.infra.redis.codec;
+
+import java.io.IOException;
+
+/**
+ * 바이너리 codec에서 사용하는 타입별 필드 배치.
+ * 필드 이름 없이 정해진 순서로만 기록하므로, 필드를 바꿀 때는 기존 순서를 유지한 채 뒤에 추가하거나 새 typeId를 사용해야 합니다.
+ */
+public interface PayloadSchema<T> {
+
+    // 1 ~ RedisPayloadTypeRegistry.MAX_TYPE_ID, 노드 간 고정 값
+    int typeId();
+
+    Class<T> type();
+
+    void write(T message, PayloadWriter writer);
+
+    T read(PayloadReader reader) throws IOException;
+}
@@ -0,0 +1,103 @@
+package com.nect.api.global.infra.redis.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 바이너리 payload 작성기.
+ * 정수는 varint, 문자열은 (UTF-8 길이 + 1) varint와 본문으로 기록하며, nullable 값은 0을 null로 사용합니다.
+ */
+public final class PayloadWriter {
+
+    private byte[] buffer;
+    private int size;
+
+    public PayloadWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+
+    public void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    // 부호 없는 varint (7비트씩, 하위 비트부터)
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    public void writeLong(Long value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        writeByte(1);
+        writeVarLong(zigZag(value));
+    }
+
+    public void writeInt(Integer value) {
+        writeLong(value == null ? null : value.longValue());
+    }
+
+    // 0: null, 1: false, 2: true
+    public void writeBoolean(Boolean value) {
+        writeByte(value == null ? 0 : (value ? 2 : 1));
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        writeBytes(bytes);
+    }
+
+    // 상수 순서 변경에 영향받지 않도록 이름으로 기록
+    public void writeEnum(Enum<?> value) {
+        writeString(value == null ? null : value.name());
+    }
+
+    // 시간대 변환 없이 벽시계 값 그대로 기록
+    public void writeDateTime(LocalDateTime value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        writeByte(1);
+        writeVarLong(zigZag(value.toEpochSecond(ZoneOffset.UTC)));
+        writeVarLong(value.getNano());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
@@ -0,0 +1,80 @@
+package com.nect.api.global.infra.redis.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Redis 발행/수신 payload 인코딩 진입점.
+ * 발행은 설정(redis.codec)한 codec으로 하되, 해당 codec이 지원하지 않는 타입은 JSON으로 보냅니다.
+ * 수신은 첫 바이트(formatId)로 codec을 골라 디코딩하며, '{'로 시작하면 헤더가 없던 이전 버전 JSON으로 해석합니다.
+ */
+@Component
+@Slf4j
+public class RedisMessageCodec {
+
+    private static final int MAX_FORMAT_ID = 15;
+    private static final byte LEGACY_JSON_START = '{';
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final RedisPayloadCodec[] codecsByFormat = new RedisPayloadCodec[MAX_FORMAT_ID + 1];
+    private final RedisPayloadCodec writeCodec;
+    private final RedisPayloadCodec jsonCodec;
+
+    public RedisMessageCodec(List<RedisPayloadCodec> codecs,
+                             @Value("${redis.codec:binary}") String codecName) {
+        RedisPayloadCodec selected = null;
+        RedisPayloadCodec json = null;
+        for (RedisPayloadCodec codec : codecs) {
+            byte formatId = codec.formatId();
+            if (formatId < 1 || formatId > MAX_FORMAT_ID || formatId == LEGACY_JSON_START) {
+                throw new IllegalStateException("Redis codec formatId 범위 초과 - " + codec.name() + ": " + formatId);
+            }
+            if (codecsByFormat[formatId] != null) {
+                throw new IllegalStateException("Redis codec formatId 중복 - " + formatId);
+            }
+            codecsByFormat[formatId] = codec;
+            if (codec.name().equals(codecName)) {
+                selected = codec;
+            }
+            if (codec.name().equals(JsonRedisPayloadCodec.NAME)) {
+                json = codec;
+            }
+        }
+        if (selected == null || json == null) {
+            throw new IllegalStateException("Redis codec을 찾을 수 없습니다 - redis.codec: " + codecName);
+        }
+        this.writeCodec = selected;
+        this.jsonCodec = json;
+        log.info("Redis payload codec - {}", codecName);
+    }
+
+    public byte[] encode(Object message) throws IOException {
+        RedisPayloadCodec codec = writeCodec.supports(message.getClass()) ? writeCodec : jsonCodec;
+        PayloadWriter writer = new PayloadWriter(INITIAL_CAPACITY);
+        writer.writeByte(codec.formatId());
+        codec.encode(message, writer);
+        return writer.toByteArray();
+    }
+
+    public <T> T decode(byte[] payload, Class<T> type) throws IOException {
+        if (payload == null || payload.length == 0) {
+            throw new EOFException("빈 Redis payload입니다.");
+        }
+
+        byte formatId = payload[0];
+        if (formatId == LEGACY_JSON_START) {
+            return jsonCodec.decode(new PayloadReader(payload, 0), type);
+        }
+
+        RedisPayloadCodec codec = formatId > 0 && formatId <= MAX_FORMAT_ID ? codecsByFormat[formatId] : null;
+        if (codec == null) {
+            throw new IOException("알 수 없는 Redis payload 형식입니다 - formatId: " + formatId);
+        }
+        return codec.decode(new PayloadReader(payload, 1), type);
+    }
+}
@@ -0,0 +1,22 @@
+package com.nect.api.global.infra.redis.codec;
+
+import java.io.IOException;
+
+/**
+ * Redis 전송 payload 인코딩 방식.
+ * 인코딩 결과 앞에는 {@link #formatId()} 1바이트가 붙으므로, 수신 측은 설정과 관계없이 발행 측 형식으로 디코딩합니다.
+ */
+public interface RedisPayloadCodec {
+
+    // 설정(redis.codec)에서 사용하는 이름
+    String name();
+
+    // payload 첫 바이트 (노드 간 고정 값)
+    byte formatId();
+
+    boolean supports(Class<?> type);
+
+    void encode(Object message, PayloadWriter writer) throws IOException;
+
+    <T> T decode(PayloadReader reader, Class<T> type) throws IOException;
+}
@@ -0,0 +1,48 @@
+package com.nect.api.global.infra.redis.codec;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 바이너리 codec 대상 타입 목록.
+ * typeId로 바로 찾을 수 있도록 고정 크기 배열에 등록하며, 기동 시 중복/범위를 검사합니다.
+ */
+@Component
+public class RedisPayloadTypeRegistry {
+
+    public static final int MAX_TYPE_ID = 63;
+
+    private final PayloadSchema<?>[] schemasById = new PayloadSchema<?>[MAX_TYPE_ID + 1];
+    private final Map<Class<?>, PayloadSchema<?>> schemasByType;
+
+    public RedisPayloadTypeRegistry(List<PayloadSchema<?>> schemas) {
+        this.schemasByType = HashMap.newHashMap(schemas.size());
+        for (PayloadSchema<?> schema : schemas) {
+            int typeId = schema.typeId();
+            if (typeId < 1 || typeId > MAX_TYPE_ID) {
+                throw new IllegalStateException("Redis payload typeId 범위 초과 - " + schema.type().getName() + ": " + typeId);
+            }
+            if (schemasById[typeId] != null) {
+                throw new IllegalStateException("Redis payload typeId 중복 - " + typeId + ": "
+                        + schemasById[typeId].type().getName() + ", " + schema.type().getName());
+            }
+            schemasById[typeId] = schema;
+            schemasByType.put(schema.type(), schema);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> PayloadSchema<T> find(Class<T> type) {
+        return (PayloadSchema<T>) schemasByType.get(type);
+    }
+
+    public PayloadSchema<?> find(int typeId) {
+        if (typeId < 1 || typeId > MAX_TYPE_ID) {
+            return null;
+        }
+        return schemasById[typeId];
+    }
+}
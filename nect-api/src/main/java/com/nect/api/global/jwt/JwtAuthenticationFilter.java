@@ -1,10 +1,11 @@
 package com.nect.api.global.jwt;
 
+import com.nect.api.global.config.RouteClassifier;
+import com.nect.api.global.jwt.dto.AuthenticatedToken;
 import com.nect.api.global.jwt.exception.ExpiredJwtTokenException;
 import com.nect.api.global.jwt.exception.InvalidJwtTokenException;
 import com.nect.api.global.jwt.exception.JwtClaimsEmptyException;
 import com.nect.api.global.jwt.exception.UnsupportedJwtTokenException;
-import com.nect.api.global.jwt.service.TokenBlacklistService;
 import com.nect.api.global.security.UserDetailsServiceImpl;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -16,11 +17,9 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
-import java.util.List;
 
 @Slf4j
 @Component
@@ -29,9 +28,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
-    private final TokenBlacklistService tokenBlacklistService;
-    private final List<String> excludePaths;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final RouteClassifier routeClassifier;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
@@ -72,30 +69,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private boolean shouldSkipAuthentication(HttpServletRequest request) {
-        String requestURI = request.getRequestURI();
-
-        if (excludePaths.contains("*")) {
-            return true;
-        }
-
-        return excludePaths.stream().anyMatch(path ->
-                pathMatcher.match(path, requestURI)
-        );
+        return routeClassifier.skipsAuthentication(request.getRequestURI());
     }
 
     private void authenticateToken(String token) {
-        jwtUtil.validateToken(token);
-
-        if (tokenBlacklistService.isBlacklisted(token)) {
-            throw new InvalidJwtTokenException();
-        }
-
-        Long memberId = jwtUtil.getUserIdFromToken(token);
+        // 블랙리스트 확인 + 서명 검증을 한 번에 (검증된 토큰은 exp까지 캐시)
+        AuthenticatedToken authenticated = jwtUtil.authenticate(token);
+        Long memberId = authenticated.userId();
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(String.valueOf(memberId));
+        // principal은 토큰 claims로 생성 (jwt.principal.stateless=false면 user 조회)
+        UserDetails userDetails = userDetailsService.loadUserByToken(authenticated);
 
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        authentication.setDetails(authenticated);
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
         log.debug("Set Authentication to SecurityContext for member: {}", memberId);
@@ -1,11 +1,13 @@
 package com.nect.api.global.jwt;
 
+import com.nect.api.global.jwt.dto.AuthenticatedToken;
 import com.nect.api.global.jwt.dto.TokenDataDto;
 import com.nect.api.global.jwt.exception.ExpiredJwtTokenException;
 import com.nect.api.global.jwt.exception.InvalidJwtTokenException;
 import com.nect.api.global.jwt.exception.JwtClaimsEmptyException;
 import com.nect.api.global.jwt.exception.UnsupportedJwtTokenException;
 import com.nect.api.global.jwt.service.TokenBlacklistService;
+import com.nect.api.global.jwt.service.TokenEpochService;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -20,60 +22,63 @@ import java.util.Date;
 @Component
 public class JwtUtil {
 
+    // 발급 시점의 사용자 토큰 epoch (TokenEpochService)
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
     private final TokenBlacklistService tokenBlacklistService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenEpochService tokenEpochService;
 
     public JwtUtil(@Value("${jwt.secret}") String secret,
                    @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
                    @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
-                   TokenBlacklistService tokenBlacklistService) {
+                   TokenBlacklistService tokenBlacklistService,
+                   VerifiedTokenCache verifiedTokenCache,
+                   TokenEpochService tokenEpochService) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
         this.tokenBlacklistService = tokenBlacklistService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenEpochService = tokenEpochService;
     }
 
     public String generateAccessToken(Long userId) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + accessTokenExpiration);
 
-        String token = Jwts.builder()
+        return Jwts.builder()
                 .setSubject(userId.toString())
+                .claim(TOKEN_VERSION_CLAIM, tokenEpochService.issueEpoch(userId))
                 .setIssuedAt(now)
                 .setExpiration(expiration)
                 .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
-
-        tokenBlacklistService.trackUserToken(userId, token,
-                java.time.Duration.ofMillis(accessTokenExpiration));
-
-        return token;
     }
 
     public String generateRefreshToken(Long userId) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + refreshTokenExpiration);
 
-        String token = Jwts.builder()
+        return Jwts.builder()
                 .setSubject(userId.toString())
+                .claim(TOKEN_VERSION_CLAIM, tokenEpochService.issueEpoch(userId))
                 .setIssuedAt(now)
                 .setExpiration(expiration)
                 .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
-
-        tokenBlacklistService.trackUserToken(userId, token,
-                java.time.Duration.ofMillis(refreshTokenExpiration));
-
-        return token;
     }
 
     public Claims parseToken(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
+            return jwtParser
                     .parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
@@ -94,18 +99,40 @@ public class JwtUtil {
         }
     }
 
-    public void validateToken(String token) {
-        try {
-            if (tokenBlacklistService.isBlacklisted(token)) {
-                log.warn("Token is blacklisted");
-                throw new InvalidJwtTokenException();
-            }
-
-            parseToken(token);
-        } catch (ExpiredJwtTokenException | UnsupportedJwtTokenException |
-                 JwtClaimsEmptyException | InvalidJwtTokenException e) {
-            throw e;
+    /**
+     * 블랙리스트 확인 후 토큰을 검증하고 인증 정보를 반환합니다.
+     * 서명 검증은 토큰당 한 번만 하고, 결과는 exp까지 VerifiedTokenCache에 보관합니다.
+     * 토큰의 ver가 사용자의 현재 토큰 epoch보다 작으면(일괄 무효화 이전 발급) 캐시 여부와 관계없이 거부합니다.
+     */
+    public AuthenticatedToken authenticate(String token) {
+        String tokenId = TokenIds.of(token);
+        if (tokenBlacklistService.isBlacklistedId(tokenId)) {
+            log.warn("Token is blacklisted");
+            throw new InvalidJwtTokenException();
         }
+
+        AuthenticatedToken authenticated = verifiedTokenCache.get(tokenId);
+        if (authenticated == null) {
+            Claims claims = parseToken(token);
+            Number tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Number.class);
+            authenticated = new AuthenticatedToken(
+                    Long.valueOf(claims.getSubject()),
+                    tokenVersion != null ? tokenVersion.longValue() : 0L,
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L,
+                    claims.getExpiration().getTime()
+            );
+            verifiedTokenCache.put(tokenId, authenticated);
+        }
+
+        if (authenticated.tokenVersion() < tokenEpochService.currentEpoch(authenticated.userId())) {
+            log.warn("Token is revoked by token epoch");
+            throw new InvalidJwtTokenException();
+        }
+        return authenticated;
+    }
+
+    public void validateToken(String token) {
+        authenticate(token);
     }
 
     public void blacklistToken(String token) {
@@ -113,6 +140,7 @@ public class JwtUtil {
             Claims claims = parseToken(token);
             long expirationTime = claims.getExpiration().getTime();
             tokenBlacklistService.blacklistToken(token, expirationTime);
+            verifiedTokenCache.evict(TokenIds.of(token));
         } catch (Exception e) {
             throw new RuntimeException("Failed to blacklist token", e);
         }
@@ -140,10 +168,7 @@ public class JwtUtil {
     }
 
     public TokenDataDto refreshToken(String refreshToken) {
-        validateToken(refreshToken);
-
-        Claims claims = parseToken(refreshToken);
-        Long userId = Long.valueOf(claims.getSubject());
+        Long userId = authenticate(refreshToken).userId();
 
         return createTokenData(userId);
     }
@@ -0,0 +1,28 @@
+package com.nect.api.global.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 쓰는 짧은 식별자 (SHA-256 앞 16바이트, base64url 22자).
+ * 블랙리스트 키와 검증 캐시 키에 사용하므로 요청마다 한 번만 계산합니다.
+ */
+public final class TokenIds {
+
+    private static final int ID_BYTES = 16;
+
+    private TokenIds() {
+    }
+
+    public static String of(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, ID_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.nect.api.global.jwt;
+
+import com.nect.api.global.jwt.dto.AuthenticatedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증이 끝난 토큰의 인증 정보 캐시.
+ * 같은 토큰으로 들어오는 요청마다 HMAC 검증과 claims 파싱을 반복하지 않도록, 토큰 id({@link TokenIds})를 키로 보관합니다.
+ * 항목은 토큰의 exp까지만 유효하고, 최대 개수를 넘으면 만료된 항목부터 정리합니다.
+ * 블랙리스트 확인은 캐시와 별개로 요청마다 수행합니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxEntries;
+    private final Map<String, AuthenticatedToken> cache = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    // 캐시에 없거나 만료되었으면 null
+    public AuthenticatedToken get(String tokenId) {
+        AuthenticatedToken cached = cache.get(tokenId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.isExpired(System.currentTimeMillis())) {
+            cache.remove(tokenId, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    public void put(String tokenId, AuthenticatedToken authenticated) {
+        if (maxEntries <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (cache.size() >= maxEntries) {
+            cache.values().removeIf(entry -> entry.isExpired(now));
+            if (cache.size() >= maxEntries) {
+                cache.clear();
+            }
+        }
+        cache.put(tokenId, authenticated);
+    }
+
+    public void evict(String tokenId) {
+        cache.remove(tokenId);
+    }
+}
@@ -0,0 +1,13 @@
+package com.nect.api.global.jwt.dto;
+
+/**
+ * 서명/만료 검증을 마친 토큰에서 꺼낸 인증 정보 (불변).
+ * 요청마다 토큰을 한 번만 파싱하고, 이후 단계는 이 값만 사용합니다.
+ * tokenVersion: 발급 시점의 사용자 토큰 epoch (ver claim, 없으면 0)
+ */
+public record AuthenticatedToken(Long userId, long tokenVersion, long issuedAt, long expiresAt) {
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
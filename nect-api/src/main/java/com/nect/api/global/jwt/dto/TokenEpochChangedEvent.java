@@ -0,0 +1,10 @@
+package com.nect.api.global.jwt.dto;
+
+import java.util.List;
+
+/**
+ * 토큰 epoch가 바뀐(모든 토큰이 무효화된) 사용자를 다른 노드에 알리는 이벤트.
+ * 받은 노드는 해당 사용자의 로컬 epoch 캐시를 비우고 다음 요청에서 Redis 값을 다시 읽습니다.
+ */
+public record TokenEpochChangedEvent(List<Long> userIds) {
+}
@@ -0,0 +1,8 @@
+package com.nect.api.global.jwt.dto;
+
+/**
+ * 토큰 블랙리스트 추가를 다른 노드에 알리는 이벤트.
+ * expiresAt: 토큰 만료 시각(ms), 이후에는 블랙리스트에서 빠집니다.
+ */
+public record TokenRevokedEvent(String tokenId, long expiresAt) {
+}
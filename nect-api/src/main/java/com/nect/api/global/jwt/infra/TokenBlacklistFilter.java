@@ -0,0 +1,136 @@
+package com.nect.api.global.jwt.infra;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 블랙리스트 토큰 id의 노드 로컬 Bloom filter.
+ * "블랙리스트에 없음"은 Redis 조회 없이 바로 판단하고, 포함 가능성이 있을 때만 Redis로 확인합니다.
+ *
+ * 새로 추가된 id는 Redis 채널(blacklist:revoked)로 모든 노드에 전달되고,
+ * 만료된 id를 비우거나 놓친 이벤트를 복구하기 위해 주기적으로 Redis 목록에서 다시 만듭니다.
+ * 처음 적재 전에는 모든 토큰을 "포함 가능"으로 보고 Redis로 확인합니다.
+ */
+@Component
+public class TokenBlacklistFilter {
+
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    // add와 필터 교체를 묶는 lock (재적재 중 Redis 조회는 이 lock 밖에서 하므로 add가 오래 기다리지 않음)
+    private final Object swapLock = new Object();
+
+    private volatile BloomFilter current;
+    // 재적재 중 들어온 id를 새 필터에도 넣기 위한 참조 (swapLock 안에서만 변경)
+    private BloomFilter pending;
+    private volatile boolean ready;
+    private volatile int loadedCount;
+
+    public TokenBlacklistFilter(@Value("${jwt.blacklist.bloom.expected-insertions:100000}") int expectedInsertions,
+                                @Value("${jwt.blacklist.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedInsertions = Math.max(1, expectedInsertions);
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = new BloomFilter(this.expectedInsertions, falsePositiveRate);
+    }
+
+    public boolean mightContain(String tokenId) {
+        return !ready || current.mightContain(tokenId);
+    }
+
+    // 교체 직전에 기존 필터에만 들어가 새 필터에서 빠지는 일이 없도록 교체와 같은 lock 안에서 추가
+    public void add(String tokenId) {
+        synchronized (swapLock) {
+            current.add(tokenId);
+            if (pending != null) {
+                pending.add(tokenId);
+            }
+        }
+    }
+
+    /**
+     * loader가 돌려준 id(현재 유효한 블랙리스트 전체)로 필터를 새로 만들어 교체합니다.
+     * loader 실패 시 기존 필터를 그대로 둡니다.
+     */
+    public synchronized int rebuild(Supplier<Collection<String>> loader) {
+        BloomFilter next = new BloomFilter(Math.max(expectedInsertions, loadedCount * 2), falsePositiveRate);
+        synchronized (swapLock) {
+            pending = next;
+        }
+        try {
+            Collection<String> tokenIds = loader.get();
+            tokenIds.forEach(next::add);
+            synchronized (swapLock) {
+                current = next;
+                pending = null;
+                ready = true;
+                loadedCount = tokenIds.size();
+            }
+            return tokenIds.size();
+        } finally {
+            synchronized (swapLock) {
+                pending = null;
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 토큰 id는 SHA-256 앞 16바이트이므로 두 long을 그대로 해시로 사용 (double hashing)
+    private static final class BloomFilter {
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        private BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int words = (int) Math.max(1, (size + 63) / 64);
+            this.bits = new AtomicLongArray(words);
+            this.bitSize = (long) words * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        }
+
+        private void add(String tokenId) {
+            long[] hashes = hashes(tokenId);
+            for (int i = 0; i < hashCount; i++) {
+                long index = index(hashes, i);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long value;
+                do {
+                    value = bits.get(word);
+                    if ((value & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(word, value, value | mask));
+            }
+        }
+
+        private boolean mightContain(String tokenId) {
+            long[] hashes = hashes(tokenId);
+            for (int i = 0; i < hashCount; i++) {
+                long index = index(hashes, i);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long index(long[] hashes, int i) {
+            return Math.floorMod(hashes[0] + i * hashes[1], bitSize);
+        }
+
+        private static long[] hashes(String tokenId) {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(tokenId));
+            return new long[]{buffer.getLong(), buffer.getLong() | 1};
+        }
+    }
+}
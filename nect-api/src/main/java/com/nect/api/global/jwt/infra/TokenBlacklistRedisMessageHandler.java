@@ -0,0 +1,40 @@
+package com.nect.api.global.jwt.infra;
+
+import com.nect.api.global.infra.redis.RedisMessageHandler;
+import com.nect.api.global.jwt.dto.TokenRevokedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+/**
+ * 다른 노드(또는 자신)가 블랙리스트에 추가한 토큰 id를 이 노드의 Bloom filter에 반영합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenBlacklistRedisMessageHandler implements RedisMessageHandler<TokenRevokedEvent> {
+
+    public static final String CHANNEL_PREFIX = "blacklist:";
+    public static final String REVOKED_CHANNEL = CHANNEL_PREFIX + "revoked";
+
+    private final TokenBlacklistFilter tokenBlacklistFilter;
+
+    @Override
+    public String channelPrefix() {
+        return CHANNEL_PREFIX;
+    }
+
+    @Override
+    public Class<TokenRevokedEvent> payloadType() {
+        return TokenRevokedEvent.class;
+    }
+
+    @Override
+    public void handle(String channel, TokenRevokedEvent event, SimpMessageSendingOperations messagingTemplate) {
+        if (event.expiresAt() > System.currentTimeMillis()) {
+            tokenBlacklistFilter.add(event.tokenId());
+            log.debug(" 블랙리스트 토큰 반영 - tokenId: {}", event.tokenId());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.nect.api.global.jwt.infra;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 토큰 epoch의 노드 로컬 캐시.
+ * epoch 변경은 Redis 채널(token-epoch:changed)로 즉시 비우고, 놓친 이벤트에 대비해 ttl이 지나면 다시 읽습니다.
+ * 읽는 도중 비우기가 일어나면 읽은 값이 이전 epoch일 수 있으므로 보관하지 않습니다. (사용자 id별 세대 번호로 확인)
+ */
+@Component
+public class TokenEpochCache {
+
+    private final long ttlMillis;
+    private final int maxUsers;
+
+    private static final int GENERATION_STRIPES = 256;
+
+    private final Map<Long, CachedEpoch> cache = new ConcurrentHashMap<>();
+    // evict마다 증가 (사용자 id를 나눈 구간별)
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public TokenEpochCache(@Value("${jwt.token-epoch.cache-ttl-seconds:60}") long ttlSeconds,
+                           @Value("${jwt.token-epoch.cache-max-users:10000}") int maxUsers) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxUsers = maxUsers;
+    }
+
+    // 캐시에 없거나 ttl이 지났으면 loader로 읽어 보관
+    public long get(Long userId, LongSupplier loader) {
+        long now = System.currentTimeMillis();
+        CachedEpoch cached = cache.get(userId);
+        if (cached != null && cached.loadedAt + ttlMillis > now) {
+            return cached.epoch;
+        }
+
+        int stripe = stripe(userId);
+        long generation = generations.get(stripe);
+        long epoch = loader.getAsLong();
+        if (generations.get(stripe) != generation) {
+            return epoch;
+        }
+
+        if (cache.size() >= maxUsers) {
+            cache.values().removeIf(entry -> entry.loadedAt + ttlMillis <= now);
+            if (cache.size() >= maxUsers) {
+                cache.clear();
+            }
+        }
+        cache.put(userId, new CachedEpoch(epoch, now));
+        // 보관하는 사이 비우기가 끝난 경우 방금 넣은 값 제거
+        if (generations.get(stripe) != generation) {
+            cache.remove(userId);
+        }
+        return epoch;
+    }
+
+    public void evict(Long userId) {
+        generations.incrementAndGet(stripe(userId));
+        cache.remove(userId);
+    }
+
+    private static int stripe(Long userId) {
+        return (int) Math.floorMod(userId, (long) GENERATION_STRIPES);
+    }
+
+    private record CachedEpoch(long epoch, long loadedAt) {
+    }
+}
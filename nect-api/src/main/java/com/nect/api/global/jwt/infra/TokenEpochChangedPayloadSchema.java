@@ -0,0 +1,46 @@
+package com.nect.api.global.jwt.infra;
+
+import com.nect.api.global.infra.redis.codec.PayloadReader;
+import com.nect.api.global.infra.redis.codec.PayloadSchema;
+import com.nect.api.global.infra.redis.codec.PayloadWriter;
+import com.nect.api.global.jwt.dto.TokenEpochChangedEvent;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// 토큰 epoch 변경 이벤트 바이너리 배치 (필드 순서 변경 금지, 추가는 뒤에)
+@Component
+public class TokenEpochChangedPayloadSchema implements PayloadSchema<TokenEpochChangedEvent> {
+
+    public static final int TYPE_ID = 5;
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public Class<TokenEpochChangedEvent> type() {
+        return TokenEpochChangedEvent.class;
+    }
+
+    @Override
+    public void write(TokenEpochChangedEvent message, PayloadWriter writer) {
+        writer.writeVarLong(message.userIds().size());
+        for (Long userId : message.userIds()) {
+            writer.writeLong(userId);
+        }
+    }
+
+    @Override
+    public TokenEpochChangedEvent read(PayloadReader reader) throws IOException {
+        int size = (int) reader.readVarLong();
+        List<Long> userIds = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            userIds.add(reader.readLong());
+        }
+        return new TokenEpochChangedEvent(userIds);
+    }
+}
@@ -0,0 +1,38 @@
+package com.nect.api.global.jwt.infra;
+
+import com.nect.api.global.infra.redis.RedisMessageHandler;
+import com.nect.api.global.jwt.dto.TokenEpochChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+/**
+ * 다른 노드(또는 자신)에서 토큰 epoch가 바뀐 사용자의 로컬 epoch 캐시를 비웁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenEpochRedisMessageHandler implements RedisMessageHandler<TokenEpochChangedEvent> {
+
+    public static final String CHANNEL_PREFIX = "token-epoch:";
+    public static final String CHANGED_CHANNEL = CHANNEL_PREFIX + "changed";
+
+    private final TokenEpochCache tokenEpochCache;
+
+    @Override
+    public String channelPrefix() {
+        return CHANNEL_PREFIX;
+    }
+
+    @Override
+    public Class<TokenEpochChangedEvent> payloadType() {
+        return TokenEpochChangedEvent.class;
+    }
+
+    @Override
+    public void handle(String channel, TokenEpochChangedEvent event, SimpMessageSendingOperations messagingTemplate) {
+        event.userIds().forEach(tokenEpochCache::evict);
+        log.debug(" 토큰 epoch 캐시 무효화 - users: {}", event.userIds().size());
+    }
+}
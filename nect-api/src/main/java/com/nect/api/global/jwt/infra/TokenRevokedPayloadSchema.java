@@ -0,0 +1,37 @@
+package com.nect.api.global.jwt.infra;
+
+import com.nect.api.global.infra.redis.codec.PayloadReader;
+import com.nect.api.global.infra.redis.codec.PayloadSchema;
+import com.nect.api.global.infra.redis.codec.PayloadWriter;
+import com.nect.api.global.jwt.dto.TokenRevokedEvent;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// 토큰 블랙리스트 추가 이벤트 바이너리 배치 (필드 순서 변경 금지, 추가는 뒤에)
+@Component
+public class TokenRevokedPayloadSchema implements PayloadSchema<TokenRevokedEvent> {
+
+    public static final int TYPE_ID = 4;
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public Class<TokenRevokedEvent> type() {
+        return TokenRevokedEvent.class;
+    }
+
+    @Override
+    public void write(TokenRevokedEvent message, PayloadWriter writer) {
+        writer.writeString(message.tokenId());
+        writer.writeLong(message.expiresAt());
+    }
+
+    @Override
+    public TokenRevokedEvent read(PayloadReader reader) throws IOException {
+        return new TokenRevokedEvent(reader.readString(), reader.readLong());
+    }
+}
@@ -1,31 +1,55 @@
 package com.nect.api.global.jwt.service;
 
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import com.nect.api.global.infra.exception.RedisException;
+import com.nect.api.global.infra.redis.RedisPublisher;
+import com.nect.api.global.jwt.TokenIds;
+import com.nect.api.global.jwt.dto.TokenRevokedEvent;
+import com.nect.api.global.jwt.infra.TokenBlacklistFilter;
+import com.nect.api.global.jwt.infra.TokenBlacklistRedisMessageHandler;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 블랙리스트는 토큰 원문 대신 토큰 id({@link TokenIds})를 키로 저장합니다. (blacklist:token:{tokenId})
+ * 요청마다의 확인은 노드 로컬 Bloom filter({@link TokenBlacklistFilter})가 먼저 판단하고, 포함 가능성이 있을 때만 Redis로 확인합니다.
+ * 유효한 id 목록은 만료 시각을 score로 한 sorted set(blacklist:token-ids)에 두어 필터 재적재에 사용합니다.
+ */
 @Slf4j
 @Service
 public class TokenBlacklistService {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final SecretKey secretKey;
+    private final TokenBlacklistFilter tokenBlacklistFilter;
+    private final RedisPublisher redisPublisher;
+    private final TokenEpochService tokenEpochService;
     private static final String BLACKLIST_PREFIX = "blacklist:token:";
-    private static final String USER_TOKENS_PREFIX = "user:tokens:";
+    private static final String BLACKLIST_IDS_KEY = "blacklist:token-ids";
+    private static final int LEGACY_SCAN_COUNT = 500;
+    // 이전 형식 키 이동 상태 (running: 한 노드가 진행 중, done: 완료되어 어느 노드도 다시 SCAN하지 않음)
+    private static final String LEGACY_MIGRATION_KEY = "blacklist:legacy-migration";
+    private static final String LEGACY_MIGRATION_DONE = "done";
+    private static final Duration LEGACY_MIGRATION_LOCK_TTL = Duration.ofMinutes(10);
+
+    private volatile boolean legacyMigrated;
 
     public TokenBlacklistService(RedisTemplate<String, String> redisTemplate,
-                                 @Value("${jwt.secret}") String secret) {
+                                 TokenBlacklistFilter tokenBlacklistFilter,
+                                 RedisPublisher redisPublisher,
+                                 TokenEpochService tokenEpochService) {
         this.redisTemplate = redisTemplate;
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.tokenBlacklistFilter = tokenBlacklistFilter;
+        this.redisPublisher = redisPublisher;
+        this.tokenEpochService = tokenEpochService;
     }
 
     /**
@@ -37,9 +61,10 @@ public class TokenBlacklistService {
             long remainingTime = expirationTime - currentTime;
 
             if (remainingTime > 0) {
-                String key = BLACKLIST_PREFIX + token;
-                Duration ttl = Duration.ofMillis(remainingTime);
-                redisTemplate.opsForValue().set(key, "blacklisted", ttl);
+                String tokenId = TokenIds.of(token);
+                writeEntry(tokenId, expirationTime);
+                tokenBlacklistFilter.add(tokenId);
+                publishRevoked(tokenId, expirationTime);
                 log.info("Token blacklisted successfully with TTL: {} ms", remainingTime);
             }
         } catch (Exception e) {
@@ -51,9 +76,19 @@ public class TokenBlacklistService {
      * 토큰이 블랙리스트에 있는지 확인
      */
     public boolean isBlacklisted(String token) {
+        return isBlacklistedId(TokenIds.of(token));
+    }
+
+    /**
+     * 토큰 id가 블랙리스트에 있는지 확인 (Bloom filter에 없으면 Redis를 조회하지 않음)
+     */
+    public boolean isBlacklistedId(String tokenId) {
+        if (!tokenBlacklistFilter.mightContain(tokenId)) {
+            return false;
+        }
+
         try {
-            String key = BLACKLIST_PREFIX + token;
-            return redisTemplate.hasKey(key);
+            return redisTemplate.hasKey(BLACKLIST_PREFIX + tokenId);
         } catch (Exception e) {
             log.error("Failed to check token blacklist status", e);
             return false;
@@ -65,79 +100,127 @@ public class TokenBlacklistService {
      */
     public void removeFromBlacklist(String token) {
         try {
-            String key = BLACKLIST_PREFIX + token;
-            redisTemplate.delete(key);
+            String tokenId = TokenIds.of(token);
+            redisTemplate.delete(BLACKLIST_PREFIX + tokenId);
+            redisTemplate.opsForZSet().remove(BLACKLIST_IDS_KEY, tokenId);
         } catch (Exception e) {
             log.error("Failed to remove token from blacklist", e);
         }
     }
 
     /**
-     * 사용자의 토큰을 추적 리스트에 추가
+     * Redis의 유효한 블랙리스트 id로 로컬 Bloom filter 재적재 (만료 id 정리 + 놓친 이벤트 복구)
+     * 이전 형식(토큰 원문 키)의 블랙리스트는 클러스터에서 한 번만 토큰 id 키로 옮깁니다. (완료 표시 키로 판단)
+     * 다른 노드가 옮기는 중이면 옮겨진 id가 빠진 필터를 만들지 않도록 이번 재적재를 건너뜁니다. (기존 필터 또는 Redis 확인 유지)
+     *
+     * @return 적재한 id 수, 재적재를 건너뛰면 -1
      */
-    public void trackUserToken(Long memberId, String token, Duration expiration) {
+    public int rebuildFilter() {
+        if (!legacyMigrated) {
+            legacyMigrated = migrateLegacyKeysOnce();
+            if (!legacyMigrated) {
+                return -1;
+            }
+        }
+        return tokenBlacklistFilter.rebuild(this::loadActiveTokenIds);
+    }
+
+    // 완료 표시가 있으면 건너뛰고, 없으면 먼저 표시를 선점한 노드만 이동 (다른 노드가 진행 중이면 다음 재적재 때 다시 확인)
+    private boolean migrateLegacyKeysOnce() {
+        if (LEGACY_MIGRATION_DONE.equals(redisTemplate.opsForValue().get(LEGACY_MIGRATION_KEY))) {
+            return true;
+        }
+        Boolean claimed = redisTemplate.opsForValue()
+                .setIfAbsent(LEGACY_MIGRATION_KEY, "running", LEGACY_MIGRATION_LOCK_TTL);
+        if (!Boolean.TRUE.equals(claimed)) {
+            return false;
+        }
         try {
-            String userTokensKey = USER_TOKENS_PREFIX + memberId;
-            redisTemplate.opsForList().leftPush(userTokensKey, token);
-            redisTemplate.expire(userTokensKey, expiration);
-        } catch (Exception e) {
-            log.error("Failed to track token for user: {}", memberId, e);
+            migrateLegacyKeys();
+        } catch (RuntimeException e) {
+            // 실패하면 표시를 지워 다음 재적재 때 다시 시도
+            redisTemplate.delete(LEGACY_MIGRATION_KEY);
+            throw e;
         }
+        redisTemplate.opsForValue().set(LEGACY_MIGRATION_KEY, LEGACY_MIGRATION_DONE);
+        return true;
     }
 
-    /**
-     * 특정 사용자의 모든 토큰 무효화
-     */
-    public void invalidateUserTokens(Long memberId) {
+    private Collection<String> loadActiveTokenIds() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(BLACKLIST_IDS_KEY, 0, now);
+        Set<String> tokenIds = redisTemplate.opsForZSet().rangeByScore(BLACKLIST_IDS_KEY, now, Double.POSITIVE_INFINITY);
+        return tokenIds == null ? Set.of() : tokenIds;
+    }
+
+    private void writeEntry(String tokenId, long expirationTime) {
+        long remainingTime = expirationTime - System.currentTimeMillis();
+        if (remainingTime <= 0) {
+            return;
+        }
+        redisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenId, "blacklisted", Duration.ofMillis(remainingTime));
+        redisTemplate.opsForZSet().add(BLACKLIST_IDS_KEY, tokenId, expirationTime);
+    }
+
+    // 다른 노드 Bloom filter에 반영 (실패해도 다음 재적재 때 반영됨)
+    private void publishRevoked(String tokenId, long expirationTime) {
         try {
-            String userTokensKey = USER_TOKENS_PREFIX + memberId;
-
-            // 사용자의 모든 토큰을 가져와서 블랙리스트에 추가
-            Long listSize = redisTemplate.opsForList().size(userTokensKey);
-            if (listSize != null && listSize > 0) {
-                while (listSize > 0) {
-                    String token = redisTemplate.opsForList().rightPop(userTokensKey);
-                    if (token != null) {
-                        long expirationTime = extractExpirationTime(token);
-                        blacklistToken(token, expirationTime);
-                    }
-                    listSize = redisTemplate.opsForList().size(userTokensKey);
-                    if (listSize == null) break;
+            redisPublisher.publish(TokenBlacklistRedisMessageHandler.REVOKED_CHANNEL,
+                    new TokenRevokedEvent(tokenId, expirationTime));
+        } catch (RedisException e) {
+            log.warn("Failed to publish token revocation - tokenId: {}", tokenId, e);
+        }
+    }
+
+    // blacklist:token:{jwt} 형식 키를 blacklist:token:{tokenId}로 이동 (토큰 원문에는 '.'이 있음)
+    private void migrateLegacyKeys() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(BLACKLIST_PREFIX + "*")
+                .count(LEGACY_SCAN_COUNT)
+                .build();
+        int migrated = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                String token = key.substring(BLACKLIST_PREFIX.length());
+                if (token.indexOf('.') < 0) {
+                    continue;
+                }
+                Long ttlMillis = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttlMillis != null && ttlMillis > 0) {
+                    writeEntry(TokenIds.of(token), System.currentTimeMillis() + ttlMillis);
                 }
+                redisTemplate.delete(key);
+                migrated++;
             }
-
-            redisTemplate.delete(userTokensKey);
-        } catch (Exception e) {
-            log.error("Failed to invalidate user tokens for user: {}", memberId, e);
+        }
+        if (migrated > 0) {
+            log.info("Migrated legacy token blacklist keys: {}", migrated);
         }
     }
 
     /**
-     * 특정 크루의 모든 멤버 토큰 무효화
+     * 특정 사용자의 모든 토큰 무효화 (토큰 epoch 증가)
      */
-    public void invalidateCrewMemberTokens(Long crewId, java.util.List<Long> memberIds) {
-        for (Long memberId : memberIds) {
-            invalidateUserTokens(memberId);
+    public void invalidateUserTokens(Long memberId) {
+        try {
+            tokenEpochService.revokeAll(List.of(memberId));
+        } catch (Exception e) {
+            log.error("Failed to invalidate user tokens for user: {}", memberId, e);
         }
-
-        log.info("Completed token invalidation for crew: {} ({} members processed)", crewId, memberIds.size());
     }
 
     /**
-     * JWT 토큰에서 만료시간 추출
+     * 특정 크루의 모든 멤버 토큰 무효화 (멤버별 토큰 epoch 증가를 한 번에)
      */
-    private long extractExpirationTime(String token) {
+    public void invalidateCrewMemberTokens(Long crewId, List<Long> memberIds) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            return claims.getExpiration().getTime();
+            tokenEpochService.revokeAll(memberIds);
         } catch (Exception e) {
-            log.error("Failed to extract expiration time from token, using default: {}", e.getMessage());
-            return System.currentTimeMillis() + 3600000;
+            log.error("Failed to invalidate crew member tokens for crew: {}", crewId, e);
+            return;
         }
+
+        log.info("Completed token invalidation for crew: {} ({} members processed)", crewId, memberIds.size());
     }
 }
\ No newline at end of file
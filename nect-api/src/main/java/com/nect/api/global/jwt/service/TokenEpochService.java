@@ -0,0 +1,103 @@
+package com.nect.api.global.jwt.service;
+
+import com.nect.api.global.infra.exception.RedisException;
+import com.nect.api.global.infra.redis.RedisPublisher;
+import com.nect.api.global.jwt.dto.TokenEpochChangedEvent;
+import com.nect.api.global.jwt.infra.TokenEpochCache;
+import com.nect.api.global.jwt.infra.TokenEpochRedisMessageHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별 토큰 epoch(세대) 기반 일괄 무효화.
+ * 토큰 발급 시 현재 epoch를 ver claim으로 넣고, 검증 시 ver가 현재 epoch보다 작으면 무효로 봅니다.
+ * 사용자의 모든 토큰 무효화는 epoch INCR 한 번이며(크루는 멤버별 INCR을 한 번의 pipeline으로), 토큰 목록을 돌지 않습니다.
+ *
+ * ver claim이 없는 이전 버전 토큰은 epoch 0으로 간주하므로, 첫 무효화 전까지는 그대로 유효하고 이후에는 함께 무효화됩니다.
+ * epoch 키는 만료시키지 않습니다. (만료되어 0으로 돌아가면 이미 무효화된 세대의 토큰이 다시 유효해질 수 있음)
+ */
+@Slf4j
+@Service
+public class TokenEpochService {
+
+    private static final String EPOCH_PREFIX = "user:token-epoch:";
+    // 이전 버전의 사용자별 토큰 추적 리스트 (무효화 시 정리만 함)
+    private static final String LEGACY_USER_TOKENS_PREFIX = "user:tokens:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisPublisher redisPublisher;
+    private final TokenEpochCache tokenEpochCache;
+
+    public TokenEpochService(RedisTemplate<String, String> redisTemplate,
+                             RedisPublisher redisPublisher,
+                             TokenEpochCache tokenEpochCache) {
+        this.redisTemplate = redisTemplate;
+        this.redisPublisher = redisPublisher;
+        this.tokenEpochCache = tokenEpochCache;
+    }
+
+    // 요청 검증용 현재 epoch (로컬 캐시, Redis를 사용할 수 없으면 블랙리스트와 같이 0으로 보고 캐시하지 않음)
+    public long currentEpoch(Long userId) {
+        try {
+            return tokenEpochCache.get(userId, () -> readEpoch(userId));
+        } catch (RuntimeException e) {
+            log.error("Failed to read token epoch for user: {}", userId, e);
+            return 0L;
+        }
+    }
+
+    // 토큰 발급용 epoch (캐시가 늦으면 바로 무효화된 토큰이 발급되므로 Redis 값을 직접 읽음)
+    public long issueEpoch(Long userId) {
+        tokenEpochCache.evict(userId);
+        return currentEpoch(userId);
+    }
+
+    /**
+     * 사용자들의 모든 토큰 무효화 (사용자별 epoch INCR, 한 번의 pipeline)
+     */
+    public void revokeAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            incrementAll(connection, userIds);
+            return null;
+        });
+        redisTemplate.delete(userIds.stream().map(userId -> LEGACY_USER_TOKENS_PREFIX + userId).toList());
+
+        userIds.forEach(tokenEpochCache::evict);
+        publishChanged(List.copyOf(userIds));
+    }
+
+    private void incrementAll(RedisConnection connection, Collection<Long> userIds) {
+        for (Long userId : userIds) {
+            connection.stringCommands().incr(key(userId).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private long readEpoch(Long userId) {
+        String epoch = redisTemplate.opsForValue().get(key(userId));
+        return epoch == null ? 0L : Long.parseLong(epoch);
+    }
+
+    // 다른 노드의 로컬 캐시 무효화 (실패해도 캐시 ttl 이후 반영됨)
+    private void publishChanged(List<Long> userIds) {
+        try {
+            redisPublisher.publish(TokenEpochRedisMessageHandler.CHANGED_CHANNEL, new TokenEpochChangedEvent(userIds));
+        } catch (RedisException e) {
+            log.warn("Failed to publish token epoch change - users: {}", userIds.size(), e);
+        }
+    }
+
+    private static String key(Long userId) {
+        return EPOCH_PREFIX + userId;
+    }
+}
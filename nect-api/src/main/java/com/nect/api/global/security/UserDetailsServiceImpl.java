@@ -1,9 +1,10 @@
 package com.nect.api.global.security;
 
+import com.nect.api.global.jwt.dto.AuthenticatedToken;
 import com.nect.core.entity.user.User;
 import com.nect.core.repository.user.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -14,10 +15,22 @@ import java.util.List;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
+    private static final List<String> DEFAULT_ROLES = List.of("ROLE_USER");
+
     private final UserRepository userRepository;
+    private final UserPresenceCache userPresenceCache;
+    // true: 토큰 claims로 principal 생성 (요청마다 user 조회 없음), false: 요청마다 user 조회
+    private final boolean stateless;
+
+    public UserDetailsServiceImpl(UserRepository userRepository,
+                                  UserPresenceCache userPresenceCache,
+                                  @Value("${jwt.principal.stateless:true}") boolean stateless) {
+        this.userRepository = userRepository;
+        this.userPresenceCache = userPresenceCache;
+        this.stateless = stateless;
+    }
 
     @Override
     @Transactional(readOnly = true)
@@ -34,10 +47,25 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         return createUserDetails(user);
     }
 
+    // 인증 필터용: 검증된 토큰으로 principal 생성
+    public UserDetails loadUserByToken(AuthenticatedToken token) throws UsernameNotFoundException {
+        if (!stateless) {
+            return loadUserById(token.userId());
+        }
+
+        if (!userPresenceCache.exists(token.userId())) {
+            throw new UsernameNotFoundException("Failed Load User By UserId: " + token.userId());
+        }
+        return UserDetailsImpl.builder()
+                .userId(token.userId())
+                .roles(DEFAULT_ROLES)
+                .build();
+    }
+
     private UserDetails createUserDetails(User user) {
         return UserDetailsImpl.builder()
                 .userId(user.getUserId())
-                .roles(List.of("ROLE_USER"))
+                .roles(DEFAULT_ROLES)
                 .build();
     }
-}
\ No newline at end of file
+}
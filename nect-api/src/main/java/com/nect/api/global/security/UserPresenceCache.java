@@ -0,0 +1,60 @@
+package com.nect.api.global.security;
+
+import com.nect.core.repository.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 claims만으로 principal을 만들 때 사용하는 사용자 존재 여부 근거리 캐시.
+ * 사용자마다 ttl 동안 한 번만 user 테이블을 확인하므로, 탈퇴/정지된 사용자는 최대 ttl만큼 늦게 차단됩니다.
+ * 사용자 상태가 바뀌면 evict로 즉시 다시 확인하게 합니다. (ttl 0이면 확인하지 않음)
+ */
+@Component
+public class UserPresenceCache {
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final int maxUsers;
+
+    private final Map<Long, Presence> cache = new ConcurrentHashMap<>();
+
+    public UserPresenceCache(UserRepository userRepository,
+                             @Value("${jwt.principal.user-check-ttl-seconds:60}") long ttlSeconds,
+                             @Value("${jwt.principal.user-check-max-users:10000}") int maxUsers) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxUsers = maxUsers;
+    }
+
+    public boolean exists(Long userId) {
+        if (ttlMillis <= 0) {
+            return true;
+        }
+
+        long now = System.currentTimeMillis();
+        Presence cached = cache.get(userId);
+        if (cached != null && cached.checkedAt + ttlMillis > now) {
+            return cached.exists;
+        }
+
+        boolean exists = userRepository.existsById(userId);
+        if (cache.size() >= maxUsers) {
+            cache.values().removeIf(entry -> entry.checkedAt + ttlMillis <= now);
+            if (cache.size() >= maxUsers) {
+                cache.clear();
+            }
+        }
+        cache.put(userId, new Presence(exists, now));
+        return exists;
+    }
+
+    public void evict(Long userId) {
+        cache.remove(userId);
+    }
+
+    private record Presence(boolean exists, long checkedAt) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.nect.api.scheduler.domain;
+
+import com.nect.api.domain.team.chat.infra.ChatMessageTailCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatMessageTailCacheScheduler {
+
+    private final ChatMessageTailCache chatMessageTailCache;
+
+    // 캐시 적중률, 사용량 기록
+    @Scheduled(fixedDelayString = "${chat.tail-cache.stats-interval-ms:300000}")
+    public void logStats() {
+        ChatMessageTailCache.Stats stats = chatMessageTailCache.stats();
+        long requests = stats.hits() + stats.misses();
+        log.info("ChatMessageTailCache hits: {}, misses: {}, hitRate: {}%, gaps: {}, redisLoads: {}, evictions: {}, rooms: {}, bytes: {}",
+                stats.hits(), stats.misses(), requests == 0 ? 0 : stats.hits() * 100 / requests,
+                stats.gaps(), stats.redisLoads(), stats.evictions(), stats.rooms(), stats.bytes());
+    }
+}
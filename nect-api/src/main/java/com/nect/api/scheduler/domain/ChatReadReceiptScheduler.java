@@ -0,0 +1,32 @@
+package com.nect.api.scheduler.domain;
+
+import com.nect.api.domain.team.chat.infra.ChatReadReceiptStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatReadReceiptScheduler {
+
+    private final ChatReadReceiptStore chatReadReceiptStore;
+
+    @Value("${chat.read-receipt.flush-batch-rooms:500}")
+    private int flushBatchRooms;
+
+    // Redis 읽음 위치를 chat_room_user에 반영
+    @Scheduled(fixedDelayString = "${chat.read-receipt.flush-interval-ms:5000}")
+    public void flushReadReceipts() {
+        try {
+            int flushed = chatReadReceiptStore.flush(flushBatchRooms);
+            if (flushed > 0) {
+                log.debug("ChatReadReceipt flush count: {}", flushed);
+            }
+        } catch (Exception e) {
+            log.warn("ChatReadReceipt flush 실패 - 다음 주기에 재시도", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.nect.api.scheduler.domain;
+
+import com.nect.api.domain.team.chat.service.ChatRoomSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "chat.summary.backfill-on-startup", havingValue = "true")
+public class ChatRoomSummaryScheduler {
+
+    private final ChatRoomSummaryService chatRoomSummaryService;
+
+    // 요약 테이블 도입 이전에 생성된 채팅방 채우기
+    // (배포 후 한 노드에서만 켜고, 완료 후 끄기)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSummaries() {
+        try {
+            int created = chatRoomSummaryService.backfillMissing();
+            log.info("ChatRoomSummary backfill count: {}", created);
+        } catch (Exception e) {
+            log.warn("ChatRoomSummary backfill 실패 - 다시 실행 필요", e);
+        }
+    }
+}
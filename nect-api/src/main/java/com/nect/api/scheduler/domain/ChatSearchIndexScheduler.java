@@ -0,0 +1,29 @@
+package com.nect.api.scheduler.domain;
+
+import com.nect.api.domain.team.chat.infra.ChatMessageSearchIndexer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "chat.search.rebuild-on-startup", havingValue = "true")
+public class ChatSearchIndexScheduler {
+
+    private final ChatMessageSearchIndexer chatMessageSearchIndexer;
+
+    // 검색 색인 도입 이전 메시지 재색인 (한 노드에서만 켜고, 완료 후 끄기)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildSearchIndex() {
+        try {
+            long indexed = chatMessageSearchIndexer.rebuild();
+            log.info("Chat search index rebuild count: {}", indexed);
+        } catch (Exception e) {
+            log.warn("Chat search index rebuild 실패 - 다시 실행 필요", e);
+        }
+    }
+}
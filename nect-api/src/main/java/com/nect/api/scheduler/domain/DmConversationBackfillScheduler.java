@@ -0,0 +1,29 @@
+package com.nect.api.scheduler.domain;
+
+import com.nect.api.domain.dm.service.DmConversationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "dm.conversation.backfill-on-startup", havingValue = "true")
+public class DmConversationBackfillScheduler {
+
+    private final DmConversationService dmConversationService;
+
+    // 요약 테이블 도입 이전 DM 대화 채우기 (배포 후 한 노드에서만 켜고, 완료 후 끄기)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillConversations() {
+        try {
+            int created = dmConversationService.backfillMissing();
+            log.info("DmConversation backfill count: {}", created);
+        } catch (Exception e) {
+            log.warn("DmConversation backfill 실패 - 다시 실행 필요", e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.nect.api.scheduler.domain;
+
+import com.nect.api.domain.dm.infra.DmUnreadCounter;
+import com.nect.api.domain.dm.service.DmConversationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DmUnreadReconcileScheduler {
+
+    private final DmUnreadCounter dmUnreadCounter;
+    private final DmConversationService dmConversationService;
+
+    @Value("${dm.unread.reconcile-batch-users:200}")
+    private int reconcileBatchUsers;
+
+    // 최근 변경된 사용자의 DM 읽지 않은 수를 direct_message 기준으로 보정
+    @Scheduled(fixedDelayString = "${dm.unread.reconcile-interval-ms:600000}")
+    public void reconcileUnreadCounts() {
+        List<Long> userIds;
+        try {
+            userIds = dmUnreadCounter.popReconcileTargets(reconcileBatchUsers);
+        } catch (Exception e) {
+            log.warn("DmUnread reconcile 대상 조회 실패 - 다음 주기에 재시도", e);
+            return;
+        }
+
+        for (Long userId : userIds) {
+            try {
+                Map<Long, Long> counts = dmConversationService.reconcileUnread(userId);
+                dmUnreadCounter.replace(userId, counts);
+            } catch (Exception e) {
+                log.warn("DmUnread reconcile 실패 - userId: {}, 다음 주기에 재시도", userId, e);
+                dmUnreadCounter.requeue(userId);
+            }
+        }
+        if (!userIds.isEmpty()) {
+            log.debug("DmUnread reconcile count: {}", userIds.size());
+        }
+    }
+}
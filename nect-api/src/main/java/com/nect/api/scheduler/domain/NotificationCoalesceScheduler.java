@@ -0,0 +1,45 @@
+package com.nect.api.scheduler.domain;
+
+import com.nect.api.domain.notifications.facade.NotificationFacade;
+import com.nect.api.domain.notifications.infra.NotificationCoalescer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationCoalesceScheduler {
+
+    private final NotificationCoalescer notificationCoalescer;
+    private final NotificationFacade notificationFacade;
+
+    // 합치기 기간이 지난 알림 전송 (알림은 이미 저장되어 있음)
+    @Scheduled(fixedDelayString = "${notification.coalesce.flush-interval-ms:1000}")
+    public void flush() {
+        deliver(notificationCoalescer.drainDue());
+    }
+
+    // 종료 시 대기 중인 알림 모두 전송
+    @PreDestroy
+    public void flushAll() {
+        deliver(notificationCoalescer.drainAll());
+    }
+
+    private void deliver(List<NotificationCoalescer.Window> windows) {
+        if (windows.isEmpty()) {
+            return;
+        }
+        try {
+            notificationFacade.notifyCoalesced(windows);
+        } catch (RuntimeException e) {
+            // 다음 차례에 다시 전송
+            log.error("합친 알림 전송 실패, 재시도 예정 - count: {}", windows.size(), e);
+            notificationCoalescer.requeue(windows);
+        }
+    }
+}
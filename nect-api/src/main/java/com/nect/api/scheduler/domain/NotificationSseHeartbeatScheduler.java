@@ -0,0 +1,19 @@
+package com.nect.api.scheduler.domain;
+
+import com.nect.api.domain.notifications.infra.SseDeliveryEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationSseHeartbeatScheduler {
+
+    private final SseDeliveryEngine sseDeliveryEngine;
+
+    // 프록시 idle timeout(nginx 기본 60초)보다 짧은 주기로 heartbeat 주석 전송
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        sseDeliveryEngine.heartbeat();
+    }
+}
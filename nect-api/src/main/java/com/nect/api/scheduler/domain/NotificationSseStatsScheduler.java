@@ -0,0 +1,25 @@
+package com.nect.api.scheduler.domain;
+
+import com.nect.api.domain.notifications.infra.SseDeliveryEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationSseStatsScheduler {
+
+    private final SseDeliveryEngine sseDeliveryEngine;
+
+    // SSE 연결 수, 유저별 전송 대기열 길이 기록
+    @Scheduled(fixedDelayString = "${notification.sse.stats-interval-ms:60000}")
+    public void logStats() {
+        SseDeliveryEngine.DeliveryStats stats = sseDeliveryEngine.stats();
+        log.info("SseDeliveryEngine users: {}, connections: {}, queued: {}, maxQueued: {} (userId: {}), delivered: {}, replayed: {}, dropped: {}, failed: {}, evicted: {}, rejected: {}, stalled: {}",
+                stats.users(), stats.connections(), stats.queued(), stats.maxQueued(), stats.maxQueuedUserId(),
+                stats.delivered(), stats.replayed(), stats.dropped(), stats.failed(),
+                stats.evicted(), stats.rejected(), stats.stalled());
+    }
+}
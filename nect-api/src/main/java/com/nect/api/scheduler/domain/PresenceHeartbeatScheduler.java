@@ -0,0 +1,19 @@
+package com.nect.api.scheduler.domain;
+
+import com.nect.api.global.infra.presence.PresenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PresenceHeartbeatScheduler {
+
+    private final PresenceService presenceService;
+
+    // 접속 정보 TTL(기본 30초)보다 짧은 주기로 연장
+    @Scheduled(fixedDelayString = "${presence.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        presenceService.heartbeat();
+    }
+}
@@ -0,0 +1,25 @@
+package com.nect.api.scheduler.domain;
+
+import com.nect.api.global.infra.redis.RedisMessageDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisDispatchStatsScheduler {
+
+    private final RedisMessageDispatcher redisMessageDispatcher;
+
+    // 채널 계열별 대기열 길이, 처리 지연 기록
+    @Scheduled(fixedDelayString = "${redis.dispatch.stats-interval-ms:60000}")
+    public void logStats() {
+        for (RedisMessageDispatcher.FamilyStats stats : redisMessageDispatcher.stats()) {
+            log.info("RedisMessageDispatcher prefix: {}, queued: {}, maxLaneQueued: {}, processed: {}, blocked: {}, dropped: {}, failed: {}, maxLagMs: {}",
+                    stats.channelPrefix(), stats.queued(), stats.maxLaneQueued(),
+                    stats.processed(), stats.blocked(), stats.dropped(), stats.failed(), stats.maxLagMillis());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.nect.api.scheduler.domain;
+
+import com.nect.api.global.jwt.service.TokenBlacklistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistFilterScheduler {
+
+    private final TokenBlacklistService tokenBlacklistService;
+
+    // 기동 직후 한 번 적재하고 이후 주기적으로 재적재 (적재 전에는 Redis로 확인)
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.blacklist.bloom.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        try {
+            int loaded = tokenBlacklistService.rebuildFilter();
+            if (loaded < 0) {
+                log.info("토큰 블랙리스트 이전 형식 키 이동 중 - Bloom filter 재적재를 다음 차례로 미룸");
+                return;
+            }
+            log.debug("토큰 블랙리스트 Bloom filter 재적재 - count: {}", loaded);
+        } catch (RuntimeException e) {
+            log.warn("토큰 블랙리스트 Bloom filter 재적재 실패", e);
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.nect.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nect.api.domain.user.service.UserService;
+import com.nect.api.global.config.RouteClassifier;
 import com.nect.api.global.jwt.JwtAuthenticationFilter;
 import com.nect.api.global.jwt.JwtUtil;
+import com.nect.api.global.jwt.dto.AuthenticatedToken;
 import com.nect.api.global.jwt.service.TokenBlacklistService;
 import com.nect.api.global.security.UserDetailsServiceImpl;
 import com.nect.api.global.security.UserDetailsImpl;
@@ -26,9 +28,9 @@ import org.springframework.web.context.WebApplicationContext;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 
 @ExtendWith({RestDocumentationExtension.class, SpringExtension.class})
@@ -62,16 +64,16 @@ public class NectDocumentApiTester {
     public void setUp(RestDocumentationContextProvider restDocumentation) {
         this.mockMvc = MockMvcBuilders.webAppContextSetup(this.context)
                 .apply(documentationConfiguration(restDocumentation))
-                .addFilter(new JwtAuthenticationFilter(jwtUtil, userDetailsService, tokenBlacklistService, List.of("/swagger-ui/**", "/api-docs/**")))
+                .addFilter(new JwtAuthenticationFilter(jwtUtil, userDetailsService,
+                        new RouteClassifier(List.of("/swagger-ui/**", "/api-docs/**"))))
                 .build();
 
-        doNothing().when(jwtUtil).validateToken(anyString());
-        given(jwtUtil.getUserIdFromToken(anyString())).willReturn(1L);
+        given(jwtUtil.authenticate(anyString())).willReturn(new AuthenticatedToken(1L, 0L, 0L, Long.MAX_VALUE));
         UserDetailsImpl mockUserDetails = UserDetailsImpl.builder()
                 .userId(1L)
                 .roles(List.of("ROLE_USER"))
                 .build();
-        given(userDetailsService.loadUserByUsername(anyString())).willReturn(mockUserDetails);
+        given(userDetailsService.loadUserByToken(any(AuthenticatedToken.class))).willReturn(mockUserDetails);
 
         SecurityContext securityContext = SecurityContextHolder.getContext();
         Authentication authentication = new UsernamePasswordAuthenticationToken(
@@ -7,6 +7,7 @@ import com.nect.api.domain.analysis.dto.res.ProjectCreateResponseDto;
 import com.nect.api.domain.analysis.service.IdeaAnalysisService;
 import com.nect.api.domain.team.project.service.ProjectService;
 import com.nect.api.global.jwt.JwtUtil;
+import com.nect.api.global.jwt.dto.AuthenticatedToken;
 import com.nect.api.global.jwt.service.TokenBlacklistService;
 import com.nect.api.global.security.UserDetailsImpl;
 import com.nect.api.global.security.UserDetailsServiceImpl;
@@ -66,10 +67,8 @@ class IdeaAnalysisProjectTest {
     @BeforeEach
     void setUpAuth() {
         // JWT 검증 모킹
-        doNothing().when(jwtUtil).validateToken(anyString());
-        given(tokenBlacklistService.isBlacklisted(anyString())).willReturn(false);
-        given(jwtUtil.getUserIdFromToken(anyString())).willReturn(1L);
-        given(userDetailsService.loadUserByUsername(anyString())).willReturn(
+        given(jwtUtil.authenticate(anyString())).willReturn(new AuthenticatedToken(1L, 0L, 0L, Long.MAX_VALUE));
+        given(userDetailsService.loadUserByToken(any(AuthenticatedToken.class))).willReturn(
                 UserDetailsImpl.builder()
                         .userId(1L)
                         .roles(List.of("ROLE_USER"))
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nect.api.domain.mypage.dto.MyProjectsResponseDto;
 import com.nect.api.domain.mypage.service.MyPageProjectQueryService;
 import com.nect.api.global.jwt.JwtUtil;
+import com.nect.api.global.jwt.dto.AuthenticatedToken;
 import com.nect.api.global.jwt.service.TokenBlacklistService;
 import com.nect.api.global.security.UserDetailsImpl;
 import com.nect.api.global.security.UserDetailsServiceImpl;
@@ -30,7 +31,6 @@ import static com.epages.restdocs.apispec.ResourceDocumentation.headerWithName;
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
@@ -67,10 +67,8 @@ class MyPageControllerRestDocsTest {
 
     @BeforeEach
     void setUpAuth() {
-        doNothing().when(jwtUtil).validateToken(anyString());
-        given(tokenBlacklistService.isBlacklisted(anyString())).willReturn(false);
-        given(jwtUtil.getUserIdFromToken(anyString())).willReturn(1L);
-        given(userDetailsService.loadUserByUsername(anyString())).willReturn(
+        given(jwtUtil.authenticate(anyString())).willReturn(new AuthenticatedToken(1L, 0L, 0L, Long.MAX_VALUE));
+        given(userDetailsService.loadUserByToken(any(AuthenticatedToken.class))).willReturn(
                 UserDetailsImpl.builder()
                         .userId(1L)
                         .roles(List.of("ROLE_USER"))
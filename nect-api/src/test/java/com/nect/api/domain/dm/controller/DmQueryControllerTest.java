@@ -5,8 +5,10 @@ import com.nect.api.domain.dm.dto.DirectMessageDto;
 import com.nect.api.domain.dm.dto.DmMessageListResponse;
 import com.nect.api.domain.dm.dto.DmRoomListResponse;
 import com.nect.api.domain.dm.dto.DmRoomSummaryDto;
+import com.nect.api.domain.dm.dto.DmUnreadCountResponse;
 import com.nect.api.domain.dm.service.DmService;
 import com.nect.api.global.jwt.JwtUtil;
+import com.nect.api.global.jwt.dto.AuthenticatedToken;
 import com.nect.api.global.jwt.service.TokenBlacklistService;
 import com.nect.api.global.security.UserDetailsImpl;
 import com.nect.api.global.security.UserDetailsServiceImpl;
@@ -31,10 +33,10 @@ import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.docume
 import static com.epages.restdocs.apispec.ResourceDocumentation.headerWithName;
 import static com.epages.restdocs.apispec.ResourceDocumentation.parameterWithName;
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -65,10 +67,8 @@ class DmQueryControllerTest {
 
     @BeforeEach
     void setUpAuth() {
-        doNothing().when(jwtUtil).validateToken(anyString());
-        given(tokenBlacklistService.isBlacklisted(anyString())).willReturn(false);
-        given(jwtUtil.getUserIdFromToken(anyString())).willReturn(1L);
-        given(userDetailsService.loadUserByUsername(anyString())).willReturn(
+        given(jwtUtil.authenticate(anyString())).willReturn(new AuthenticatedToken(1L, 0L, 0L, Long.MAX_VALUE));
+        given(userDetailsService.loadUserByToken(any(AuthenticatedToken.class))).willReturn(
                 UserDetailsImpl.builder()
                         .userId(1L)
                         .roles(List.of("ROLE_USER"))
@@ -140,6 +140,36 @@ class DmQueryControllerTest {
                 ));
     }
 
+    @Test
+    @DisplayName("DM 읽지 않은 메시지 수 조회 API")
+    void getUnreadCount() throws Exception {
+        given(dmService.getUnreadCount(eq(1L)))
+                .willReturn(DmUnreadCountResponse.builder().totalUnreadCount(3L).build());
+
+        mockMvc.perform(get("/api/v1/dms/unread-count")
+                        .header(AUTH_HEADER, TEST_ACCESS_TOKEN)
+                        .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andDo(document("dm-unread-count",
+                        resource(ResourceSnippetParameters.builder()
+                                .tag("개인 메시지")
+                                .summary("DM 읽지 않은 메시지 수 조회")
+                                .description("로그인 유저가 읽지 않은 DM 메시지 수(배지)를 조회합니다.")
+                                .requestHeaders(
+                                        headerWithName("Authorization").description("액세스 토큰 (Bearer 스키마)")
+                                )
+                                .responseFields(
+                                        fieldWithPath("status.statusCode").description("응답 상태 코드"),
+                                        fieldWithPath("status.message").description("응답 메시지"),
+                                        fieldWithPath("status.description").optional().description("응답 상세 설명"),
+                                        fieldWithPath("body.total_unread_count").description("읽지 않은 DM 메시지 수")
+                                )
+                                .build()
+                        )
+                ));
+    }
+
     private DmMessageListResponse mockMessageListResponse() {
         List<DirectMessageDto> messages = List.of(
                 new DirectMessageDto(
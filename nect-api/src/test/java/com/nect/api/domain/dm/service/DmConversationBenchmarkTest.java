@@ -0,0 +1,146 @@
+package com.nect.api.domain.dm.service;
+
+import com.nect.core.repository.dm.DmConversationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DM 대화 목록 조회 비교 (direct_message 집계 vs dm_conversation 인덱스 조회).
+ * H2(PostgreSQL 모드)에 100만 건 메시지를 만들고, 이전 집계 쿼리와 backfill 후 요약 테이블 조회 시간을 출력합니다.
+ * 일반 빌드에서는 건너뛰며, NECT_BENCHMARK=true 환경 변수로 실행합니다.
+ */
+@EnabledIfEnvironmentVariable(named = "NECT_BENCHMARK", matches = "true")
+class DmConversationBenchmarkTest {
+
+    private static final int MESSAGES = 1_000_000;
+    private static final int USERS = 2_000;
+    private static final int COUNTERPARTS_PER_USER = 50;
+    private static final int PAGE_SIZE = 20;
+    private static final int SAMPLED_USERS = 200;
+    private static final long BACKFILL_CHUNK_SIZE = 10_000;
+
+    // 이전 대화 목록 쿼리 (DmRepository.findLatestMessagesByUser)
+    private static final String LATEST_MESSAGES_BY_USER_SQL = """
+            SELECT dm.* FROM direct_message dm
+            WHERE dm.id IN (
+                SELECT MAX(dm2.id) FROM direct_message dm2
+                WHERE dm2.sender_id = ? OR dm2.receiver_id = ?
+                GROUP BY CASE WHEN dm2.sender_id = ? THEN dm2.receiver_id ELSE dm2.sender_id END
+            )
+            ORDER BY dm.id DESC
+            LIMIT ?
+            """;
+
+    // DmConversationService.findPage (작은 쪽/큰 쪽 인덱스 조회)
+    private static final String PAGE_AS_LOW_USER_SQL = """
+            SELECT * FROM dm_conversation
+            WHERE user_low_id = ? AND last_message_id IS NOT NULL
+            ORDER BY last_message_id DESC
+            LIMIT ?
+            """;
+
+    private static final String PAGE_AS_HIGH_USER_SQL = """
+            SELECT * FROM dm_conversation
+            WHERE user_high_id = ? AND last_message_id IS NOT NULL
+            ORDER BY last_message_id DESC
+            LIMIT ?
+            """;
+
+    private final DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:dm-conversation-bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE direct_message (id BIGINT PRIMARY KEY, content TEXT, is_read BOOLEAN, " +
+                "receiver_id BIGINT, sender_id BIGINT, created_at TIMESTAMP, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE INDEX idx_direct_message_sender ON direct_message (sender_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_direct_message_receiver ON direct_message (receiver_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_direct_message_sender_receiver ON direct_message (sender_id, receiver_id, id)");
+
+        jdbcTemplate.execute("CREATE TABLE dm_conversation (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                "user_low_id BIGINT NOT NULL, user_high_id BIGINT NOT NULL, last_message_id BIGINT, " +
+                "last_message_at TIMESTAMP, low_unread_count INT NOT NULL, high_unread_count INT NOT NULL, " +
+                "created_at TIMESTAMP, updated_at TIMESTAMP, " +
+                "CONSTRAINT uk_dm_conversation_users UNIQUE (user_low_id, user_high_id))");
+        jdbcTemplate.execute("CREATE INDEX idx_dm_conversation_low_last_message ON dm_conversation (user_low_id, last_message_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_dm_conversation_high_last_message ON dm_conversation (user_high_id, last_message_id)");
+
+        // 사용자마다 상대 COUNTERPARTS_PER_USER명과 주고받은 메시지, 3건 중 1건은 읽지 않음
+        jdbcTemplate.update("INSERT INTO direct_message (id, content, is_read, sender_id, receiver_id, created_at, updated_at) " +
+                "SELECT X, '벤치마크 메시지', MOD(X, 3) <> 0, " +
+                "MOD(X, " + USERS + ") + 1, " +
+                "MOD(X + 1 + MOD(X / " + USERS + ", " + COUNTERPARTS_PER_USER + "), " + USERS + ") + 1, " +
+                "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'), " +
+                "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00') " +
+                "FROM SYSTEM_RANGE(1, " + MESSAGES + ")");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("100만 건에서 이전 집계 조회와 dm_conversation 조회 시간을 비교한다")
+    void compareInboxQueries() throws NoSuchMethodException {
+        long aggregate = measurePerUser(userId -> jdbcTemplate.queryForList(
+                LATEST_MESSAGES_BY_USER_SQL, userId, userId, userId, PAGE_SIZE));
+
+        String backfillSql = DmConversationRepository.class
+                .getMethod("backfillMissing", Long.class, Long.class)
+                .getAnnotation(Query.class)
+                .value();
+        long backfillStart = System.nanoTime();
+        for (long fromId = 0; fromId < MESSAGES; fromId += BACKFILL_CHUNK_SIZE) {
+            namedJdbcTemplate.update(backfillSql, new MapSqlParameterSource()
+                    .addValue("fromId", fromId)
+                    .addValue("toId", Math.min(fromId + BACKFILL_CHUNK_SIZE, MESSAGES)));
+        }
+        long backfill = (System.nanoTime() - backfillStart) / 1_000_000;
+
+        long conversation = measurePerUser(userId -> {
+            jdbcTemplate.queryForList(PAGE_AS_LOW_USER_SQL, userId, PAGE_SIZE);
+            jdbcTemplate.queryForList(PAGE_AS_HIGH_USER_SQL, userId, PAGE_SIZE);
+        });
+
+        System.out.printf("dm inbox (%d messages, %d users sampled) - aggregate: %.2f ms/user, dm_conversation: %.2f ms/user, backfill: %d ms%n",
+                MESSAGES, SAMPLED_USERS, aggregate / 1_000_000.0 / SAMPLED_USERS,
+                conversation / 1_000_000.0 / SAMPLED_USERS, backfill);
+
+        // backfill 결과가 direct_message 집계와 일치하는지 확인
+        Long unreadMessages = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM direct_message WHERE is_read = FALSE", Long.class);
+        Long unreadInConversations = jdbcTemplate.queryForObject(
+                "SELECT SUM(low_unread_count + high_unread_count) FROM dm_conversation", Long.class);
+        Long pairs = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT DISTINCT LEAST(sender_id, receiver_id), GREATEST(sender_id, receiver_id) " +
+                        "FROM direct_message) pairs",
+                Long.class);
+        assertThat(unreadInConversations).isEqualTo(unreadMessages);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dm_conversation", Long.class)).isEqualTo(pairs);
+    }
+
+    // 샘플 사용자별 조회 시간 합계 (ns)
+    private long measurePerUser(LongConsumer query) {
+        long start = System.nanoTime();
+        for (int i = 0; i < SAMPLED_USERS; i++) {
+            query.accept((long) i * (USERS / SAMPLED_USERS) + 1);
+        }
+        return System.nanoTime() - start;
+    }
+}
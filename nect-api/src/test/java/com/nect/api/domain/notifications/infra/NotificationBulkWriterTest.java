@@ -0,0 +1,87 @@
+package com.nect.api.domain.notifications.infra;
+
+import com.nect.core.entity.notifications.Notification;
+import com.nect.core.entity.notifications.enums.NotificationClassification;
+import com.nect.core.entity.notifications.enums.NotificationScope;
+import com.nect.core.entity.notifications.enums.NotificationType;
+import com.nect.core.entity.user.User;
+import com.nect.core.repository.notifications.NotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * H2(PostgreSQL 모드)에서 배치 INSERT의 generated keys로 저장한 알림 id를 모두 받는지 확인합니다.
+ */
+class NotificationBulkWriterTest {
+
+    private final DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:notification-bulk;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE notification (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                "target_id BIGINT NOT NULL, type VARCHAR(50) NOT NULL, classification VARCHAR(50) NOT NULL, " +
+                "scope VARCHAR(50) NOT NULL, is_read BOOLEAN NOT NULL, main_message VARCHAR(100) NOT NULL, " +
+                "content_message VARCHAR(100), coalesced_count INT NOT NULL, user_id BIGINT NOT NULL, " +
+                "project_id BIGINT, created_at TIMESTAMP, updated_at TIMESTAMP)");
+        // 기존 행이 있어도 새로 생성된 id만 받는지 확인
+        jdbcTemplate.update("INSERT INTO notification (target_id, type, classification, scope, is_read, main_message, " +
+                "coalesced_count, user_id) VALUES (1, 'MATCHING_ACCEPTED', 'MY_PAGE', 'MAIN_HOME', FALSE, '기존 알림', 1, 99)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("여러 배치로 나눠 저장해도 생성된 id를 입력 순서대로 모두 받아 다시 조회한다")
+    @SuppressWarnings("unchecked")
+    void returnsGeneratedKeysAcrossBatches() {
+        NotificationBulkWriter writer = new NotificationBulkWriter(jdbcTemplate, notificationRepository, 2);
+        List<Notification> notifications = new ArrayList<>();
+        LongStream.rangeClosed(1, 5).forEach(userId -> notifications.add(notification(userId)));
+
+        writer.insertAll(notifications);
+
+        ArgumentCaptor<Iterable<Long>> ids = ArgumentCaptor.forClass(Iterable.class);
+        verify(notificationRepository).flush();
+        verify(notificationRepository).findAllById(ids.capture());
+
+        List<Long> inserted = jdbcTemplate.queryForList(
+                "SELECT id FROM notification WHERE user_id <> 99 ORDER BY id", Long.class);
+        assertThat(ids.getValue()).containsExactlyElementsOf(inserted);
+        assertThat(jdbcTemplate.queryForList("SELECT user_id FROM notification WHERE user_id <> 99 ORDER BY id", Long.class))
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("저장할 알림이 없으면 조회하지 않는다")
+    void skipsEmptyInput() {
+        NotificationBulkWriter writer = new NotificationBulkWriter(jdbcTemplate, notificationRepository, 2);
+
+        assertThat(writer.insertAll(List.of())).isEmpty();
+        verifyNoInteractions(notificationRepository);
+    }
+
+    private static Notification notification(Long receiverId) {
+        return Notification.create(NotificationType.MATCHING_ACCEPTED, NotificationClassification.MY_PAGE,
+                NotificationScope.MAIN_HOME, 10L, User.builder().userId(receiverId).build(), null, new Object[0]);
+    }
+}
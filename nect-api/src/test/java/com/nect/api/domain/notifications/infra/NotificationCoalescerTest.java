@@ -0,0 +1,117 @@
+package com.nect.api.domain.notifications.infra;
+
+import com.nect.api.domain.notifications.command.NotificationCommand;
+import com.nect.core.entity.notifications.Notification;
+import com.nect.core.entity.notifications.enums.NotificationClassification;
+import com.nect.core.entity.notifications.enums.NotificationScope;
+import com.nect.core.entity.notifications.enums.NotificationType;
+import com.nect.core.entity.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class NotificationCoalescerTest {
+
+    private static final Long RECEIVER_ID = 1L;
+    private static final Long TARGET_ID = 100L;
+
+    private final NotificationCommand command = new NotificationCommand(
+            NotificationType.WORKSPACE_MENTIONED, NotificationClassification.WORK_SPACE, NotificationScope.WORKSPACE_ONLY,
+            TARGET_ID, new Object[]{"홍길동"}, new Object[]{"내용"}, null);
+
+    @Test
+    @DisplayName("열린 묶음에 합친 알림은 window가 끝날 때까지 기다렸다가 한 번 꺼낸다")
+    void mergesIntoOpenWindowUntilDue() {
+        NotificationCoalescer coalescer = coalescer(60_000);
+
+        coalescer.open(List.of(notification(10L)));
+        assertThat(coalescer.openNotificationId(RECEIVER_ID, command)).isEqualTo(10L);
+
+        coalescer.markUpdated(RECEIVER_ID, command, 10L);
+        coalescer.markUpdated(RECEIVER_ID, command, 10L);
+
+        // 합쳐도 window 종료 시각은 그대로
+        assertThat(coalescer.drainDue()).isEmpty();
+
+        List<NotificationCoalescer.Window> drained = coalescer.drainAll();
+        assertThat(drained).hasSize(1);
+        assertThat(drained.get(0).notificationIds()).containsExactly(10L);
+        assertThat(drained.get(0).updatedIds()).containsExactly(10L);
+        assertThat(coalescer.openNotificationId(RECEIVER_ID, command)).isNull();
+    }
+
+    @Test
+    @DisplayName("반복 없이 끝난 묶음은 다시 전송하지 않고 닫는다")
+    void closesWindowWithoutUpdates() {
+        NotificationCoalescer coalescer = coalescer(60_000);
+
+        coalescer.open(List.of(notification(10L)));
+
+        assertThat(coalescer.drainAll()).isEmpty();
+        assertThat(coalescer.openNotificationId(RECEIVER_ID, command)).isNull();
+    }
+
+    @Test
+    @DisplayName("묶음이 먼저 닫힌 뒤 들어온 갱신은 다음 차례에 바로 꺼낸다")
+    void updateAfterWindowClosedIsDueImmediately() {
+        NotificationCoalescer coalescer = coalescer(60_000);
+
+        coalescer.markUpdated(RECEIVER_ID, command, 10L);
+
+        List<NotificationCoalescer.Window> drained = coalescer.drainDue();
+        assertThat(drained).hasSize(1);
+        assertThat(drained.get(0).updatedIds()).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 묶음은 다시 넣으면 그 사이 갱신과 합쳐 한 번에 꺼낸다")
+    void requeueMergesWithNewUpdates() {
+        NotificationCoalescer coalescer = coalescer(60_000);
+
+        coalescer.markUpdated(RECEIVER_ID, command, 10L);
+        List<NotificationCoalescer.Window> failed = coalescer.drainDue();
+
+        coalescer.markUpdated(RECEIVER_ID, command, 11L);
+        coalescer.requeue(failed);
+
+        List<NotificationCoalescer.Window> drained = coalescer.drainDue();
+        assertThat(drained).hasSize(1);
+        assertThat(drained.get(0).notificationIds()).containsExactlyInAnyOrder(10L, 11L);
+        assertThat(drained.get(0).updatedIds()).containsExactlyInAnyOrder(10L, 11L);
+        assertThat(coalescer.drainAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대상 타입이 아니거나 대기 묶음이 가득 차면 합치지 않는다")
+    void supportsOnlyConfiguredTypesUnderLimit() {
+        NotificationCoalescer coalescer = new NotificationCoalescer(60_000, 1,
+                new NotificationType[]{NotificationType.WORKSPACE_MENTIONED});
+        NotificationCommand other = new NotificationCommand(
+                NotificationType.MATCHING_ACCEPTED, NotificationClassification.MY_PAGE, NotificationScope.MAIN_HOME,
+                TARGET_ID, new Object[0], new Object[0], null);
+
+        assertThat(coalescer.supports(command)).isTrue();
+        assertThat(coalescer.supports(other)).isFalse();
+
+        coalescer.open(List.of(notification(10L)));
+        assertThat(coalescer.supports(command)).isFalse();
+    }
+
+    private static NotificationCoalescer coalescer(long windowMillis) {
+        return new NotificationCoalescer(windowMillis, 100, new NotificationType[]{NotificationType.WORKSPACE_MENTIONED});
+    }
+
+    private static Notification notification(Long id) {
+        Notification notification = mock(Notification.class);
+        given(notification.getId()).willReturn(id);
+        given(notification.getReceiver()).willReturn(User.builder().userId(RECEIVER_ID).build());
+        given(notification.getType()).willReturn(NotificationType.WORKSPACE_MENTIONED);
+        given(notification.getTargetId()).willReturn(TARGET_ID);
+        return notification;
+    }
+}
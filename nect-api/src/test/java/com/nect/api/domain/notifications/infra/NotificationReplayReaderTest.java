@@ -0,0 +1,79 @@
+package com.nect.api.domain.notifications.infra;
+
+import com.nect.api.domain.notifications.dto.NotificationEventDto;
+import com.nect.api.domain.notifications.dto.NotificationResponse;
+import com.nect.api.global.infra.redis.RedisStreamReplayReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class NotificationReplayReaderTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final RedisStreamReplayReader redisStreamReplayReader = mock(RedisStreamReplayReader.class);
+    private final NotificationReplayReader reader = new NotificationReplayReader(redisStreamReplayReader, true);
+
+    @Test
+    @DisplayName("마지막으로 받은 알림 이후를 id 순서가 아닌 발행 순서대로 반환한다")
+    void readsAfterLastEventInPublishOrder() {
+        // 커밋 순서 때문에 7번이 6번보다 먼저 발행됨
+        givenRecent(event(4L), event(5L), event(7L), event(6L));
+
+        List<SseEvent> missed = reader.readAfter(USER_ID, 5L);
+
+        assertThat(missed).extracting(SseEvent::id).containsExactly("7", "6");
+        assertThat(missed).extracting(SseEvent::name).containsOnly("workspace_only");
+    }
+
+    @Test
+    @DisplayName("마지막으로 받은 알림이 가장 최근이면 놓친 알림이 없다")
+    void returnsEmptyWhenUpToDate() {
+        givenRecent(event(4L), event(5L));
+
+        assertThat(reader.readAfter(USER_ID, 5L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("마지막으로 받은 알림이 보관 범위 밖이면 null(resync)을 반환한다")
+    void returnsNullWhenLastEventTrimmed() {
+        givenRecent(event(10L), event(11L));
+
+        assertThat(reader.readAfter(USER_ID, 5L)).isNull();
+    }
+
+    @Test
+    @DisplayName("스트림을 쓰지 않거나 조회에 실패하면 null(resync)을 반환한다")
+    void returnsNullWhenReplayUnavailable() {
+        NotificationReplayReader disabled = new NotificationReplayReader(redisStreamReplayReader, false);
+        assertThat(disabled.readAfter(USER_ID, 5L)).isNull();
+        verifyNoInteractions(redisStreamReplayReader);
+
+        given(redisStreamReplayReader.readRecent(anyString(), anyInt(), any()))
+                .willThrow(new IllegalStateException("redis down"));
+        assertThat(reader.readAfter(USER_ID, 5L)).isNull();
+    }
+
+    private void givenRecent(NotificationEventDto... events) {
+        given(redisStreamReplayReader.readRecent(
+                NotificationRedisPublisher.CHANNEL_PREFIX + USER_ID,
+                NotificationRedisMessageHandler.REPLAY_LENGTH,
+                NotificationEventDto.class))
+                .willReturn(List.of(events));
+    }
+
+    private static NotificationEventDto event(Long noticeId) {
+        NotificationResponse response = new NotificationResponse("메시지", null, noticeId, 100L, null,
+                "26.10.18", "작업실", "WORKSPACE_MENTIONED", "WORKSPACE_ONLY", false, 1);
+        return new NotificationEventDto("workspace_only", String.valueOf(noticeId), response);
+    }
+}
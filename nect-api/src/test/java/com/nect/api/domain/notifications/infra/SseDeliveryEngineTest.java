@@ -0,0 +1,214 @@
+package com.nect.api.domain.notifications.infra;
+
+import com.nect.api.domain.notifications.exception.NotificationException;
+import com.nect.core.repository.notifications.EmitterRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SseDeliveryEngineTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final EmitterRepository emitterRepository = new EmitterRepository();
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    private SseDeliveryEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(emitter -> emitter.gate.countDown());
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 가장 오래된 이벤트를 버리고, 다음 전송 전에 버린 건수로 resync를 한 번 보낸다")
+    void overflowSendsResyncBeforeNextEvent() throws InterruptedException {
+        engine = new SseDeliveryEngine(emitterRepository, 2, 5, 100, 60_000);
+        RecordingEmitter emitter = blockingEmitter();
+        engine.open(USER_ID, emitter, List::of);
+
+        // e1은 전송 중(대기), e2/e3는 큐, e4를 넣을 때 e2를 버림
+        engine.deliver(USER_ID, event("e1", "1"));
+        assertThat(emitter.entered.await(1, TimeUnit.SECONDS)).isTrue();
+        engine.deliver(USER_ID, event("e2", "2"));
+        engine.deliver(USER_ID, event("e3", "3"));
+        engine.deliver(USER_ID, event("e4", "4"));
+
+        emitter.gate.countDown();
+        awaitSent(emitter, 4);
+
+        assertThat(emitter.names()).containsExactly("e1", SseDeliveryEngine.RESYNC_EVENT, "e3", "e4");
+        assertThat(emitter.sent.get(1)).contains("dropped=1");
+        assertThat(engine.stats().dropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재전송분과 실시간 이벤트가 겹치면 한 번만 보내고, 같은 id라도 내용이 바뀌면 다시 보낸다")
+    void deduplicatesReplayAndLiveEvents() throws InterruptedException {
+        engine = new SseDeliveryEngine(emitterRepository, 10, 5, 100, 60_000);
+        RecordingEmitter emitter = emitter();
+
+        // 재전송분 조회 도중 같은 알림이 실시간으로 도착
+        engine.open(USER_ID, emitter, () -> {
+            engine.deliver(USER_ID, event("e1", "1", "count=1"));
+            return List.of(event("e1", "1", "count=1"));
+        });
+        engine.deliver(USER_ID, event("e1", "1", "count=2"));
+        engine.deliver(USER_ID, event("e2", "2"));
+        awaitSent(emitter, 3);
+
+        assertThat(emitter.names()).containsExactly("e1", "e1", "e2");
+        assertThat(emitter.sent.get(0)).contains("count=1");
+        assertThat(emitter.sent.get(1)).contains("count=2");
+        assertThat(engine.stats().replayed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재전송 범위를 알 수 없으면 resync를 먼저 보낸다")
+    void sendsResyncWhenReplayUnavailable() throws InterruptedException {
+        engine = new SseDeliveryEngine(emitterRepository, 10, 5, 100, 60_000);
+        RecordingEmitter emitter = emitter();
+
+        engine.open(USER_ID, emitter, () -> null);
+        engine.deliver(USER_ID, event("e1", "1"));
+        awaitSent(emitter, 2);
+
+        assertThat(emitter.names()).containsExactly(SseDeliveryEngine.RESYNC_EVENT, "e1");
+        assertThat(emitter.sent.get(0)).contains("replay_unavailable");
+    }
+
+    @Test
+    @DisplayName("유저별 연결 수를 넘으면 가장 오래된 연결을 닫고, 전체 연결 수를 넘으면 새 연결을 거부한다")
+    void evictsOldestPerUserAndRejectsOverGlobalCap() throws InterruptedException {
+        engine = new SseDeliveryEngine(emitterRepository, 10, 2, 3, 60_000);
+        RecordingEmitter oldest = emitter();
+        RecordingEmitter second = emitter();
+        RecordingEmitter newest = emitter();
+
+        engine.open(USER_ID, oldest, List::of);
+        Thread.sleep(5);
+        engine.open(USER_ID, second, List::of);
+        Thread.sleep(5);
+        engine.open(USER_ID, newest, List::of);
+
+        assertThat(emitterRepository.getAll(USER_ID)).containsExactlyInAnyOrder(second, newest);
+        assertThat(engine.stats().evicted()).isEqualTo(1);
+
+        engine.checkCapacity();
+        engine.open(2L, emitter(), List::of);
+
+        assertThatThrownBy(() -> engine.checkCapacity()).isInstanceOf(NotificationException.class);
+        assertThat(engine.stats().connections()).isEqualTo(3);
+        assertThat(engine.stats().rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 중인 이벤트를 stall 시간 동안 보내지 못한 연결은 heartbeat 때 닫는다")
+    void closesStalledConnectionOnHeartbeat() throws InterruptedException {
+        engine = new SseDeliveryEngine(emitterRepository, 10, 5, 100, 20);
+        RecordingEmitter stalled = blockingEmitter();
+        RecordingEmitter idle = emitter();
+        engine.open(USER_ID, stalled, List::of);
+        engine.open(2L, idle, List::of);
+
+        engine.deliver(USER_ID, event("e1", "1"));
+        assertThat(stalled.entered.await(1, TimeUnit.SECONDS)).isTrue();
+        engine.deliver(USER_ID, event("e2", "2"));
+        Thread.sleep(40);
+
+        engine.heartbeat();
+
+        assertThat(emitterRepository.getAll(USER_ID)).isEmpty();
+        assertThat(engine.stats().stalled()).isEqualTo(1);
+        // 대기 이벤트가 없는 연결은 heartbeat 주석만 받고 유지
+        awaitSent(idle, 1);
+        assertThat(idle.sent.get(0)).contains("heartbeat");
+        assertThat(emitterRepository.getAll(2L)).containsExactly(idle);
+    }
+
+    private RecordingEmitter emitter() {
+        RecordingEmitter emitter = new RecordingEmitter(false);
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    // 첫 전송에서 gate가 열릴 때까지 막히는 연결
+    private RecordingEmitter blockingEmitter() {
+        RecordingEmitter emitter = new RecordingEmitter(true);
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    private static SseEvent event(String name, String id) {
+        return event(name, id, "data-" + id);
+    }
+
+    private static SseEvent event(String name, String id, String data) {
+        return new SseEvent(name, id, Map.of("value", data));
+    }
+
+    private static void awaitSent(RecordingEmitter emitter, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1_000;
+        while (emitter.sent.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(emitter.sent).hasSize(count);
+    }
+
+    // 전송 내용을 문자열로 기록하는 emitter
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern EVENT_NAME = Pattern.compile("event:(\\S+)");
+
+        private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final boolean blocking;
+
+        private RecordingEmitter(boolean blocking) {
+            this.blocking = blocking;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            entered.countDown();
+            if (blocking) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("interrupted", e);
+                }
+            }
+            sent.add(builder.build().stream()
+                    .map(data -> String.valueOf(data.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        private List<String> names() {
+            return new ArrayList<>(sent).stream()
+                    .map(EVENT_NAME::matcher)
+                    .filter(Matcher::find)
+                    .map(matcher -> matcher.group(1))
+                    .toList();
+        }
+    }
+}
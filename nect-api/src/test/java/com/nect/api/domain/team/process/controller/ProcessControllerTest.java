@@ -8,6 +8,7 @@ import com.nect.api.domain.team.process.dto.res.*;
 import com.nect.api.domain.team.process.enums.LaneType;
 import com.nect.api.domain.team.process.service.ProcessService;
 import com.nect.api.global.jwt.JwtUtil;
+import com.nect.api.global.jwt.dto.AuthenticatedToken;
 import com.nect.api.global.jwt.service.TokenBlacklistService;
 import com.nect.api.global.security.UserDetailsImpl;
 import com.nect.api.global.security.UserDetailsServiceImpl;
@@ -40,7 +41,6 @@ import static com.epages.restdocs.apispec.ResourceDocumentation.headerWithName;
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.prettyPrint;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessRequest;
@@ -82,13 +82,11 @@ class ProcessControllerTest {
     @BeforeEach
     void setUpAuth() {
         // 토큰 검증 통과
-        doNothing().when(jwtUtil).validateToken(anyString());
+        given(jwtUtil.authenticate(anyString())).willReturn(new AuthenticatedToken(1L, 0L, 0L, Long.MAX_VALUE));
         // 블랙리스트 아님
-        given(tokenBlacklistService.isBlacklisted(anyString())).willReturn(false);
         // 토큰에서 userId 추출
-        given(jwtUtil.getUserIdFromToken(anyString())).willReturn(1L);
         // 필터가 SecurityContext에 넣을 UserDetails
-        given(userDetailsService.loadUserByUsername(anyString())).willReturn(
+        given(userDetailsService.loadUserByToken(any(AuthenticatedToken.class))).willReturn(
                 UserDetailsImpl.builder()
                         .userId(1L)
                         .roles(List.of("ROLE_MEMBER"))
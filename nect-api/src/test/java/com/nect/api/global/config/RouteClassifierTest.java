@@ -0,0 +1,55 @@
+package com.nect.api.global.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteClassifierTest {
+
+    private final RouteClassifier classifier = new RouteClassifier(List.of(
+            "/swagger-ui/**", "/ws-chat/**", "/health", "/*.html", "/api/v1/users/login", "/api/v1/enums/**", "/"
+    ));
+
+    @Test
+    @DisplayName("인증 생략 경로는 정확히 일치하거나 패턴에 맞는 경로만 해당된다")
+    void skipsAuthentication() {
+        assertThat(classifier.skipsAuthentication("/health")).isTrue();
+        assertThat(classifier.skipsAuthentication("/")).isTrue();
+        assertThat(classifier.skipsAuthentication("/ws-chat")).isTrue();
+        assertThat(classifier.skipsAuthentication("/ws-chat/info")).isTrue();
+        assertThat(classifier.skipsAuthentication("/index.html")).isTrue();
+        assertThat(classifier.skipsAuthentication("/api/v1/users/login")).isTrue();
+        assertThat(classifier.skipsAuthentication("/api/v1/enums/jobs")).isTrue();
+
+        assertThat(classifier.skipsAuthentication("/api/v1/users/me")).isFalse();
+        assertThat(classifier.skipsAuthentication("/api/v1/notifications")).isFalse();
+        assertThat(classifier.skipsAuthentication("/docs/index.html")).isFalse();
+    }
+
+    @Test
+    @DisplayName("'*' 패턴이 있으면 모든 경로의 인증을 생략한다")
+    void skipsAllWhenMatchAll() {
+        RouteClassifier skipAll = new RouteClassifier(List.of("*"));
+
+        assertThat(skipAll.skipsAuthentication("/api/v1/users/me")).isTrue();
+    }
+
+    @Test
+    @DisplayName("로깅 생략은 메서드, 전체 경로, 확장자, 부분 문자열 규칙을 모두 따른다")
+    void skipsLogging() {
+        assertThat(classifier.skipsLogging("OPTIONS", "/api/v1/users/me")).isTrue();
+        assertThat(classifier.skipsLogging("GET", "/")).isTrue();
+        assertThat(classifier.skipsLogging("GET", "/assets/app.min.js")).isTrue();
+        assertThat(classifier.skipsLogging("GET", "/.env")).isTrue();
+        assertThat(classifier.skipsLogging("GET", "/actuator/health")).isTrue();
+        assertThat(classifier.skipsLogging("GET", "/api/binary")).isTrue();
+        assertThat(classifier.skipsLogging("GET", "/xMGLNDDx")).isTrue();
+
+        assertThat(classifier.skipsLogging("GET", "/api/v1/users/me")).isFalse();
+        assertThat(classifier.skipsLogging("POST", "/api/v1/files.js/upload")).isFalse();
+        assertThat(classifier.skipsLogging("GET", "/api/v1/notifications")).isFalse();
+    }
+}
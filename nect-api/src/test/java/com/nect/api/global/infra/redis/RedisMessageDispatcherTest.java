@@ -0,0 +1,160 @@
+package com.nect.api.global.infra.redis;
+
+import com.nect.api.global.infra.redis.codec.RedisMessageCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class RedisMessageDispatcherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch fastHandled = new CountDownLatch(1);
+
+    private final RedisMessageDispatcher dispatcher = new RedisMessageDispatcher(
+            mock(RedisMessageCodec.class), mock(SimpMessageSendingOperations.class),
+            List.of(new TestHandler("chatroom:", release, null), new TestHandler("blacklist:", null, fastHandled)),
+            1, 1, 10);
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, byte[]> redisTemplate = mock(RedisTemplate.class, RETURNS_DEEP_STUBS);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Pub/Sub 수신은 가득 찬 계열의 메시지를 기다리지 않고 버리고, 다른 계열은 바로 처리한다")
+    void offerDropsWithoutBlockingOtherFamilies() throws InterruptedException {
+        // 1번은 처리 중(대기), 2번은 큐, 3번은 가득 차서 버림
+        assertThat(dispatcher.offer("chatroom:1", payload())).isTrue();
+        awaitQueued("chatroom:", 0);
+        assertThat(dispatcher.offer("chatroom:1", payload())).isTrue();
+        assertThat(dispatcher.offer("chatroom:1", payload())).isFalse();
+
+        assertThat(dispatcher.offer("blacklist:revoked", payload())).isTrue();
+
+        assertThat(fastHandled.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(stats("chatroom:").dropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Stream 수신은 가득 찬 계열만 기다리고, 다른 계열의 스트림은 계속 전달한다")
+    void saturatedStreamFamilyDoesNotDelayOthers() throws InterruptedException {
+        RedisStreamSubscriber subscriber = new RedisStreamSubscriber(redisTemplate, dispatcher, "node-1", 24);
+        StreamListener<String, MapRecord<String, String, byte[]>> chatListener =
+                subscriber.listener(RedisStreamKeys.fanout("chatroom:"));
+        StreamListener<String, MapRecord<String, String, byte[]>> blacklistListener =
+                subscriber.listener(RedisStreamKeys.fanout("blacklist:"));
+
+        Thread chatReader = new Thread(() -> {
+            for (int i = 1; i <= 3; i++) {
+                chatListener.onMessage(record("chatroom:1", i));
+            }
+        });
+        chatReader.start();
+        awaitBlocked("chatroom:");
+
+        blacklistListener.onMessage(record("blacklist:revoked", 1));
+
+        assertThat(fastHandled.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(chatReader.isAlive()).isTrue();
+
+        release.countDown();
+        chatReader.join(1_000);
+        assertThat(chatReader.isAlive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Stream 메시지는 핸들러 처리가 끝난 뒤에 ack한다")
+    void acknowledgesAfterHandled() throws InterruptedException {
+        RedisStreamSubscriber subscriber = new RedisStreamSubscriber(redisTemplate, dispatcher, "node-1", 24);
+        String streamKey = RedisStreamKeys.fanout("chatroom:");
+
+        subscriber.listener(streamKey).onMessage(record("chatroom:1", 1));
+        awaitQueued("chatroom:", 0);
+
+        verify(redisTemplate.opsForStream(), never()).acknowledge(anyString(), anyString(), any(RecordId[].class));
+
+        release.countDown();
+        verify(redisTemplate.opsForStream(), timeout(1_000))
+                .acknowledge(streamKey, "node:node-1", RecordId.of("1-0"));
+    }
+
+    private void awaitQueued(String prefix, int queued) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1_000;
+        while (stats(prefix).queued() != queued && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void awaitBlocked(String prefix) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1_000;
+        while (stats(prefix).blocked() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(stats(prefix).blocked()).isPositive();
+    }
+
+    private RedisMessageDispatcher.FamilyStats stats(String prefix) {
+        return dispatcher.stats().stream()
+                .filter(stats -> stats.channelPrefix().equals(prefix))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static byte[] payload() {
+        return "{}".getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static MapRecord<String, String, byte[]> record(String channel, int sequence) {
+        Map<String, byte[]> fields = Map.of(
+                RedisStreamKeys.FIELD_CHANNEL, channel.getBytes(StandardCharsets.UTF_8),
+                RedisStreamKeys.FIELD_PAYLOAD, payload());
+        return StreamRecords.<String, String, byte[]>mapBacked(fields)
+                .withStreamKey("stream:fanout")
+                .withId(RecordId.of(sequence + "-0"));
+    }
+
+    // release가 있으면 풀릴 때까지 처리를 붙잡고, handled가 있으면 처리 완료를 알림
+    private record TestHandler(String channelPrefix, CountDownLatch release, CountDownLatch handled)
+            implements RedisMessageHandler<String> {
+
+        @Override
+        public Class<String> payloadType() {
+            return String.class;
+        }
+
+        @Override
+        public void handle(String channel, String message, SimpMessageSendingOperations messagingTemplate) throws Exception {
+            if (release != null) {
+                release.await();
+            }
+            if (handled != null) {
+                handled.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.nect.api.global.infra.redis.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nect.api.domain.dm.dto.DirectMessageDto;
+import com.nect.api.domain.dm.infra.DirectMessagePayloadSchema;
+import com.nect.api.domain.notifications.dto.NotificationEventDto;
+import com.nect.api.domain.notifications.dto.NotificationResponse;
+import com.nect.api.domain.notifications.infra.NotificationEventPayloadSchema;
+import com.nect.api.domain.team.chat.dto.req.ChatMessageDto;
+import com.nect.api.domain.team.chat.dto.res.ChatFileUploadResponseDto;
+import com.nect.api.domain.team.chat.infra.ChatMessagePayloadSchema;
+import com.nect.api.global.jwt.dto.TokenEpochChangedEvent;
+import com.nect.api.global.jwt.dto.TokenRevokedEvent;
+import com.nect.api.global.jwt.infra.TokenEpochChangedPayloadSchema;
+import com.nect.api.global.jwt.infra.TokenRevokedPayloadSchema;
+import com.nect.core.entity.team.chat.enums.MessageType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisMessageCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final RedisPayloadTypeRegistry registry = new RedisPayloadTypeRegistry(
+            List.of(new ChatMessagePayloadSchema(), new DirectMessagePayloadSchema(), new NotificationEventPayloadSchema(),
+                    new TokenRevokedPayloadSchema(), new TokenEpochChangedPayloadSchema()));
+
+    private final List<RedisPayloadCodec> codecs = List.of(
+            new BinaryRedisPayloadCodec(registry), new JsonRedisPayloadCodec(objectMapper));
+
+    private final RedisMessageCodec binaryCodec = new RedisMessageCodec(codecs, BinaryRedisPayloadCodec.NAME);
+    private final RedisMessageCodec jsonCodec = new RedisMessageCodec(codecs, JsonRedisPayloadCodec.NAME);
+
+    @Test
+    @DisplayName("채팅 메시지는 바이너리로 인코딩되고 모든 필드가 그대로 복원된다")
+    void chatMessageRoundTrip() throws IOException {
+        ChatMessageDto message = chatMessage();
+
+        byte[] payload = binaryCodec.encode(message);
+        ChatMessageDto decoded = binaryCodec.decode(payload, ChatMessageDto.class);
+
+        assertThat(payload[0]).isEqualTo(BinaryRedisPayloadCodec.FORMAT_ID);
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("DM 메시지는 null 필드를 포함해 그대로 복원된다")
+    void directMessageRoundTrip() throws IOException {
+        DirectMessageDto message = new DirectMessageDto(
+                42L, 7L, "보낸사람", null, "안녕하세요", false, LocalDateTime.of(2025, 1, 2, 3, 4, 5, 6_000), null);
+
+        DirectMessageDto decoded = binaryCodec.decode(binaryCodec.encode(message), DirectMessageDto.class);
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("실시간 알림 이벤트는 알림 응답과 함께 그대로 복원된다")
+    void notificationEventRoundTrip() throws IOException {
+        NotificationEventDto event = new NotificationEventDto("workspace", "12_WORKSPACE_TASK1700000000000",
+                new NotificationResponse("작업이 완료되었습니다", null, 501L, 77L, 3L, "25.06.01", "작업", "TASK", "WORKSPACE", false, 3));
+
+        byte[] payload = binaryCodec.encode(event);
+        NotificationEventDto decoded = binaryCodec.decode(payload, NotificationEventDto.class);
+
+        assertThat(payload[0]).isEqualTo(BinaryRedisPayloadCodec.FORMAT_ID);
+        assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("토큰 블랙리스트 이벤트는 토큰 id와 만료 시각이 그대로 복원된다")
+    void tokenRevokedEventRoundTrip() throws IOException {
+        TokenRevokedEvent event = new TokenRevokedEvent("q3Zr0xWcR1mG8b4kT2vN9w", 1_700_000_000_000L);
+
+        TokenRevokedEvent decoded = binaryCodec.decode(binaryCodec.encode(event), TokenRevokedEvent.class);
+
+        assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("토큰 epoch 변경 이벤트는 사용자 id 목록이 순서대로 복원된다")
+    void tokenEpochChangedEventRoundTrip() throws IOException {
+        TokenEpochChangedEvent event = new TokenEpochChangedEvent(List.of(3L, 1L, 20_000L));
+
+        TokenEpochChangedEvent decoded = binaryCodec.decode(binaryCodec.encode(event), TokenEpochChangedEvent.class);
+
+        assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("바이너리 payload는 같은 메시지의 JSON payload보다 작다")
+    void binaryPayloadIsSmallerThanJson() throws IOException {
+        ChatMessageDto message = chatMessage();
+
+        assertThat(binaryCodec.encode(message).length).isLessThan(jsonCodec.encode(message).length);
+    }
+
+    @Test
+    @DisplayName("설정과 다른 형식이나 헤더 없는 이전 JSON payload도 디코딩한다")
+    void decodesOtherFormats() throws IOException {
+        ChatMessageDto message = chatMessage();
+        byte[] legacy = ("{\"@class\":\"com.nect.api.domain.team.chat.dto.req.ChatMessageDto\","
+                + "\"message_id\":10,\"room_id\":3,\"content\":\"이전 형식\",\"message_type\":\"TEXT\"}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        ChatMessageDto fromJson = binaryCodec.decode(jsonCodec.encode(message), ChatMessageDto.class);
+        ChatMessageDto fromLegacy = binaryCodec.decode(legacy, ChatMessageDto.class);
+
+        assertThat(fromJson).usingRecursiveComparison().isEqualTo(message);
+        assertThat(fromLegacy.getMessageId()).isEqualTo(10L);
+        assertThat(fromLegacy.getContent()).isEqualTo("이전 형식");
+    }
+
+    @Test
+    @DisplayName("요청한 타입과 payload 타입이 다르면 예외가 발생한다")
+    void rejectsTypeMismatch() throws IOException {
+        byte[] payload = binaryCodec.encode(chatMessage());
+
+        assertThatThrownBy(() -> binaryCodec.decode(payload, DirectMessageDto.class))
+                .isInstanceOf(IOException.class);
+    }
+
+    private ChatMessageDto chatMessage() {
+        return ChatMessageDto.builder()
+                .messageId(1_234_567L)
+                .userId(12L)
+                .roomId(3L)
+                .userName("사용자")
+                .profileImage("https://cdn.example.com/profile/12.png")
+                .content("파일 공유합니다")
+                .messageType(MessageType.FILE)
+                .isPinned(false)
+                .createdAt(LocalDateTime.of(2025, 6, 1, 12, 30, 15, 123_000_000))
+                .readCount(2)
+                .fileInfo(new ChatFileUploadResponseDto(99L, "report.pdf", "https://cdn.example.com/files/report.pdf", 20_480L, "application/pdf"))
+                .build();
+    }
+}
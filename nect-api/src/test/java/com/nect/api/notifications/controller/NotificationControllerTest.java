@@ -1,10 +1,12 @@
 package com.nect.api.notifications.controller;
 
 import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import com.nect.api.domain.notifications.dto.NotificationBadgeResponse;
 import com.nect.api.domain.notifications.dto.NotificationListResponse;
 import com.nect.api.domain.notifications.dto.NotificationResponse;
 import com.nect.api.domain.notifications.service.NotificationService;
 import com.nect.api.global.jwt.JwtUtil;
+import com.nect.api.global.jwt.dto.AuthenticatedToken;
 import com.nect.api.global.jwt.service.TokenBlacklistService;
 import com.nect.api.global.security.UserDetailsImpl;
 import com.nect.api.global.security.UserDetailsServiceImpl;
@@ -37,6 +39,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -65,10 +68,8 @@ class NotificationControllerTest {
 
     @BeforeEach
     void setUpAuth() {
-        doNothing().when(jwtUtil).validateToken(anyString());
-        given(tokenBlacklistService.isBlacklisted(anyString())).willReturn(false);
-        given(jwtUtil.getUserIdFromToken(anyString())).willReturn(1L);
-        given(userDetailsService.loadUserByUsername(anyString())).willReturn(
+        given(jwtUtil.authenticate(anyString())).willReturn(new AuthenticatedToken(1L, 0L, 0L, Long.MAX_VALUE));
+        given(userDetailsService.loadUserByToken(any(AuthenticatedToken.class))).willReturn(
                 UserDetailsImpl.builder()
                         .userId(1L)
                         .roles(List.of("ROLE_USER"))
@@ -152,6 +153,8 @@ class NotificationControllerTest {
                                                 .description("알림 타입"),
                                         fieldWithPath("body.notifications[].scope")
                                                 .description("알림이 가는 화면 대상"),
+                                        fieldWithPath("body.notifications[].count")
+                                                .description("합쳐진 같은 알림 수 (기본 1)"),
                                         fieldWithPath("body.nextCursor")
                                                 .description("다음 페이지 조회용 커서")
                                 )
@@ -160,6 +163,92 @@ class NotificationControllerTest {
                 ));
     }
 
+    @Test
+    @DisplayName("알림 뱃지 조회 API")
+    void 알림_뱃지_조회_API() throws Exception {
+
+        given(notificationService.getBadge(any())).willReturn(
+                NotificationBadgeResponse.builder()
+                        .mainHome(2)
+                        .workspaceOnly(1)
+                        .workspaceGlobal(3)
+                        .total(6)
+                        .build()
+        );
+
+        mockMvc.perform(get("/api/v1/notifications/badge")
+                        .header(AUTH_HEADER, TEST_ACCESS_TOKEN)
+                        .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andDo(document("notifications-badge",
+                        resource(ResourceSnippetParameters.builder()
+                                .tag("알림")
+                                .summary("알림 뱃지 조회")
+                                .description("범위(scope)별 읽지 않은 알림 수와 전체 수를 조회합니다.")
+                                .requestHeaders(
+                                        headerWithName("Authorization").description("액세스 토큰 (Bearer 스키마)")
+                                )
+                                .responseFields(
+                                        fieldWithPath("status.statusCode")
+                                                .description("응답 상태 코드"),
+                                        fieldWithPath("status.message")
+                                                .description("응답 메시지"),
+                                        fieldWithPath("status.description")
+                                                .optional()
+                                                .description("응답 상세 설명"),
+                                        fieldWithPath("body.mainHome")
+                                                .description("메인화면 알림 중 읽지 않은 수"),
+                                        fieldWithPath("body.workspaceOnly")
+                                                .description("작업실 전용 알림 중 읽지 않은 수"),
+                                        fieldWithPath("body.workspaceGlobal")
+                                                .description("작업실 + 메인화면 알림 중 읽지 않은 수"),
+                                        fieldWithPath("body.total")
+                                                .description("전체 읽지 않은 알림 수")
+                                )
+                                .build()
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("알림 읽음 처리 API")
+    void 알림_읽음_처리_API() throws Exception {
+
+        doNothing().when(notificationService).markAllAsRead(any(), eq(NotificationSearchFilter.WORKSPACES));
+
+        mockMvc.perform(patch("/api/v1/notifications/read")
+                        .header(AUTH_HEADER, TEST_ACCESS_TOKEN)
+                        .param("filter", "WORKSPACES")
+                        .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andDo(document("notifications-read",
+                        resource(ResourceSnippetParameters.builder()
+                                .tag("알림")
+                                .summary("알림 읽음 처리")
+                                .description("filter 범위의 읽지 않은 알림을 모두 읽음 처리합니다.")
+                                .requestHeaders(
+                                        headerWithName("Authorization").description("액세스 토큰 (Bearer 스키마)")
+                                )
+                                .queryParameters(
+                                        parameterWithName("filter")
+                                                .description("알림 필터 (EXPLORATION, WORKSPACE_ONLY, WORKSPACE_GLOBAL, WORKSPACES)")
+                                )
+                                .responseFields(
+                                        fieldWithPath("status.statusCode")
+                                                .description("응답 상태 코드"),
+                                        fieldWithPath("status.message")
+                                                .description("응답 메시지"),
+                                        fieldWithPath("status.description")
+                                                .optional()
+                                                .description("응답 상세 설명")
+                                )
+                                .build()
+                        )
+                ));
+    }
+
     private NotificationListResponse mockResponse() {
         return NotificationListResponse.builder()
                 .notifications(List.of(
@@ -173,7 +262,8 @@ class NotificationControllerTest {
                                 NotificationClassification.MESSAGE.getClassifyKr(),
                                 NotificationType.CHAT_MESSAGE_RECEIVED.name(),
                                 NotificationScope.MAIN_HOME.name(),
-                                true
+                                true,
+                                1
                         ),
                         new NotificationResponse(
                                 "새로운 팀원 김철수님이 합류했습니다.",
@@ -185,7 +275,8 @@ class NotificationControllerTest {
                                 NotificationClassification.WORK_SPACE.getClassifyKr(),
                                 NotificationType.WORKSPACE_MEMBER_JOINED.name(),
                                 NotificationScope.WORKSPACE_ONLY.name(),
-                                false
+                                false,
+                                1
                         )
                 ))
                 .nextCursor(9L)
@@ -405,6 +405,88 @@ class ChatControllerTest {
                 ));
     }
 
+    @Test
+    @DisplayName("작업실 채팅방 재접속 메시지 재전송 API")
+    void replayMessages() throws Exception {
+        Long roomId = 1L;
+        Long lastMessageId = 10L;
+
+        List<ChatMessageDto> messages = Arrays.asList(
+                ChatMessageDto.builder()
+                        .messageId(11L)
+                        .roomId(roomId)
+                        .userId(2L)
+                        .userName("손")
+                        .content("놓친 메시지")
+                        .messageType(MessageType.TEXT)
+                        .isPinned(false)
+                        .createdAt(LocalDateTime.now())
+                        .readCount(1)
+                        .build()
+        );
+
+        ChatRoomMessagesResponseDto response = ChatRoomMessagesResponseDto.builder()
+                .roomId(roomId)
+                .roomName("개발팀")
+                .memberCount(4)
+                .messages(messages)
+                .hasNext(false)
+                .build();
+
+        given(chatService.replayMessages(eq(roomId), eq(1L), eq(lastMessageId)))
+                .willReturn(response);
+
+        mockMvc.perform(
+                        get("/api/v1/chats/rooms/{room_id}/messages/replay", roomId)
+                                .header(AUTH_HEADER, TEST_ACCESS_TOKEN)
+                                .with(mockUser(1L))
+                                .param("lastMessage_id", String.valueOf(lastMessageId))
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body.messages[0].message_id").value(11))
+                .andDo(document("chat-messages-replay",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        resource(ResourceSnippetParameters.builder()
+                                .tag("채팅")
+                                .summary("작업실 채팅방 재접속 메시지 재전송 API")
+                                .description("재접속 시 마지막으로 받은 메시지 이후의 메시지만 조회합니다. has_next가 true이면 누락분이 많아 전체 조회가 필요합니다.")
+                                .requestHeaders(
+                                        headerWithName("Authorization").description("액세스 토큰 (Bearer 스키마)")
+                                )
+                                .pathParameters(
+                                        parameterWithName("room_id").description("채팅방 ID")
+                                )
+                                .queryParameters(
+                                        parameterWithName("lastMessage_id").description("마지막으로 받은 메시지 ID")
+                                )
+                                .responseFields(
+                                        fieldWithPath("status.statusCode").description("상태 코드"),
+                                        fieldWithPath("status.message").description("상태 메시지"),
+                                        fieldWithPath("status.description").description("상세 설명").optional(),
+                                        fieldWithPath("body.room_id").description("채팅방 ID"),
+                                        fieldWithPath("body.room_name").description("채팅방 이름"),
+                                        fieldWithPath("body.member_count").description("멤버 수"),
+                                        fieldWithPath("body.has_next").description("재전송 범위를 넘는 누락 메시지 존재 여부"),
+                                        fieldWithPath("body.messages[]").description("놓친 메시지 목록"),
+                                        fieldWithPath("body.messages[].message_id").description("메시지 ID"),
+                                        fieldWithPath("body.messages[].room_id").description("채팅방 ID"),
+                                        fieldWithPath("body.messages[].user_id").description("발신자 ID"),
+                                        fieldWithPath("body.messages[].user_name").description("발신자 이름"),
+                                        fieldWithPath("body.messages[].profile_image").description("프로필 이미지").optional(),
+                                        fieldWithPath("body.messages[].content").description("메시지 내용"),
+                                        fieldWithPath("body.messages[].message_type").description("메시지 타입"),
+                                        fieldWithPath("body.messages[].is_pinned").description("공지 여부"),
+                                        fieldWithPath("body.messages[].created_at").description("생성 시간"),
+                                        fieldWithPath("body.messages[].read_count").description("읽음 수").optional(),
+                                        fieldWithPath("body.messages[].file_info").description("파일 정보").optional()
+                                )
+                                .build()
+                        )
+                ));
+    }
+
     // ========== 5. 메시지 검색 ==========
 
     @Test
@@ -427,11 +509,12 @@ class ChatControllerTest {
 
         ChatMessageSearchResponseDto response = ChatMessageSearchResponseDto.builder()
                 .keyword(keyword)
-                .totalCount(1)
                 .messages(messages)
+                .nextCursor(null)
+                .hasNext(false)
                 .build();
 
-        given(chatService.searchMessages(eq(roomId), eq(1L), eq(keyword), eq(0), eq(20)))
+        given(chatService.searchMessages(eq(roomId), eq(1L), eq(keyword), eq(200L), eq(20)))
                 .willReturn(response);
 
         mockMvc.perform(
@@ -439,20 +522,22 @@ class ChatControllerTest {
                                 .header(AUTH_HEADER, TEST_ACCESS_TOKEN)
                                 .with(mockUser(1L))
                                 .param("keyword", keyword)
-                                .param("page", "0")
+                                .param("lastMessage_id", "200")
                                 .param("size", "20")
                                 .accept(MediaType.APPLICATION_JSON)
                 )
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.body.keyword").value(keyword))
-                .andExpect(jsonPath("$.body.total_count").value(1))
+                .andExpect(jsonPath("$.body.has_next").value(false))
                 .andDo(document("chat-messages-search",
                         preprocessRequest(prettyPrint()),
                         preprocessResponse(prettyPrint()),
                         resource(ResourceSnippetParameters.builder()
                                 .tag("채팅")
                                 .summary("작업실 채팅방 내부 메시지 검색 API")
-                                .description("채팅방 내에서 텍스트 메시지를 검색합니다.")
+                                .description("채팅방 내에서 텍스트 메시지를 최신순으로 검색합니다. 다음 페이지는 next_cursor를 lastMessage_id로 전달합니다. "
+                                        + "[변경] page 요청 파라미터와 응답의 total_count는 제거되었습니다. "
+                                        + "페이지 번호 대신 lastMessage_id/next_cursor/has_next로 이어서 조회하세요.")
                                 .requestHeaders(
                                         headerWithName("Authorization").description("액세스 토큰 (Bearer 스키마)")
                                 )
@@ -460,8 +545,8 @@ class ChatControllerTest {
                                         parameterWithName("room_id").description("채팅방 ID")
                                 )
                                 .queryParameters(
-                                        parameterWithName("keyword").description("검색 키워드 (2자 이상)"),
-                                        parameterWithName("page").description("페이지 번호").optional(),
+                                        parameterWithName("keyword").description("검색 키워드 (대소문자/공백 무시, 한 글자는 부분 일치 검색)"),
+                                        parameterWithName("lastMessage_id").description("이전 페이지의 next_cursor (첫 페이지는 생략)").optional(),
                                         parameterWithName("size").description("페이지 크기").optional()
                                 )
                                 .responseFields(
@@ -469,7 +554,6 @@ class ChatControllerTest {
                                         fieldWithPath("status.message").description("상태 메시지"),
                                         fieldWithPath("status.description").description("상세 설명").optional(),
                                         fieldWithPath("body.keyword").description("검색 키워드"),
-                                        fieldWithPath("body.total_count").description("총 검색 결과 수"),
                                         fieldWithPath("body.messages[]").description("검색된 메시지 목록"),
                                         fieldWithPath("body.messages[].message_id").description("메시지 ID"),
                                         fieldWithPath("body.messages[].room_id").description("채팅방 ID"),
@@ -481,7 +565,9 @@ class ChatControllerTest {
                                         fieldWithPath("body.messages[].is_pinned").description("공지 여부").optional(),
                                         fieldWithPath("body.messages[].created_at").description("생성 시간"),
                                         fieldWithPath("body.messages[].read_count").description("읽음 수").optional(),
-                                        fieldWithPath("body.messages[].file_info").description("파일 정보").optional()
+                                        fieldWithPath("body.messages[].file_info").description("파일 정보").optional(),
+                                        fieldWithPath("body.next_cursor").description("다음 페이지 커서 (없으면 null)").optional(),
+                                        fieldWithPath("body.has_next").description("다음 페이지 존재 여부")
                                 )
                                 .build()
                         )
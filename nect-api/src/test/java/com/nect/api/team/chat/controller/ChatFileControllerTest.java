@@ -10,6 +10,7 @@ import com.nect.api.domain.team.chat.dto.res.ChatRoomAlbumDetailDto;
 import com.nect.api.domain.team.chat.dto.res.ChatRoomAlbumResponseDto;
 import com.nect.api.domain.team.chat.service.ChatFileService;
 import com.nect.api.global.jwt.JwtUtil;
+import com.nect.api.global.jwt.dto.AuthenticatedToken;
 import com.nect.api.global.jwt.service.TokenBlacklistService;
 import com.nect.api.global.security.UserDetailsImpl;
 import com.nect.api.global.security.UserDetailsServiceImpl;
@@ -87,10 +88,8 @@ class ChatFileControllerTest {
 
     @BeforeEach
     void setUpAuth() {
-        doNothing().when(jwtUtil).validateToken(any());
-        given(tokenBlacklistService.isBlacklisted(any())).willReturn(false);
-        given(jwtUtil.getUserIdFromToken(any())).willReturn(1L);
-        given(userDetailsService.loadUserByUsername(any())).willReturn(
+        given(jwtUtil.authenticate(any())).willReturn(new AuthenticatedToken(1L, 0L, 0L, Long.MAX_VALUE));
+        given(userDetailsService.loadUserByToken(any(AuthenticatedToken.class))).willReturn(
                 UserDetailsImpl.builder()
                         .userId(1L)
                         .roles(List.of("ROLE_USER"))
@@ -0,0 +1,161 @@
+package com.nect.api.team.chat.infra;
+
+import com.nect.api.domain.team.chat.infra.ChatMessageIdAllocator;
+import com.nect.api.domain.team.chat.infra.ChatMessageSearchIndexer;
+import com.nect.api.domain.team.chat.infra.ChatMessageWriteBehind;
+import com.nect.api.domain.team.chat.infra.ChatMessageWriteBehind.PendingChatMessage;
+import com.nect.api.global.infra.redis.RedisPublisher;
+import com.nect.core.entity.team.chat.enums.MessageType;
+import com.nect.core.repository.team.chat.ChatMessageTokenRepository;
+import com.nect.core.repository.team.chat.ChatRoomSummaryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 채팅 메시지 저장 처리량 비교 (즉시 저장 vs 쓰기 지연).
+ * H2(PostgreSQL 모드)에서 메시지 INSERT, 검색 색인, 발신자 읽음 위치 갱신을 같은 건수만큼 실행합니다.
+ * 일반 빌드에서는 건너뛰며, NECT_BENCHMARK=true 환경 변수로 실행합니다.
+ */
+@EnabledIfEnvironmentVariable(named = "NECT_BENCHMARK", matches = "true")
+class ChatMessageWriteBenchmarkTest {
+
+    private static final int MESSAGES = 20_000;
+    private static final int ROOMS = 50;
+    private static final int USERS_PER_ROOM = 10;
+
+    private static final String INSERT_MESSAGE_SQL =
+            "INSERT INTO chat_message (content, message_type, is_pinned, user_id, chat_room_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_LAST_READ_SQL =
+            "UPDATE chat_room_user SET last_read_message_id = ?, last_read_at = ? " +
+            "WHERE chat_room_id = ? AND user_id = ? " +
+            "AND (last_read_message_id IS NULL OR last_read_message_id < ?)";
+
+    private final DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:chat-write-bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    private final ChatMessageSearchIndexer indexer = new ChatMessageSearchIndexer(
+            jdbcTemplate, transactionManager, mock(ChatMessageTokenRepository.class), 1000);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE SEQUENCE chat_message_id_seq");
+        jdbcTemplate.execute("CREATE TABLE chat_message (" +
+                "id BIGINT DEFAULT nextval('chat_message_id_seq') PRIMARY KEY, content VARCHAR(2000), " +
+                "message_type VARCHAR(20), is_pinned BOOLEAN, user_id BIGINT, chat_room_id BIGINT, " +
+                "created_at TIMESTAMP, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE chat_message_token (chat_room_id BIGINT, token VARCHAR(8), message_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE chat_room_user (chat_room_id BIGINT, user_id BIGINT, " +
+                "last_read_message_id BIGINT, last_read_at TIMESTAMP, PRIMARY KEY (chat_room_id, user_id))");
+
+        List<Object[]> members = new ArrayList<>();
+        for (long room = 1; room <= ROOMS; room++) {
+            for (long user = 1; user <= USERS_PER_ROOM; user++) {
+                members.add(new Object[]{room, user});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO chat_room_user (chat_room_id, user_id) VALUES (?, ?)", members);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("쓰기 지연 저장과 메시지별 트랜잭션 저장의 처리량을 비교한다")
+    void compareThroughput() {
+        long direct = measure(this::writeDirect);
+        jdbcTemplate.update("DELETE FROM chat_message");
+        jdbcTemplate.update("DELETE FROM chat_message_token");
+        long writeBehind = measure(this::writeBehind);
+
+        System.out.printf("chat message write (%d messages) - direct: %d ms (%.0f msg/s), write-behind: %d ms (%.0f msg/s)%n",
+                MESSAGES, direct, MESSAGES * 1000.0 / direct, writeBehind, MESSAGES * 1000.0 / writeBehind);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_message", Long.class)).isEqualTo(MESSAGES);
+    }
+
+    // 현재 즉시 저장 경로: 메시지마다 트랜잭션 (IDENTITY INSERT, 색인, 읽음 위치)
+    private void writeDirect() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < MESSAGES; i++) {
+            long roomId = roomId(i);
+            long userId = userId(i);
+            String content = content(i);
+            transactionTemplate.executeWithoutResult(status -> {
+                GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                jdbcTemplate.update(connection -> {
+                    PreparedStatement ps = connection.prepareStatement(INSERT_MESSAGE_SQL, Statement.RETURN_GENERATED_KEYS);
+                    ps.setString(1, content);
+                    ps.setString(2, MessageType.TEXT.name());
+                    ps.setBoolean(3, false);
+                    ps.setLong(4, userId);
+                    ps.setLong(5, roomId);
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                    return ps;
+                }, keyHolder);
+                long id = keyHolder.getKey().longValue();
+                indexer.index(id, roomId, content);
+                jdbcTemplate.update(UPDATE_LAST_READ_SQL, id, now, roomId, userId, id);
+            });
+        }
+    }
+
+    // 쓰기 지연 경로: 시퀀스로 ID 발급 후 큐 적재, 배치 저장 (stop에서 남은 메시지까지 저장)
+    private void writeBehind() {
+        ChatMessageWriteBehind pipeline = new ChatMessageWriteBehind(jdbcTemplate, transactionManager,
+                mock(ChatRoomSummaryRepository.class), new ChatMessageIdAllocator(jdbcTemplate, "chat_message_id_seq"),
+                indexer, mock(RedisPublisher.class), true, 10_000, 200, 50, 100, 30_000);
+        pipeline.start();
+        long previousId = 0;
+        for (int i = 0; i < MESSAGES; i++) {
+            long id = pipeline.nextId();
+            assertThat(id).isGreaterThan(previousId);
+            previousId = id;
+            pipeline.enqueue(new PendingChatMessage(id, roomId(i), userId(i), content(i), MessageType.TEXT,
+                    LocalDateTime.now(), null));
+        }
+        pipeline.stop();
+    }
+
+    private long measure(Runnable work) {
+        long start = System.nanoTime();
+        work.run();
+        return Math.max(1, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static long roomId(int i) {
+        return i % ROOMS + 1;
+    }
+
+    private static long userId(int i) {
+        return i % USERS_PER_ROOM + 1;
+    }
+
+    private static String content(int i) {
+        return "벤치마크 메시지 " + i + " 안녕하세요";
+    }
+}
@@ -0,0 +1,233 @@
+package com.nect.api.team.chat.service;
+
+import com.nect.api.domain.team.chat.dto.res.ChatMessageSearchResponseDto;
+import com.nect.api.domain.team.chat.dto.res.ChatRoomMessagesResponseDto;
+import com.nect.api.domain.team.chat.dto.req.ChatMessageDto;
+import com.nect.api.domain.team.chat.infra.ChatMessageTailCache;
+import com.nect.api.domain.team.chat.infra.ChatReadReceiptStore;
+import com.nect.api.domain.team.chat.service.ChatRoomSummaryService;
+import com.nect.api.domain.team.chat.service.ChatService;
+import com.nect.api.domain.team.chat.util.ReadWatermarks;
+import com.nect.api.global.infra.redis.RedisPublisher;
+import com.nect.core.entity.team.chat.ChatFile;
+import com.nect.core.entity.team.chat.ChatMessage;
+import com.nect.core.entity.team.chat.ChatRoom;
+import com.nect.core.entity.team.chat.enums.MessageType;
+import com.nect.core.entity.user.User;
+import com.nect.core.repository.team.chat.ChatFileRepository;
+import com.nect.core.repository.team.chat.ChatMessageRepository;
+import com.nect.core.repository.team.chat.ChatMessageTokenRepository;
+import com.nect.core.repository.team.chat.ChatRoomRepository;
+import com.nect.core.repository.team.chat.ChatRoomUserRepository;
+import com.nect.core.repository.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatServiceTest {
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private ChatRoomUserRepository chatRoomUserRepository;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private RedisPublisher redisPublisher;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ChatFileRepository chatFileRepository;
+
+    @Mock
+    private ChatRoomSummaryService chatRoomSummaryService;
+
+    @Mock
+    private ChatMessageTokenRepository chatMessageTokenRepository;
+
+    @Mock
+    private ChatReadReceiptStore chatReadReceiptStore;
+
+    @Mock
+    private ChatMessageTailCache chatMessageTailCache;
+
+    @InjectMocks
+    private ChatService chatService;
+
+    @Test
+    @DisplayName("메시지 조회 시 readCount와 첨부파일을 일괄 조회하고 읽음 처리는 Redis에만 반영한다")
+    void getChatMessagesUsesBatchQueries() {
+        Long roomId = 1L;
+        Long userId = 10L;
+
+        ChatRoom chatRoom = new ChatRoom();
+        chatRoom.setId(roomId);
+        chatRoom.setName("팀 채팅방");
+
+        User sender = User.builder().userId(20L).name("홍길동").build();
+
+        List<ChatMessage> page = new ArrayList<>(List.of(
+                message(103L, chatRoom, sender, MessageType.FILE),
+                message(102L, chatRoom, sender, MessageType.TEXT),
+                message(101L, chatRoom, sender, MessageType.FILE)
+        ));
+
+        ChatFile file = ChatFile.builder()
+                .id(1000L)
+                .originalFileName("image.png")
+                .storedFileName("stored.png")
+                .fileUrl("https://cdn/stored.png")
+                .fileSize(10L)
+                .fileType("image/png")
+                .chatRoom(chatRoom)
+                .chatMessage(page.get(0))
+                .build();
+
+        given(chatRoomRepository.findById(roomId)).willReturn(Optional.of(chatRoom));
+        given(chatRoomUserRepository.existsByChatRoomIdAndUserUserId(roomId, userId)).willReturn(true);
+        given(chatMessageRepository.findByChatRoomOrderByIdDesc(eq(chatRoom), any())).willReturn(page);
+        given(chatRoomUserRepository.findReadWatermarkRowsByChatRoomId(roomId)).willReturn(List.of());
+        // 나(103 읽음), 발신자(103), 멤버 A(101), 멤버 B(읽음 기록 없음)
+        given(chatReadReceiptStore.watermarks(eq(roomId), anyList()))
+                .willReturn(ReadWatermarks.of(Arrays.asList(103L, 103L, 101L, null)));
+        given(chatFileRepository.findAllByChatMessageIdIn(anyCollection())).willReturn(List.of(file));
+
+        ChatRoomMessagesResponseDto response = chatService.getChatMessages(roomId, userId, null, 3);
+
+        assertThat(response.getMemberCount()).isEqualTo(4);
+        assertThat(response.getMessages()).extracting("messageId").containsExactly(101L, 102L, 103L);
+        assertThat(response.getMessages()).extracting("readCount").containsExactly(1, 2, 2);
+        assertThat(response.getMessages().get(2).getFileInfo()).isNotNull();
+        assertThat(response.getMessages().get(0).getFileInfo()).isNull();
+
+        verify(chatReadReceiptStore).markRead(roomId, userId, 103L);
+        verify(chatRoomUserRepository, times(1)).findReadWatermarkRowsByChatRoomId(roomId);
+        verify(chatRoomUserRepository, never()).findByChatRoom_IdAndUser_UserId(anyLong(), anyLong());
+        verify(chatFileRepository, times(1)).findAllByChatMessageIdIn(anyCollection());
+        verify(chatRoomUserRepository, never()).countUsersWhoReadMessage(anyLong(), anyLong());
+        verify(chatRoomUserRepository, never()).countByChatRoomId(anyLong());
+        verify(chatFileRepository, never()).findByChatMessageId(anyLong());
+    }
+
+    @Test
+    @DisplayName("최근 구간이 캐시에 있으면 DB에서 메시지를 조회하지 않는다")
+    void getChatMessagesServesLatestPageFromTailCache() {
+        Long roomId = 1L;
+        Long userId = 10L;
+
+        ChatRoom chatRoom = new ChatRoom();
+        chatRoom.setId(roomId);
+        chatRoom.setName("팀 채팅방");
+
+        List<ChatMessageDto> cached = List.of(
+                ChatMessageDto.builder().messageId(201L).roomId(roomId).messageType(MessageType.TEXT).build(),
+                ChatMessageDto.builder().messageId(202L).roomId(roomId).messageType(MessageType.TEXT).build()
+        );
+
+        given(chatRoomRepository.findById(roomId)).willReturn(Optional.of(chatRoom));
+        given(chatRoomUserRepository.existsByChatRoomIdAndUserUserId(roomId, userId)).willReturn(true);
+        given(chatMessageTailCache.findPage(roomId, null, 2)).willReturn(cached);
+        given(chatRoomUserRepository.findReadWatermarkRowsByChatRoomId(roomId)).willReturn(List.of());
+        given(chatReadReceiptStore.watermarks(eq(roomId), anyList()))
+                .willReturn(ReadWatermarks.of(Arrays.asList(202L, 201L)));
+
+        ChatRoomMessagesResponseDto response = chatService.getChatMessages(roomId, userId, null, 2);
+
+        assertThat(response.getMessages()).extracting("messageId").containsExactly(201L, 202L);
+        assertThat(response.getMessages()).extracting("readCount").containsExactly(0, 1);
+        assertThat(response.getHasNext()).isTrue();
+
+        verify(chatReadReceiptStore).markRead(roomId, userId, 202L);
+        verify(chatMessageRepository, never()).findByChatRoomOrderByIdDesc(any(), any());
+        verify(chatFileRepository, never()).findAllByChatMessageIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("검색 시 bigram 후보 중 원문에 검색어가 있는 메시지만 최신순으로 반환한다")
+    void searchMessagesFiltersIndexCandidates() {
+        Long roomId = 1L;
+        Long userId = 10L;
+
+        ChatRoom chatRoom = new ChatRoom();
+        chatRoom.setId(roomId);
+        User sender = User.builder().userId(20L).name("홍길동").build();
+
+        ChatMessage hit = message(30L, chatRoom, sender, MessageType.TEXT);
+        hit.setContent("내일 회의 시간 공유드려요");
+        // "회의", "의시", "시간" bigram은 모두 있지만 연속되지 않음
+        ChatMessage falsePositive = message(20L, chatRoom, sender, MessageType.TEXT);
+        falsePositive.setContent("시간 회의 의시");
+
+        given(chatRoomUserRepository.existsByChatRoomIdAndUserUserId(roomId, userId)).willReturn(true);
+        // 가장 드문 "시간"으로 후보를 읽고 나머지 bigram은 후보에 대해서만 확인
+        given(chatMessageTokenRepository.countPostings(eq(roomId), anyString(), anyInt())).willReturn(100L);
+        given(chatMessageTokenRepository.countPostings(roomId, "시간", 10_000)).willReturn(5L);
+        given(chatMessageTokenRepository.findMessageIdsByToken(eq(roomId), eq("시간"), eq(Long.MAX_VALUE), any()))
+                .willReturn(List.of(30L, 20L));
+        given(chatMessageTokenRepository.findMessageIdsHavingToken(eq(roomId), anyString(), eq(List.of(30L, 20L))))
+                .willReturn(List.of(20L, 30L));
+        given(chatMessageRepository.findAllWithUserByIdIn(List.of(30L, 20L)))
+                .willReturn(List.of(hit, falsePositive));
+
+        ChatMessageSearchResponseDto response = chatService.searchMessages(roomId, userId, "회의 시간", null, 20);
+
+        assertThat(response.getMessages()).extracting("messageId").containsExactly(30L);
+        assertThat(response.getHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+        verify(chatMessageRepository, never()).searchByKeyword(anyLong(), anyString(), anyLong(), any());
+        verify(chatMessageTokenRepository, times(2)).findMessageIdsHavingToken(eq(roomId), anyString(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("한 글자 검색은 정규화한 키워드로 채팅방 범위 LIKE 검색을 한다")
+    void searchMessagesFallsBackToNormalizedLike() {
+        Long roomId = 1L;
+        Long userId = 10L;
+
+        ChatRoom chatRoom = new ChatRoom();
+        chatRoom.setId(roomId);
+        User sender = User.builder().userId(20L).name("홍길동").build();
+        ChatMessage hit = message(30L, chatRoom, sender, MessageType.TEXT);
+        hit.setContent("A안 확정");
+
+        given(chatRoomUserRepository.existsByChatRoomIdAndUserUserId(roomId, userId)).willReturn(true);
+        given(chatMessageRepository.searchByKeyword(eq(roomId), eq("a"), eq(Long.MAX_VALUE), any()))
+                .willReturn(List.of(hit));
+
+        ChatMessageSearchResponseDto response = chatService.searchMessages(roomId, userId, " A ", null, 20);
+
+        assertThat(response.getMessages()).extracting("messageId").containsExactly(30L);
+        verify(chatMessageTokenRepository, never()).findMessageIdsByToken(anyLong(), anyString(), anyLong(), any());
+    }
+
+    private ChatMessage message(Long id, ChatRoom chatRoom, User user, MessageType type) {
+        return ChatMessage.builder()
+                .id(id)
+                .chatRoom(chatRoom)
+                .user(user)
+                .content("내용 " + id)
+                .messageType(type)
+                .build();
+    }
+}
@@ -7,6 +7,7 @@ import lombok.*;
 
 // 개인 채팅 엔티티
 @Entity
+@Table(indexes = @Index(name = "idx_direct_message_sender_receiver", columnList = "sender_id, receiver_id, id"))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,62 @@
+package com.nect.core.entity.dm;
+
+import com.nect.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// DM 대화 목록용 요약 (두 사용자 쌍당 한 행, 메시지 전송/읽음 시 같은 트랜잭션에서 갱신)
+@Entity
+@Table(name = "dm_conversation",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dm_conversation_users",
+                columnNames = {"user_low_id", "user_high_id"}),
+        indexes = {
+                @Index(name = "idx_dm_conversation_low_last_message", columnList = "user_low_id, last_message_id"),
+                @Index(name = "idx_dm_conversation_high_last_message", columnList = "user_high_id, last_message_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DmConversation extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 두 사용자 ID 중 작은 값
+    @Column(name = "user_low_id", nullable = false)
+    private Long userLowId;
+
+    // 두 사용자 ID 중 큰 값
+    @Column(name = "user_high_id", nullable = false)
+    private Long userHighId;
+
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    // userLow가 읽지 않은 메시지 수
+    @Column(name = "low_unread_count", nullable = false)
+    private Integer lowUnreadCount = 0;
+
+    // userHigh가 읽지 않은 메시지 수
+    @Column(name = "high_unread_count", nullable = false)
+    private Integer highUnreadCount = 0;
+
+    public DmConversation(Long userA, Long userB) {
+        this.userLowId = Math.min(userA, userB);
+        this.userHighId = Math.max(userA, userB);
+    }
+
+    public Long otherUserId(Long userId) {
+        return userLowId.equals(userId) ? userHighId : userLowId;
+    }
+
+    public int unreadCountOf(Long userId) {
+        return userLowId.equals(userId) ? lowUnreadCount : highUnreadCount;
+    }
+}
@@ -14,6 +14,10 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Table(indexes = {
+        // 수신함 조회: 수신자 + 범위별 id 역순 커서 페이징
+        @Index(name = "idx_notification_inbox", columnList = "user_id, scope, id DESC")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification extends BaseEntity {
@@ -48,6 +52,10 @@ public class Notification extends BaseEntity {
     @Column(length = MAX_CONTENT_LENGTH, nullable = true)
     private String contentMessage; // null일 수 있음
 
+    @Column(nullable = false)
+    @ColumnDefault("1")
+    private Integer coalescedCount; // 짧은 시간 안에 합쳐진 같은 알림 수
+
     // ====== 연관관계 ======
      @ManyToOne(fetch = FetchType.LAZY)
      @JoinColumn(name = "user_id", nullable = false)
@@ -81,6 +89,7 @@ public class Notification extends BaseEntity {
         this.mainMessage = mainMessage;
         this.contentMessage = contentMessage;
         this.isRead = isRead != null ? isRead : false;
+        this.coalescedCount = 1;
         this.targetId = targetId;
         this.receiver = receiver;
         this.project = project;
@@ -0,0 +1,34 @@
+package com.nect.core.entity.team.chat;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 채팅 메시지 검색용 n-gram 역색인 (메시지당 중복 없는 bigram 한 행씩)
+@Entity
+@Table(name = "chat_message_token",
+        indexes = {
+                @Index(name = "idx_chat_message_token_room_token_message",
+                        columnList = "chat_room_id, token, message_id"),
+                @Index(name = "idx_chat_message_token_message", columnList = "message_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatMessageToken {
+
+    public static final int MAX_TOKEN_LENGTH = 8;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    @Column(name = "token", nullable = false, length = MAX_TOKEN_LENGTH)
+    private String token;
+
+    @Column(name = "message_id", nullable = false)
+    private Long messageId;
+}
@@ -0,0 +1,85 @@
+package com.nect.core.entity.team.chat;
+
+import com.nect.core.entity.BaseEntity;
+import com.nect.core.entity.team.chat.enums.MessageType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// 채팅방 목록 조회용 요약 테이블 (메시지 전송/초대/나가기 시 같은 트랜잭션에서 갱신)
+@Entity
+@Table(name = "chat_room_summary")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatRoomSummary extends BaseEntity {
+
+    public static final int MAX_PREVIEW_LENGTH = 500;
+    public static final int MAX_PROFILE_IMAGES = 4;
+
+    private static final String KEY_DELIMITER = "\n";
+
+    @Id
+    @Column(name = "chat_room_id")
+    private Long chatRoomId;
+
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_message_preview", length = MAX_PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "last_message_type", length = 20)
+    private MessageType lastMessageType;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    @Column(name = "member_count", nullable = false)
+    private Integer memberCount = 0;
+
+    // 앞쪽 멤버 최대 4명의 프로필 이미지 key (개행 구분)
+    @Column(name = "profile_image_keys", length = 2000)
+    private String profileImageKeys;
+
+    public ChatRoomSummary(Long chatRoomId) {
+        this.chatRoomId = chatRoomId;
+    }
+
+    public void updateLastMessage(Long messageId, String content, MessageType messageType, LocalDateTime createdAt) {
+        if (this.lastMessageId != null && messageId != null && messageId < this.lastMessageId) {
+            return;
+        }
+        this.lastMessageId = messageId;
+        this.lastMessagePreview = toPreview(content);
+        this.lastMessageType = messageType;
+        this.lastMessageAt = createdAt;
+    }
+
+    public void updateMembers(int memberCount, List<String> profileImageKeys) {
+        this.memberCount = memberCount;
+        this.profileImageKeys = profileImageKeys.isEmpty()
+                ? null
+                : String.join(KEY_DELIMITER, profileImageKeys.subList(0, Math.min(MAX_PROFILE_IMAGES, profileImageKeys.size())));
+    }
+
+    public static String toPreview(String content) {
+        if (content == null || content.length() <= MAX_PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, MAX_PREVIEW_LENGTH);
+    }
+
+    public static List<String> splitProfileImageKeys(String profileImageKeys) {
+        if (profileImageKeys == null || profileImageKeys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(profileImageKeys.split(KEY_DELIMITER));
+    }
+}
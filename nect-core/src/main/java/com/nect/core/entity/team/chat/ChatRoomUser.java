@@ -12,7 +12,12 @@ import java.time.LocalDateTime;
 
 //매핑 테이블
 @Entity
-@Table(name = "chat_room_user")
+@Table(name = "chat_room_user",
+        indexes = {
+                @Index(name = "idx_chat_room_user_user_id_room_id", columnList = "user_id, chat_room_id"),
+                @Index(name = "idx_chat_room_user_room_id", columnList = "chat_room_id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
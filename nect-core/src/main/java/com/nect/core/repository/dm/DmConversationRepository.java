@@ -0,0 +1,136 @@
+package com.nect.core.repository.dm;
+
+import com.nect.core.entity.dm.DmConversation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DmConversationRepository extends JpaRepository<DmConversation, Long> {
+
+    interface UnreadRow {
+        Long getSenderId();
+        Integer getUnreadCount();
+    }
+
+    boolean existsByUserLowIdAndUserHighId(Long userLowId, Long userHighId);
+
+    // 마지막 메시지는 더 최신일 때만 갱신, 읽지 않은 수는 누적
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE DmConversation c
+           SET c.lastMessageId = CASE WHEN c.lastMessageId IS NULL OR c.lastMessageId < :messageId
+                                      THEN :messageId ELSE c.lastMessageId END,
+               c.lastMessageAt = CASE WHEN c.lastMessageId IS NULL OR c.lastMessageId < :messageId
+                                      THEN :messageAt ELSE c.lastMessageAt END,
+               c.lowUnreadCount = c.lowUnreadCount + :lowUnread,
+               c.highUnreadCount = c.highUnreadCount + :highUnread
+         WHERE c.userLowId = :userLowId
+           AND c.userHighId = :userHighId
+    """)
+    int applyMessage(@Param("userLowId") Long userLowId,
+                     @Param("userHighId") Long userHighId,
+                     @Param("messageId") Long messageId,
+                     @Param("messageAt") LocalDateTime messageAt,
+                     @Param("lowUnread") int lowUnread,
+                     @Param("highUnread") int highUnread);
+
+    // readerId 쪽 읽지 않은 수 변경 (읽음 처리 시 0)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE DmConversation c
+           SET c.lowUnreadCount = CASE WHEN c.userLowId = :readerId THEN :count ELSE c.lowUnreadCount END,
+               c.highUnreadCount = CASE WHEN c.userHighId = :readerId THEN :count ELSE c.highUnreadCount END
+         WHERE c.userLowId = :userLowId
+           AND c.userHighId = :userHighId
+    """)
+    int updateUnread(@Param("userLowId") Long userLowId,
+                     @Param("userHighId") Long userHighId,
+                     @Param("readerId") Long readerId,
+                     @Param("count") int count);
+
+    // userId가 읽지 않은 메시지가 있는 대화 (상대 ID, 읽지 않은 수)
+    @Query("""
+        SELECT CASE WHEN c.userLowId = :userId THEN c.userHighId ELSE c.userLowId END AS senderId,
+               CASE WHEN c.userLowId = :userId THEN c.lowUnreadCount ELSE c.highUnreadCount END AS unreadCount
+        FROM DmConversation c
+        WHERE (c.userLowId = :userId AND c.lowUnreadCount > 0)
+           OR (c.userHighId = :userId AND c.highUnreadCount > 0)
+    """)
+    List<UnreadRow> findUnreadRowsByUserId(@Param("userId") Long userId);
+
+    // (user_low_id, last_message_id) 인덱스 역순 조회
+    @Query("""
+        SELECT c FROM DmConversation c
+        WHERE c.userLowId = :userId
+          AND c.lastMessageId IS NOT NULL
+          AND (:cursor IS NULL OR c.lastMessageId < :cursor)
+        ORDER BY c.lastMessageId DESC
+    """)
+    List<DmConversation> findPageAsLowUser(@Param("userId") Long userId,
+                                           @Param("cursor") Long cursor,
+                                           Pageable pageable);
+
+    // (user_high_id, last_message_id) 인덱스 역순 조회
+    @Query("""
+        SELECT c FROM DmConversation c
+        WHERE c.userHighId = :userId
+          AND c.lastMessageId IS NOT NULL
+          AND (:cursor IS NULL OR c.lastMessageId < :cursor)
+        ORDER BY c.lastMessageId DESC
+    """)
+    List<DmConversation> findPageAsHighUser(@Param("userId") Long userId,
+                                            @Param("cursor") Long cursor,
+                                            Pageable pageable);
+
+    // direct_message id 구간(fromId 초과 toId 이하)에 나오는 사용자 쌍 중 요약이 없는 쌍을,
+    // 그 쌍의 전체 메시지로 집계해 추가 ((sender_id, receiver_id, id) 인덱스로 쌍별 메시지 조회)
+    @Modifying
+    @Query(value = """
+        INSERT INTO dm_conversation (user_low_id, user_high_id, last_message_id, last_message_at,
+                                     low_unread_count, high_unread_count, created_at, updated_at)
+        SELECT m.low_id,
+               m.high_id,
+               MAX(m.id),
+               MAX(m.created_at),
+               SUM(CASE WHEN m.receiver_id = m.low_id AND COALESCE(m.is_read, FALSE) = FALSE THEN 1 ELSE 0 END),
+               SUM(CASE WHEN m.receiver_id = m.high_id AND COALESCE(m.is_read, FALSE) = FALSE THEN 1 ELSE 0 END),
+               CURRENT_TIMESTAMP,
+               CURRENT_TIMESTAMP
+        FROM (
+            SELECT p.low_id, p.high_id, dm.id, dm.created_at, dm.receiver_id, dm.is_read
+            FROM (
+                SELECT DISTINCT LEAST(d.sender_id, d.receiver_id) AS low_id,
+                                GREATEST(d.sender_id, d.receiver_id) AS high_id
+                FROM direct_message d
+                WHERE d.id > :fromId AND d.id <= :toId
+                  AND d.sender_id IS NOT NULL
+                  AND d.receiver_id IS NOT NULL
+            ) p
+            JOIN direct_message dm ON dm.sender_id = p.low_id AND dm.receiver_id = p.high_id
+            UNION ALL
+            SELECT p.low_id, p.high_id, dm.id, dm.created_at, dm.receiver_id, dm.is_read
+            FROM (
+                SELECT DISTINCT LEAST(d.sender_id, d.receiver_id) AS low_id,
+                                GREATEST(d.sender_id, d.receiver_id) AS high_id
+                FROM direct_message d
+                WHERE d.id > :fromId AND d.id <= :toId
+                  AND d.sender_id IS NOT NULL
+                  AND d.receiver_id IS NOT NULL
+            ) p
+            JOIN direct_message dm ON dm.sender_id = p.high_id AND dm.receiver_id = p.low_id
+            WHERE p.low_id <> p.high_id
+        ) m
+        WHERE NOT EXISTS (
+            SELECT 1 FROM dm_conversation c
+            WHERE c.user_low_id = m.low_id
+              AND c.user_high_id = m.high_id
+        )
+        GROUP BY m.low_id, m.high_id
+    """, nativeQuery = true)
+    int backfillMissing(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
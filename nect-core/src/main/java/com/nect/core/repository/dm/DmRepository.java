@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface DmRepository extends JpaRepository<DirectMessage, Long> {
@@ -32,22 +33,11 @@ public interface DmRepository extends JpaRepository<DirectMessage, Long> {
 
     @Query("""
         SELECT dm FROM DirectMessage dm
-        WHERE dm.id IN (
-            SELECT MAX(dm2.id) FROM DirectMessage dm2
-            WHERE (dm2.sender.userId = :userId OR dm2.receiver.userId = :userId)
-            GROUP BY CASE
-                WHEN dm2.sender.userId = :userId THEN dm2.receiver.userId
-                ELSE dm2.sender.userId
-            END
-        )
-          AND (:cursor IS NULL OR dm.id < :cursor)
-        ORDER BY dm.id DESC
+        JOIN FETCH dm.sender
+        JOIN FETCH dm.receiver
+        WHERE dm.id IN :ids
     """)
-    List<DirectMessage> findLatestMessagesByUser(
-            @Param("userId") Long userId,
-            @Param("cursor") Long cursor,
-            Pageable pageable
-    );
+    List<DirectMessage> findAllWithUsersByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("""
         SELECT dm.sender.userId as senderId, COUNT(dm) as unreadCount
@@ -72,4 +62,7 @@ public interface DmRepository extends JpaRepository<DirectMessage, Long> {
             @Param("senderId") Long senderId,
             @Param("lastReadId") Long lastReadId
     );
+
+    @Query("SELECT COALESCE(MAX(dm.id), 0) FROM DirectMessage dm")
+    Long findMaxId();
 }
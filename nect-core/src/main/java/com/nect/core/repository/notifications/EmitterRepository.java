@@ -22,6 +22,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * 실제 알림 전송 로직은 NotificationDispatchService에서 처리됩니다.
  *
  * ⚠️ 서버 재시작 시 모든 연결 정보는 소멸됩니다.
+ * ⚠️ 이 노드에 연결된 emitter만 보관합니다. 다른 노드로의 전달은 Redis 채널(notification:{userId})을 통해 이루어집니다.
  */
 
 @Repository
@@ -2,10 +2,10 @@ package com.nect.core.repository.notifications;
 
 import com.nect.core.entity.notifications.Notification;
 import com.nect.core.entity.notifications.enums.NotificationScope;
-import com.nect.core.entity.team.Project;
 import com.nect.core.entity.user.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,30 +13,31 @@ import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
+    // 수신함 한 페이지 (idx_notification_inbox 범위 스캔, 첫 페이지는 cursor = Long.MAX_VALUE)
     @Query("""
         SELECT n FROM Notification n
-        WHERE n.scope = :scope
-            AND n.receiver = :user
-          AND (:cursor IS NULL OR n.id < :cursor)
+        WHERE n.receiver.userId = :userId
+          AND n.scope = :scope
+          AND n.id < :cursor
         ORDER BY n.id DESC
     """)
-    List<Notification> findByScopeWithCursor(
-            @Param("user") User user,
+    List<Notification> findInboxPage(
+            @Param("userId") Long userId,
             @Param("scope") NotificationScope scope,
-            @Param("cursor") Long cursor,
+            @Param("cursor") long cursor,
             Pageable pageable
     );
 
     @Query("""
         SELECT n FROM Notification n
-        WHERE n.scope IN :scopes
+        WHERE n.scope = :scope
             AND n.receiver = :user
           AND (:cursor IS NULL OR n.id < :cursor)
         ORDER BY n.id DESC
     """)
-    List<Notification> findByScopesWithCursor(
+    List<Notification> findByScopeWithCursor(
             @Param("user") User user,
-            @Param("scopes") List<NotificationScope> scopes,
+            @Param("scope") NotificationScope scope,
             @Param("cursor") Long cursor,
             Pageable pageable
     );
@@ -45,16 +46,58 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
         SELECT n FROM Notification n
         WHERE n.scope IN :scopes
             AND n.receiver = :user
-            AND n.project IN :projects
           AND (:cursor IS NULL OR n.id < :cursor)
         ORDER BY n.id DESC
     """)
-    List<Notification> findByScopesAndProjectsWithCursor(
+    List<Notification> findByScopesWithCursor(
             @Param("user") User user,
             @Param("scopes") List<NotificationScope> scopes,
-            @Param("projects") List<Project> projects,
             @Param("cursor") Long cursor,
             Pageable pageable
     );
 
+    // 범위별 읽지 않은 알림 수 (작업실 알림은 현재 참여 중인 프로젝트만)
+    @Query("""
+        SELECT n.scope AS scope, COUNT(n) AS unreadCount
+        FROM Notification n
+        WHERE n.receiver.userId = :userId
+          AND n.isRead = false
+          AND (n.scope = com.nect.core.entity.notifications.enums.NotificationScope.MAIN_HOME
+               OR n.project.id IN (
+                   SELECT pu.project.id FROM ProjectUser pu
+                   WHERE pu.userId = :userId AND pu.memberStatus = 'ACTIVE'
+               ))
+        GROUP BY n.scope
+    """)
+    List<UnreadRow> countUnreadByScope(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("""
+        UPDATE Notification n
+        SET n.isRead = true
+        WHERE n.receiver.userId = :userId
+          AND n.scope IN :scopes
+          AND n.isRead = false
+    """)
+    int markAllAsRead(@Param("userId") Long userId, @Param("scopes") List<NotificationScope> scopes);
+
+    // 열린 합치기 묶음의 알림에 같은 알림 한 건 더 반영 (읽은 알림은 갱신하지 않음)
+    @Modifying
+    @Query("""
+        UPDATE Notification n
+        SET n.coalescedCount = n.coalescedCount + 1,
+            n.mainMessage = :mainMessage,
+            n.contentMessage = :contentMessage
+        WHERE n.id = :id
+          AND n.isRead = false
+    """)
+    int mergeCoalesced(@Param("id") Long id,
+                       @Param("mainMessage") String mainMessage,
+                       @Param("contentMessage") String contentMessage);
+
+    interface UnreadRow {
+        NotificationScope getScope();
+        Long getUnreadCount();
+    }
+
 }
@@ -60,6 +60,14 @@ public interface ProjectUserRepository extends JpaRepository<ProjectUser, Long>
     """)
     List<Project> findActiveProjectsByUserId(@Param("userId") Long userId);
 
+    @Query("""
+        SELECT pu.project.id
+        FROM ProjectUser pu
+        WHERE pu.userId = :userId
+          AND pu.memberStatus = 'ACTIVE'
+    """)
+    List<Long> findActiveProjectIdsByUserId(@Param("userId") Long userId);
+
     @Query("""
         SELECT u FROM User u 
         JOIN ProjectUser pu ON u.userId = pu.userId 
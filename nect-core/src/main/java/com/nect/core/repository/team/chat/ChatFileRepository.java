@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,8 @@ public interface ChatFileRepository extends JpaRepository<ChatFile, Long> {
 
     Optional<ChatFile> findByChatMessageId(Long messageId);
 
+    List<ChatFile> findAllByChatMessageIdIn(Collection<Long> messageIds);
+
     List<ChatFile> findAllByChatRoomIdAndCreatedAtAfterOrderByCreatedAtDesc(Long chatRoomId, LocalDateTime threshold);
 
     List<ChatFile> findAllByCreatedAtBefore(LocalDateTime threshold);
@@ -3,7 +3,6 @@ package com.nect.core.repository.team.chat;
 import com.nect.core.entity.team.chat.ChatMessage;
 import com.nect.core.entity.team.chat.ChatRoom;
 import com.nect.core.entity.team.chat.ChatRoomUser;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +34,18 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage,Long> {
             @Param("id") Long id,
             Pageable pageable);
 
+    @Query("SELECT cm FROM ChatMessage cm " +
+            "JOIN FETCH cm.user " +
+            "WHERE cm.chatRoom = :chatRoom " +
+            "AND cm.id > :id " +
+            "ORDER BY cm.id ASC")
+    List<ChatMessage> findByChatRoomAndIdGreaterThanOrderByIdAsc(
+            @Param("chatRoom") ChatRoom chatRoom,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    boolean existsByChatRoomIdAndIdGreaterThanAndIdLessThan(Long chatRoomId, Long afterId, Long beforeId);
+
     @Query("SELECT cm FROM ChatMessage cm " +
             "WHERE cm.chatRoom.id = :roomId " +
             "AND cm.id < :lastMessageId " +
@@ -54,6 +66,17 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage,Long> {
 
     int countByChatRoomId(Long chatRoomId);
 
+    // 채팅방의 id 구간 메시지 수 (캐시 구간에 빠진 메시지가 없는지 확인)
+    @Query("SELECT COUNT(cm) FROM ChatMessage cm " +
+            "WHERE cm.chatRoom.id = :roomId " +
+            "AND cm.id >= :fromId " +
+            "AND cm.id <= :toId")
+    long countInIdRange(
+            @Param("roomId") Long roomId,
+            @Param("fromId") Long fromId,
+            @Param("toId") Long toId
+    );
+
     @Query("SELECT cm FROM ChatMessage cm " +
             "WHERE cm.chatRoom.id = :chatRoomId " +
             "ORDER BY cm.createdAt DESC " +
@@ -62,16 +85,26 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage,Long> {
 
     Optional<ChatMessage> findTopByChatRoomOrderByIdDesc(ChatRoom chatRoom);
 
+    // n-gram 색인으로 찾을 수 없는 한 글자 검색용 (cursor 미만, 최신순, keyword는 소문자로 정규화된 값)
     @Query("SELECT cm FROM ChatMessage cm " +
+            "JOIN FETCH cm.user " +
             "WHERE cm.chatRoom.id = :roomId " +
             "AND cm.messageType = 'TEXT' " +
-            "AND cm.content LIKE %:keyword% " +
-            "ORDER BY cm.createdAt DESC")
-    Page<ChatMessage> searchByKeyword(
+            "AND cm.id < :cursor " +
+            "AND LOWER(cm.content) LIKE %:keyword% " +
+            "ORDER BY cm.id DESC")
+    List<ChatMessage> searchByKeyword(
             @Param("roomId") Long roomId,
             @Param("keyword") String keyword,
+            @Param("cursor") Long cursor,
             Pageable pageable
     );
 
+    @Query("SELECT cm FROM ChatMessage cm " +
+            "JOIN FETCH cm.user " +
+            "WHERE cm.id IN :ids " +
+            "ORDER BY cm.id DESC")
+    List<ChatMessage> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
 }
 
@@ -0,0 +1,64 @@
+package com.nect.core.repository.team.chat;
+
+import com.nect.core.entity.team.chat.ChatMessageToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ChatMessageTokenRepository extends JpaRepository<ChatMessageToken, Long> {
+
+    // 채팅방 안에서 토큰이 나온 메시지 수 (limit까지만 세므로 흔한 토큰도 비용이 일정)
+    @Query(value = """
+            SELECT COUNT(*) FROM (
+                SELECT 1 FROM chat_message_token
+                WHERE chat_room_id = :roomId AND token = :token
+                LIMIT :limit
+            ) postings
+            """, nativeQuery = true)
+    long countPostings(
+            @Param("roomId") Long roomId,
+            @Param("token") String token,
+            @Param("limit") int limit
+    );
+
+    // 토큰을 포함하는 메시지 ID (최신순, cursor 미만) - (chat_room_id, token, message_id) 인덱스 역순 범위 조회
+    @Query("""
+            SELECT t.messageId FROM ChatMessageToken t
+            WHERE t.chatRoomId = :roomId
+              AND t.token = :token
+              AND t.messageId < :cursor
+            ORDER BY t.messageId DESC
+            """)
+    List<Long> findMessageIdsByToken(
+            @Param("roomId") Long roomId,
+            @Param("token") String token,
+            @Param("cursor") Long cursor,
+            Pageable pageable
+    );
+
+    // 후보 메시지 중 토큰을 포함하는 메시지 ID - (token, message_id) 단건 조회
+    @Query("""
+            SELECT t.messageId FROM ChatMessageToken t
+            WHERE t.chatRoomId = :roomId
+              AND t.token = :token
+              AND t.messageId IN :messageIds
+            """)
+    List<Long> findMessageIdsHavingToken(
+            @Param("roomId") Long roomId,
+            @Param("token") String token,
+            @Param("messageIds") Collection<Long> messageIds
+    );
+
+    @Modifying
+    @Query("DELETE FROM ChatMessageToken t WHERE t.messageId IN :messageIds")
+    int deleteByMessageIdIn(@Param("messageIds") Collection<Long> messageIds);
+
+    @Modifying
+    @Query("DELETE FROM ChatMessageToken t WHERE t.chatRoomId = :roomId")
+    int deleteByChatRoomId(@Param("roomId") Long roomId);
+}
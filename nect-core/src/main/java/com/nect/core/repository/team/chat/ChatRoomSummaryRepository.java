@@ -0,0 +1,95 @@
+package com.nect.core.repository.team.chat;
+
+import com.nect.core.entity.team.chat.ChatRoomSummary;
+import com.nect.core.entity.team.chat.enums.MessageType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ChatRoomSummaryRepository extends JpaRepository<ChatRoomSummary, Long> {
+
+    // 더 최신 메시지일 때만 갱신 (동시 전송 시 역전 방지)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE ChatRoomSummary s
+           SET s.lastMessageId = :messageId,
+               s.lastMessagePreview = :preview,
+               s.lastMessageType = :messageType,
+               s.lastMessageAt = :createdAt
+         WHERE s.chatRoomId = :roomId
+           AND (s.lastMessageId IS NULL OR s.lastMessageId < :messageId)
+    """)
+    int updateLastMessage(@Param("roomId") Long roomId,
+                          @Param("messageId") Long messageId,
+                          @Param("preview") String preview,
+                          @Param("messageType") MessageType messageType,
+                          @Param("createdAt") LocalDateTime createdAt);
+
+    @Query("""
+        SELECT cr.id AS roomId,
+               cr.name AS roomName,
+               cr.createdAt AS roomCreatedAt,
+               cru.lastReadMessageId AS lastReadMessageId,
+               s.lastMessageId AS lastMessageId,
+               s.lastMessagePreview AS lastMessagePreview,
+               s.lastMessageType AS lastMessageType,
+               s.lastMessageAt AS lastMessageAt,
+               s.memberCount AS memberCount,
+               s.profileImageKeys AS profileImageKeys
+        FROM ChatRoomUser cru
+        JOIN cru.chatRoom cr
+        LEFT JOIN ChatRoomSummary s ON s.chatRoomId = cr.id
+        WHERE cru.user.userId = :userId
+    """)
+    List<ChatRoomListRow> findChatRoomListRowsByUserId(@Param("userId") Long userId);
+
+    @Query("""
+        SELECT cr.id AS roomId,
+               cr.name AS roomName,
+               cr.createdAt AS roomCreatedAt,
+               cru.lastReadMessageId AS lastReadMessageId,
+               s.lastMessageId AS lastMessageId,
+               s.lastMessagePreview AS lastMessagePreview,
+               s.lastMessageType AS lastMessageType,
+               s.lastMessageAt AS lastMessageAt,
+               s.memberCount AS memberCount,
+               s.profileImageKeys AS profileImageKeys
+        FROM ChatRoomUser cru
+        JOIN cru.chatRoom cr
+        LEFT JOIN ChatRoomSummary s ON s.chatRoomId = cr.id
+        WHERE cr.project.id = :projectId
+          AND cr.type = com.nect.core.entity.team.chat.enums.ChatRoomType.GROUP
+          AND cru.user.userId = :userId
+        ORDER BY cr.updatedAt DESC
+    """)
+    List<ChatRoomListRow> findGroupChatRoomListRowsByProjectAndUser(@Param("projectId") Long projectId,
+                                                                     @Param("userId") Long userId);
+
+    @Query("""
+        SELECT cr.id FROM ChatRoom cr
+        WHERE cr.id > :afterId
+          AND NOT EXISTS (SELECT 1 FROM ChatRoomSummary s WHERE s.chatRoomId = cr.id)
+        ORDER BY cr.id
+    """)
+    List<Long> findChatRoomIdsWithoutSummary(@Param("afterId") Long afterId, Pageable pageable);
+
+    interface ChatRoomListRow {
+        Long getRoomId();
+        String getRoomName();
+        LocalDateTime getRoomCreatedAt();
+        Long getLastReadMessageId();
+        Long getLastMessageId();
+        String getLastMessagePreview();
+        MessageType getLastMessageType();
+        LocalDateTime getLastMessageAt();
+        Integer getMemberCount();
+        String getProfileImageKeys();
+    }
+}
@@ -24,6 +24,10 @@ public interface ChatRoomUserRepository extends JpaRepository<ChatRoomUser,Long>
 
     List<ChatRoomUser> findAllByUserUserId(Long userId);
 
+    @Query("SELECT cru.chatRoom.id FROM ChatRoomUser cru " +
+            "WHERE cru.user.userId = :userId")
+    List<Long> findChatRoomIdsByUserId(@Param("userId") Long userId);
+
     @Query("SELECT cru FROM ChatRoomUser cru " +
             "JOIN FETCH cru.user " +
             "WHERE cru.chatRoom.id = :chatRoomId")
@@ -53,6 +57,12 @@ public interface ChatRoomUserRepository extends JpaRepository<ChatRoomUser,Long>
     int countUsersWhoReadMessage(@Param("roomId") Long roomId,
                                  @Param("messageId") Long messageId);
 
+    // 채팅방 전체 멤버의 읽음 위치 (readCount 일괄 계산용)
+    @Query("SELECT cru.user.userId AS userId, cru.lastReadMessageId AS lastReadMessageId " +
+            "FROM ChatRoomUser cru " +
+            "WHERE cru.chatRoom.id = :roomId")
+    List<ReadWatermarkRow> findReadWatermarkRowsByChatRoomId(@Param("roomId") Long roomId);
+
 
     @Query("SELECT cru FROM ChatRoomUser cru " +
             "WHERE cru.chatRoom.id = :roomId")
@@ -68,5 +78,9 @@ public interface ChatRoomUserRepository extends JpaRepository<ChatRoomUser,Long>
                             @Param("userId") Long userId);
 
     List<ChatRoomUser> findTop4ByChatRoomId(Long chatRoomId);
-}
 
+    interface ReadWatermarkRow {
+        Long getUserId();
+        Long getLastReadMessageId();
+    }
+}